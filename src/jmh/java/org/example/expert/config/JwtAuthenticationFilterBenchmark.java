@@ -0,0 +1,74 @@
+package org.example.expert.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증이 필요한 모든 요청이 거치는 JWT 필터 비용 (토큰 파싱 + SecurityContext 설정)
+ * OncePerRequestFilter.doFilter는 요청 속성으로 중복 실행을 막으므로 같은 패키지에서 doFilterInternal을 직접 호출
+ * 실행 시: ./gradlew jmh -Pjmh.includes=JwtAuthenticationFilterBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest authenticatedRequest;
+    private MockHttpServletRequest anonymousRequest;
+    private MockHttpServletResponse response;
+    private FilterChain filterChain;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = JwtUtilBenchmark.createJwtUtil();
+        filter = new JwtAuthenticationFilter(jwtUtil);
+
+        authenticatedRequest = new MockHttpServletRequest("GET", "/todos");
+        authenticatedRequest.addHeader("Authorization",
+                jwtUtil.createToken(1L, "user1@example.com", "user1", UserRole.USER));
+        anonymousRequest = new MockHttpServletRequest("GET", "/todos");
+        response = new MockHttpServletResponse();
+        filterChain = (request, response) -> {
+        };
+    }
+
+    @Benchmark
+    public Authentication authenticated() throws ServletException, IOException {
+        return doFilter(authenticatedRequest);
+    }
+
+    @Benchmark
+    public Authentication withoutToken() throws ServletException, IOException {
+        return doFilter(anonymousRequest);
+    }
+
+    // 요청 스레드처럼 다음 호출 전에 SecurityContext를 비움
+    private Authentication doFilter(MockHttpServletRequest request) throws ServletException, IOException {
+        filter.doFilterInternal(request, response, filterChain);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /todos 응답 생성 비용 (DB 조회 제외)
+ * - mapping: 조회한 엔티티 한 페이지 -> Page<TodoResponse> (TodoService.toTodoPage)
+ * - serialize: Page<TodoResponse> -> JSON (Spring MVC와 같은 Jackson 설정)
+ * 실행 시: ./gradlew jmh -Pjmh.includes=TodoPageBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TodoPageBenchmark {
+
+    private static final long TOTAL = 1_000_000;
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private List<Todo> todos;
+    private Pageable pageable;
+    private Page<TodoResponse> page;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 0, 0);
+        User user = new User("user1@example.com", "password", "user1", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        // IN 쿼리 결과처럼 순서가 섞인 상태로 준비
+        todos = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Todo todo = new Todo("할 일 제목 " + i, "할 일 내용 " + i, "Sunny", user);
+            ReflectionTestUtils.setField(todo, "id", TOTAL - i);
+            ReflectionTestUtils.setField(todo, "createdAt", now.minusMinutes(i));
+            ReflectionTestUtils.setField(todo, "modifiedAt", now.minusMinutes(i));
+            todos.add(todo);
+        }
+        Collections.shuffle(todos, new Random(42));
+
+        pageable = PageRequest.of(0, pageSize);
+        page = TodoService.toTodoPage(todos, pageable, TOTAL);
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @Benchmark
+    public Page<TodoResponse> mapping() {
+        return TodoService.toTodoPage(todos, pageable, TOTAL);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
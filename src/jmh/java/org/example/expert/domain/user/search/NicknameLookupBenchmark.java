@@ -0,0 +1,175 @@
+package org.example.expert.domain.user.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 닉네임 정확히 일치 조회: DB 인덱스(idx_nickname) vs 메모리 매핑 해시 파일(NicknameHashFile)
+ * - db: WHERE nickname = ? 로 id, nickname 조회
+ * - hashIndex: 파일 이진 탐색으로 id만 조회
+ * - hashIndexThenDb: 파일에서 찾은 id로 PK 조회 (UserService.findByNickname과 같은 경로)
+ *
+ * 데이터는 build/jmh-data 아래 H2 파일 DB와 색인 파일로 한 번 만들고 건수가 같으면 재사용
+ * (5천만 건 최초 적재는 수십 분 걸림)
+ * 실행 시: ./gradlew jmh -Pjmh.includes=NicknameLookupBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class NicknameLookupBenchmark {
+
+    private static final Path DATA_DIR = Path.of("build", "jmh-data");
+    private static final int INSERT_BATCH_SIZE = 10_000;
+    private static final int RUN_SIZE = 4_000_000;
+
+    @Param({"5000000", "50000000"})
+    private long users;
+
+    private Connection connection;
+    private PreparedStatement byNickname;
+    private PreparedStatement byId;
+    private NicknameHashFile file;
+    private final SplittableRandom random = new SplittableRandom(42);
+    private final List<Long> ids = new ArrayList<>();
+
+    @Setup
+    public void setUp() throws SQLException, IOException {
+        Files.createDirectories(DATA_DIR);
+        connection = DriverManager.getConnection(
+                "jdbc:h2:file:" + DATA_DIR.toAbsolutePath().resolve("nickname-" + users), "sa", "");
+        loadUsers();
+
+        Path indexPath = DATA_DIR.resolve("nickname-" + users + ".bin");
+        file = openOrBuild(indexPath);
+
+        byNickname = connection.prepareStatement("SELECT id, nickname FROM users WHERE nickname = ?");
+        byId = connection.prepareStatement("SELECT id, nickname FROM users WHERE id = ?");
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        file.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public int db() throws SQLException {
+        byNickname.setString(1, nickname(nextUserId()));
+        return count(byNickname);
+    }
+
+    @Benchmark
+    public int hashIndex() {
+        ids.clear();
+        file.lookup(NicknameHashFile.hash64(nickname(nextUserId())), ids);
+        return ids.size();
+    }
+
+    @Benchmark
+    public int hashIndexThenDb() throws SQLException {
+        String nickname = nickname(nextUserId());
+        ids.clear();
+        file.lookup(NicknameHashFile.hash64(nickname), ids);
+        int rows = 0;
+        for (Long id : ids) {
+            byId.setLong(1, id);
+            rows += count(byId);
+        }
+        return rows;
+    }
+
+    private long nextUserId() {
+        return 1 + random.nextLong(users);
+    }
+
+    // 실제 닉네임처럼 id 순서와 정렬 순서가 다르도록 해시 섞기
+    static String nickname(long userId) {
+        long mixed = userId * 0x9E3779B97F4A7C15L;
+        mixed ^= mixed >>> 31;
+        return "user_" + Long.toHexString(mixed) + "_" + userId;
+    }
+
+    private static int count(PreparedStatement statement) throws SQLException {
+        int rows = 0;
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private void loadUsers() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS users (id BIGINT PRIMARY KEY, nickname VARCHAR(255))");
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_nickname ON users (nickname)");
+            try (ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM users")) {
+                rs.next();
+                if (rs.getLong(1) == users) {
+                    return;
+                }
+            }
+            statement.execute("TRUNCATE TABLE users");
+        }
+
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO users (id, nickname) VALUES (?, ?)")) {
+            for (long id = 1; id <= users; id++) {
+                insert.setLong(1, id);
+                insert.setString(2, nickname(id));
+                insert.addBatch();
+                if (id % INSERT_BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    private NicknameHashFile openOrBuild(Path path) throws IOException {
+        if (Files.exists(path)) {
+            NicknameHashFile existing = NicknameHashFile.open(path);
+            if (existing.count() == users) {
+                return existing;
+            }
+            existing.close();
+        }
+        try (NicknameHashFile.Builder builder = new NicknameHashFile.Builder(path, RUN_SIZE)) {
+            for (long id = 1; id <= users; id++) {
+                builder.add(NicknameHashFile.hash64(nickname(id)), id);
+            }
+            return builder.finish();
+        }
+    }
+}
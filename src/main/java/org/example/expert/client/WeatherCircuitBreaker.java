@@ -0,0 +1,78 @@
+package org.example.expert.client;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 날씨 API 호출용 서킷 브레이커
+ * 연속 실패가 failureThreshold번 쌓이면 openDuration 동안 호출을 막고(OPEN) 바로 실패시킴,
+ * 시간이 지나면 한 번만 시험 호출(HALF_OPEN)을 허용해서 성공하면 닫고 실패하면 다시 염
+ *
+ * 호출이 시간당 몇 번 수준이라 라이브러리 없이 synchronized로 충분함
+ */
+@Slf4j
+class WeatherCircuitBreaker {
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures = 0;
+    private Instant openedAt;
+
+    WeatherCircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+    }
+
+    /**
+     * 호출해도 되는지 확인 (OPEN 시간이 지났으면 HALF_OPEN으로 전환하고 한 번 허용)
+     */
+    synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (Instant.now(clock).isBefore(openedAt.plus(openDuration))) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                return true;
+            default:
+                // HALF_OPEN: 시험 호출 결과가 나올 때까지 다른 호출은 막음
+                return false;
+        }
+    }
+
+    synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            log.info("날씨 API 서킷 닫힘");
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+    }
+
+    synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            if (state != State.OPEN) {
+                log.warn("날씨 API 서킷 열림 - 연속 실패: {} 회, {} 동안 호출 차단", consecutiveFailures, openDuration);
+            }
+            state = State.OPEN;
+            openedAt = Instant.now(clock);
+        }
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+}
@@ -1,62 +1,393 @@
 package org.example.expert.client;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
-import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * 날씨 API 클라이언트
+ * 예전에는 saveTodo마다 weather.json 전체를 내려받아 선형 탐색했는데(쓰기 트랜잭션 안에서 원격 호출),
+ * 이제는 파싱한 표를 MM-dd -> 날씨 맵으로 메모리에 두고 조회만 함
+ *
+ * - weather.refresh-interval(기본 1시간)마다, 그리고 날짜가 바뀌면 다시 받아옴
+ * - 갱신이 실패하면 마지막으로 성공한 표를 계속 사용 (stale-while-revalidate)
+ * - 표의 나이는 weather.table.age(초) 게이지, 갱신 실패는 weather.table.refresh.failures 카운터로 노출
+ * - weather.url에 file: / classpath: 경로를 주면 로컬 파일에서 읽음 (테스트, 오프라인 환경용)
+ *
+ * 원격 호출은 JDK HttpClient 비동기 호출
+ * - 연결 / 요청 타임아웃 (weather.connect-timeout, weather.request-timeout)
+ * - 첫 요청이 weather.hedge-delay(평소 p95 정도로 설정) 안에 끝나지 않으면 같은 요청을 한 번 더 보내 먼저 온 응답 사용 (0이면 끔)
+ * - 연속 실패 시 서킷을 열어 원격 호출 없이 바로 실패 -> 마지막 표로 대체
+ */
+@Slf4j
 @Component
 public class WeatherClient {
 
-    private final RestTemplate restTemplate;
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    private final HttpClient httpClient;
+    private final ResourceLoader resourceLoader;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final String weatherUrl;
+    private final Duration requestTimeout;
+    private final Duration hedgeDelay;
+    private final WeatherCircuitBreaker circuitBreaker;
+    private final Counter refreshFailures;
+    private final Counter hedgedRequests;
+
+    // 진행 중인 갱신 (동시에 여러 요청이 갱신을 시작해도 원격 호출은 한 번만)
+    private final AtomicReference<CompletableFuture<WeatherTable>> inFlight = new AtomicReference<>();
+    private volatile WeatherTable table;
+
+    @Autowired
+    public WeatherClient(
+            ResourceLoader resourceLoader,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${weather.url:https://f-api.github.io/f-api/weather.json}") String weatherUrl,
+            @Value("${weather.connect-timeout:1s}") Duration connectTimeout,
+            @Value("${weather.request-timeout:2s}") Duration requestTimeout,
+            @Value("${weather.hedge-delay:500ms}") Duration hedgeDelay,
+            @Value("${weather.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${weather.circuit-breaker.open-duration:30s}") Duration openDuration
+    ) {
+        this(resourceLoader, objectMapper, meterRegistry, weatherUrl, connectTimeout, requestTimeout, hedgeDelay,
+                new WeatherCircuitBreaker(failureThreshold, openDuration, Clock.systemDefaultZone()),
+                Clock.systemDefaultZone());
+    }
+
+    WeatherClient(
+            ResourceLoader resourceLoader,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            String weatherUrl,
+            Duration connectTimeout,
+            Duration requestTimeout,
+            Duration hedgeDelay,
+            WeatherCircuitBreaker circuitBreaker,
+            Clock clock
+    ) {
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .build();
+        this.resourceLoader = resourceLoader;
+        this.objectMapper = objectMapper;
+        this.weatherUrl = weatherUrl;
+        this.requestTimeout = requestTimeout;
+        this.hedgeDelay = hedgeDelay;
+        this.circuitBreaker = circuitBreaker;
+        this.clock = clock;
+
+        Gauge.builder("weather.table.age", this, WeatherClient::tableAgeSeconds)
+                .description("마지막으로 날씨 표를 받아온 뒤 지난 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.refreshFailures = Counter.builder("weather.table.refresh.failures")
+                .description("날씨 표 갱신 실패 횟수")
+                .register(meterRegistry);
+        this.hedgedRequests = Counter.builder("weather.requests.hedged")
+                .description("첫 요청이 늦어 추가로 보낸 요청 수")
+                .register(meterRegistry);
     }
 
     public String getTodayWeather() {
-        ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+        return getWeather(LocalDate.now(clock));
+    }
+
+    /**
+     * 특정 날짜(MM-dd 기준)의 날씨 조회
+     * 표가 아직 없으면 그 자리에서 받아오고, 날짜가 바뀐 표면 기존 값을 반환하면서 백그라운드로 갱신
+     */
+    public String getWeather(LocalDate date) {
+        return join(getWeatherAsync(date));
+    }
+
+    /**
+     * 오늘 날씨 비동기 조회 - 트랜잭션을 열기 전에 미리 시작해 두는 용도
+     */
+    public CompletableFuture<String> getTodayWeatherAsync() {
+        return getWeatherAsync(LocalDate.now(clock));
+    }
 
-        if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
-            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + responseEntity.getStatusCode());
+    public CompletableFuture<String> getWeatherAsync(LocalDate date) {
+        WeatherTable current = table;
+        if (current == null) {
+            return reload().thenApply(loaded -> lookup(loaded, date));
+        }
+        if (!current.loadedDay.equals(LocalDate.now(clock))) {
+            reload().whenComplete((loaded, e) -> recordFailure(e));
+        }
+        try {
+            return CompletableFuture.completedFuture(lookup(current, date));
+        } catch (ServerException e) {
+            return CompletableFuture.failedFuture(e);
         }
+    }
 
-        WeatherDto[] weatherArray = responseEntity.getBody();
-        if (weatherArray == null || weatherArray.length == 0) {
-            throw new ServerException("날씨 데이터가 없습니다.");
+    /**
+     * 시작 직후 미리 받아와서 첫 saveTodo가 원격 호출을 기다리지 않게 함
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        refreshQuietly();
+    }
+
+    /**
+     * 주기적 갱신
+     */
+    @Scheduled(fixedDelayString = "${weather.refresh-interval:PT1H}", initialDelayString = "${weather.refresh-interval:PT1H}")
+    public void scheduledRefresh() {
+        refreshQuietly();
+    }
+
+    /**
+     * 자정에 날짜가 바뀌면 갱신
+     */
+    @Scheduled(cron = "${weather.rollover-cron:0 0 0 * * *}")
+    public void refreshOnRollover() {
+        refreshQuietly();
+    }
+
+    /**
+     * 날씨 표를 다시 받아와 교체, 실패하면 기존 표를 그대로 두고 예외를 던짐
+     */
+    public void refresh() {
+        join(reload());
+    }
+
+    WeatherCircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private CompletableFuture<WeatherTable> reload() {
+        CompletableFuture<WeatherTable> created = new CompletableFuture<>();
+        CompletableFuture<WeatherTable> existing = inFlight.compareAndExchange(null, created);
+        if (existing != null) {
+            return existing;
         }
 
-        String today = getCurrentDate();
+        fetchWeatherArray()
+                .thenApply(this::replaceTable)
+                .whenComplete((loaded, e) -> {
+                    inFlight.set(null);
+                    if (e != null) {
+                        created.completeExceptionally(e);
+                    } else {
+                        created.complete(loaded);
+                    }
+                });
+        return created;
+    }
 
+    private WeatherTable replaceTable(WeatherDto[] weatherArray) {
+        Map<String, String> weatherByDate = new HashMap<>();
         for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
+            weatherByDate.put(weatherDto.getDate(), weatherDto.getWeather());
+        }
+        WeatherTable loaded = new WeatherTable(Collections.unmodifiableMap(weatherByDate), Instant.now(clock), LocalDate.now(clock));
+        table = loaded;
+        log.info("날씨 표 갱신 완료 - {} 일", weatherByDate.size());
+        return loaded;
+    }
+
+    private String lookup(WeatherTable current, LocalDate date) {
+        String targetDate = formatDate(date);
+        String weather = current.weatherByDate.get(targetDate);
+        if (weather == null) {
+            throw new ServerException("해당 날짜(" + targetDate + ")의 날씨 데이터를 찾을 수 없습니다.");
+        }
+        return weather;
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            recordFailure(e);
+        }
+    }
+
+    private void recordFailure(Throwable e) {
+        if (e == null) {
+            return;
+        }
+        refreshFailures.increment();
+        log.warn("날씨 표 갱신 실패 - 마지막으로 받아온 표를 계속 사용합니다. (나이: {} 초)", (long) tableAgeSeconds(), e);
+    }
+
+    private CompletableFuture<WeatherDto[]> fetchWeatherArray() {
+        CompletableFuture<WeatherDto[]> fetched;
+        if (isHttp()) {
+            fetched = fetchFromHttp();
+        } else {
+            try {
+                fetched = CompletableFuture.completedFuture(fetchFromResource());
+            } catch (ServerException e) {
+                fetched = CompletableFuture.failedFuture(e);
             }
         }
 
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        return fetched.thenApply(weatherArray -> {
+            if (weatherArray == null || weatherArray.length == 0) {
+                throw new ServerException("날씨 데이터가 없습니다.");
+            }
+            return weatherArray;
+        });
+    }
+
+    private CompletableFuture<WeatherDto[]> fetchFromHttp() {
+        if (!circuitBreaker.tryAcquire()) {
+            return CompletableFuture.failedFuture(new ServerException("날씨 API 서킷이 열려 있어 호출하지 않았습니다."));
+        }
+        return sendHedged().whenComplete((weatherArray, e) -> {
+            if (e == null) {
+                circuitBreaker.onSuccess();
+            } else {
+                circuitBreaker.onFailure();
+            }
+        });
+    }
+
+    /**
+     * 첫 요청이 hedgeDelay 안에 끝나지 않으면 한 번 더 보내고, 먼저 성공한 응답 사용
+     * 둘 다 실패해야 실패, 결과가 나오면 남은 요청은 취소
+     */
+    private CompletableFuture<WeatherDto[]> sendHedged() {
+        CompletableFuture<WeatherDto[]> result = new CompletableFuture<>();
+        List<CompletableFuture<?>> attempts = new CopyOnWriteArrayList<>();
+        AtomicInteger remaining = new AtomicInteger(1);
+
+        sendOnce(attempts).whenComplete((weatherArray, e) -> completeAttempt(result, remaining, weatherArray, e));
+
+        if (!hedgeDelay.isZero() && !hedgeDelay.isNegative()) {
+            CompletableFuture.delayedExecutor(hedgeDelay.toMillis(), TimeUnit.MILLISECONDS).execute(() -> {
+                if (result.isDone()) {
+                    return;
+                }
+                remaining.incrementAndGet();
+                hedgedRequests.increment();
+                sendOnce(attempts).whenComplete((weatherArray, e) -> completeAttempt(result, remaining, weatherArray, e));
+            });
+        }
+
+        return result.whenComplete((weatherArray, e) -> attempts.forEach(attempt -> attempt.cancel(true)));
     }
 
-    private URI buildWeatherApiUri() {
-        return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
-                .path("/f-api/weather.json")
-                .encode()
-                .build()
-                .toUri();
+    private void completeAttempt(CompletableFuture<WeatherDto[]> result, AtomicInteger remaining, WeatherDto[] weatherArray, Throwable e) {
+        if (e == null) {
+            result.complete(weatherArray);
+        } else if (remaining.decrementAndGet() == 0) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    // 취소가 실제 HTTP 요청까지 전달되도록 sendAsync가 돌려준 future를 attempts에 보관
+    private CompletableFuture<WeatherDto[]> sendOnce(List<CompletableFuture<?>> attempts) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(weatherUrl))
+                .timeout(requestTimeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+
+        CompletableFuture<HttpResponse<byte[]>> sent = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+        attempts.add(sent);
+        return sent.thenApply(response -> {
+            if (response.statusCode() != 200) {
+                throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + response.statusCode());
+            }
+            try {
+                return objectMapper.readValue(response.body(), WeatherDto[].class);
+            } catch (IOException e) {
+                throw new ServerException("날씨 데이터를 읽는데 실패했습니다: " + e.getMessage());
+            }
+        });
     }
 
-    private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
+    private WeatherDto[] fetchFromResource() {
+        Resource resource = resourceLoader.getResource(weatherUrl);
+        try (InputStream inputStream = resource.getInputStream()) {
+            return objectMapper.readValue(inputStream, WeatherDto[].class);
+        } catch (IOException e) {
+            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. (" + weatherUrl + "): " + e.getMessage());
+        }
+    }
+
+    private boolean isHttp() {
+        return weatherUrl.startsWith("http://") || weatherUrl.startsWith("https://");
+    }
+
+    // 비동기 호출 결과를 기다리고, 원인 예외를 그대로 던짐 (타임아웃 등 그 외 예외는 ServerException으로)
+    private <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다: " + e.getCause());
+        }
+    }
+
+    private double tableAgeSeconds() {
+        WeatherTable current = table;
+        if (current == null) {
+            return Double.NaN;
+        }
+        return Duration.between(current.loadedAt, Instant.now(clock)).toSeconds();
+    }
+
+    private String formatDate(LocalDate date) {
+        return date.format(DATE_FORMATTER);
+    }
+
+    /**
+     * 한 번 받아온 날씨 표 (불변, 갱신 시 통째로 교체)
+     */
+    private static class WeatherTable {
+
+        private final Map<String, String> weatherByDate;  // key: MM-dd
+        private final Instant loadedAt;
+        private final LocalDate loadedDay;
+
+        private WeatherTable(Map<String, String> weatherByDate, Instant loadedAt, LocalDate loadedDay) {
+            this.weatherByDate = weatherByDate;
+            this.loadedAt = loadedAt;
+            this.loadedDay = loadedDay;
+        }
     }
 }
@@ -0,0 +1,13 @@
+package org.example.expert.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 작업 활성화
+ * WeatherClient의 날씨 표 주기 갱신 등에서 사용
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,85 @@
+package org.example.expert.datagen;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 합성 데이터 생성 옵션 (--key=value)
+ */
+@Getter
+final class GeneratorOptions {
+
+    static final String USAGE = """
+            사용법: SyntheticDataGenerator --url=<jdbc url> [옵션]
+              --url=jdbc:h2:tcp://localhost/~/expert  대상 DB (테이블은 애플리케이션이 먼저 만들어 둬야 함)
+              --username=sa --password=
+              --users=1000000       유저 수
+              --todos=2000000       일정 수 (작성자는 Zipf 분포)
+              --threads=8           병렬 연결 수 (테이블마다 서로 다른 id 구간을 나눠 씀)
+              --batch-size=5000     JDBC batch 크기
+              --seed=42             같은 seed면 같은 데이터 (스레드 수와 무관)
+              --fast-path=false     true면 H2 CSVREAD / MySQL LOAD DATA LOCAL INFILE로 적재
+              --end-date=오늘        생성 시각 범위의 끝 날짜 (yyyy-MM-dd, 고정하면 재실행 결과가 완전히 같음)
+              --days=365            생성 시각 범위 (end-date 이전 일수)
+            """;
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final long users;
+    private final long todos;
+    private final int threads;
+    private final int batchSize;
+    private final long seed;
+    private final boolean fastPath;
+    private final LocalDate endDate;
+    private final int days;
+
+    private GeneratorOptions(Map<String, String> values) {
+        this.url = required(values, "url");
+        this.username = values.getOrDefault("username", "sa");
+        this.password = values.getOrDefault("password", "");
+        this.users = Long.parseLong(values.getOrDefault("users", "1000000"));
+        this.todos = Long.parseLong(values.getOrDefault("todos", "2000000"));
+        this.threads = Integer.parseInt(values.getOrDefault("threads", "8"));
+        this.batchSize = Integer.parseInt(values.getOrDefault("batch-size", "5000"));
+        this.seed = Long.parseLong(values.getOrDefault("seed", "42"));
+        this.fastPath = Boolean.parseBoolean(values.getOrDefault("fast-path", "false"));
+        this.endDate = values.containsKey("end-date") ? LocalDate.parse(values.get("end-date")) : LocalDate.now();
+        this.days = Integer.parseInt(values.getOrDefault("days", "365"));
+
+        if (users < 5) {
+            throw new IllegalArgumentException("users는 5 이상이어야 합니다.");
+        }
+        if (todos < 0 || threads < 1 || batchSize < 1 || days < 1) {
+            throw new IllegalArgumentException("todos는 0 이상, threads / batch-size / days는 1 이상이어야 합니다.");
+        }
+    }
+
+    static GeneratorOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("알 수 없는 인자입니다. - " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return new GeneratorOptions(values);
+    }
+
+    boolean isMySql() {
+        return url.startsWith("jdbc:mysql:");
+    }
+
+    private static String required(Map<String, String> values, String key) {
+        String value = values.get(key);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("--" + key + " 옵션이 필요합니다.");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,187 @@
+package org.example.expert.datagen;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 생성한 행을 테이블에 적재하는 방식
+ * - Batch: PreparedStatement addBatch / executeBatch
+ * - CsvLoad: 임시 CSV 파일에 쓰고 H2 CSVREAD 또는 MySQL LOAD DATA LOCAL INFILE로 한 번에 적재
+ * flush()마다 커밋해서 한 트랜잭션이 너무 커지지 않게 함
+ */
+interface RowSink extends AutoCloseable {
+
+    void add(Object... values) throws SQLException, IOException;
+
+    void flush() throws SQLException, IOException;
+
+    @Override
+    void close() throws SQLException, IOException;
+
+    static RowSink create(Connection connection, String table, List<String> columns, Set<String> nullableColumns,
+                          GeneratorOptions options, Path workDir) throws SQLException, IOException {
+        if (options.isFastPath()) {
+            return new CsvLoad(connection, table, columns, nullableColumns, options.isMySql(), workDir);
+        }
+        return new Batch(connection, table, columns, options.getBatchSize());
+    }
+
+    final class Batch implements RowSink {
+
+        private final Connection connection;
+        private final PreparedStatement statement;
+        private final int batchSize;
+        private int pending = 0;
+
+        private Batch(Connection connection, String table, List<String> columns, int batchSize) throws SQLException {
+            this.connection = connection;
+            this.batchSize = batchSize;
+            String placeholders = columns.stream().map(column -> "?").collect(Collectors.joining(", "));
+            this.statement = connection.prepareStatement(
+                    "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES (" + placeholders + ")");
+        }
+
+        @Override
+        public void add(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                Object value = values[i];
+                if (value == null) {
+                    statement.setNull(i + 1, Types.VARCHAR);
+                } else if (value instanceof LocalDateTime time) {
+                    statement.setTimestamp(i + 1, Timestamp.valueOf(time));
+                } else {
+                    statement.setObject(i + 1, value);
+                }
+            }
+            statement.addBatch();
+            if (++pending == batchSize) {
+                statement.executeBatch();
+                pending = 0;
+            }
+        }
+
+        @Override
+        public void flush() throws SQLException {
+            if (pending > 0) {
+                statement.executeBatch();
+                pending = 0;
+            }
+            connection.commit();
+        }
+
+        @Override
+        public void close() throws SQLException {
+            statement.close();
+        }
+    }
+
+    final class CsvLoad implements RowSink {
+
+        private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+        private final Connection connection;
+        private final String table;
+        private final List<String> columns;
+        private final Set<String> nullableColumns;
+        private final boolean mySql;
+        private final Path workDir;
+        private Path file;
+        private BufferedWriter writer;
+
+        private CsvLoad(Connection connection, String table, List<String> columns, Set<String> nullableColumns,
+                        boolean mySql, Path workDir) {
+            this.connection = connection;
+            this.table = table;
+            this.columns = columns;
+            this.nullableColumns = nullableColumns;
+            this.mySql = mySql;
+            this.workDir = workDir;
+        }
+
+        @Override
+        public void add(Object... values) throws IOException {
+            if (writer == null) {
+                file = Files.createTempFile(workDir, table + "-", ".csv");
+                writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+                writer.write(columns.stream().map(String::toUpperCase).collect(Collectors.joining(",")));
+                writer.write('\n');
+            }
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(format(values[i]));
+            }
+            writer.write('\n');
+        }
+
+        @Override
+        public void flush() throws SQLException, IOException {
+            if (writer == null) {
+                return;
+            }
+            writer.close();
+            writer = null;
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(mySql ? loadDataSql() : csvReadSql());
+            } finally {
+                Files.deleteIfExists(file);
+            }
+            connection.commit();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (writer != null) {
+                writer.close();
+                Files.deleteIfExists(file);
+            }
+        }
+
+        private String format(Object value) {
+            if (value == null) {
+                return mySql ? "\\N" : "";
+            }
+            if (value instanceof LocalDateTime time) {
+                return time.format(TIMESTAMP);
+            }
+            if (value instanceof String text) {
+                return '"' + text.replace("\"", "\"\"") + '"';
+            }
+            return value.toString();
+        }
+
+        private String csvReadSql() {
+            String select = columns.stream()
+                    .map(String::toUpperCase)
+                    .map(column -> nullableColumns.contains(column.toLowerCase()) ? "NULLIF(" + column + ", '')" : column)
+                    .collect(Collectors.joining(", "));
+            return "INSERT INTO " + table + " (" + String.join(", ", columns) + ") SELECT " + select
+                    + " FROM CSVREAD('" + path() + "', NULL, 'charset=UTF-8')";
+        }
+
+        private String loadDataSql() {
+            return "LOAD DATA LOCAL INFILE '" + path() + "' INTO TABLE " + table + " CHARACTER SET utf8mb4"
+                    + " FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"' LINES TERMINATED BY '\\n' IGNORE 1 LINES"
+                    + " (" + String.join(", ", columns) + ")";
+        }
+
+        private String path() {
+            return file.toAbsolutePath().toString().replace('\\', '/').replace("'", "''");
+        }
+    }
+}
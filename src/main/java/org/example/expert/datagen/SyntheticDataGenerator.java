@@ -0,0 +1,455 @@
+package org.example.expert.datagen;
+
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.log.entity.LogStatus;
+import org.example.expert.domain.user.enums.UserRole;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * 합성 데이터 생성기 (users, todos, managers, comments, log)
+ * UserBulkInsertTest(연결 1개, users만)를 대신해 Gradle / CLI에서 실행하는 도구
+ *
+ * - 테이블마다 키를 10,000개 단위 블록으로 나누고 N개 연결이 블록을 하나씩 가져가 적재 (블록끼리 id 구간이 겹치지 않음)
+ * - 행 값은 (seed, 테이블, 키)로만 정해져서 스레드 수와 관계없이 같은 seed면 같은 데이터
+ * - 분포: 일정 작성자 / 댓글 작성자는 Zipf, 일부 인기 일정에 댓글이 몰림, 일정마다 작성자 + 0~3명 담당자
+ *   todos.manager_count / comment_count는 실제 담당자 / 댓글 행 수와 맞춤
+ * - 기존 데이터 뒤에 이어서 추가 (테이블별 MAX(id) 다음부터), 읽기 모델 / 검색 색인은 관리자 재구축 API로 갱신
+ * - --fast-path=true: H2는 CSVREAD, MySQL은 LOAD DATA LOCAL INFILE로 블록 단위 적재
+ *
+ * 실행: ./gradlew generateData -Pdatagen.args="--url=jdbc:h2:tcp://localhost/~/expert --users=5000000 --threads=8"
+ */
+public final class SyntheticDataGenerator {
+
+    private static final int BLOCK_SIZE = 10_000;
+
+    private static final double AUTHOR_SKEW = 1.1;
+    private static final double COMMENTER_SKEW = 1.0;
+    private static final double HOT_TODO_SKEW = 1.2;
+    private static final int HOT_TODO_MAX_COMMENTS = 2_000;
+    private static final int FAILURE_LOG_RATE = 10;  // 일정 10개 중 1개꼴로 실패 로그
+
+    private static final long USERS = 1;
+    private static final long TODOS = 2;
+    private static final long EXTRA_MANAGERS = 3;
+    private static final long COMMENTS = 4;
+    private static final long FAILURES = 5;
+    private static final long JITTER = 6;
+    private static final long COMMENT_BASE = 7;
+
+    private static final String[] NICKNAME_HEADS = {
+            "행복한", "졸린", "용감한", "조용한", "배고픈", "느긋한", "빠른", "푸른", "작은", "커다란",
+            "happy", "lazy", "brave", "quiet", "swift", "blue", "tiny", "mighty", "clever", "sunny"
+    };
+    private static final String[] NICKNAME_TAILS = {
+            "고양이", "호랑이", "다람쥐", "개발자", "여행자", "펭귄", "올빼미", "거북이", "여우", "곰",
+            "cat", "tiger", "coder", "panda", "otter", "falcon", "whale", "fox", "owl", "bear"
+    };
+    private static final String[] TITLE_WORDS = {
+            "회의", "보고서", "점검", "배포", "리뷰", "장애", "회고", "기획", "디자인", "테스트",
+            "meeting", "report", "deploy", "review", "release", "backlog", "sprint", "design"
+    };
+    private static final String[] COMMENT_PHRASES = {
+            "확인했습니다.", "내일까지 처리할게요.", "자료 공유 부탁드립니다.", "좋은 아이디어네요!", "일정 조정이 필요해 보입니다.",
+            "LGTM", "Can we move this to next sprint?", "Done.", "Need more details.", "Thanks for the update."
+    };
+    private static final String[] WEATHERS = {
+            "Sunny", "Cloudy", "Rainy", "Snowy", "Windy", "Foggy", "Stormy", "Clear"
+    };
+    private static final String FAILURE_MESSAGE = "등록하려고 하는 담당자 유저가 존재하지 않습니다.";
+
+    private final GeneratorOptions options;
+    private final String url;
+    private final ZipfSampler authorSampler;
+    private final ZipfSampler commenterSampler;
+    private final long userMultiplier;
+    private final long todoMultiplier;
+    private final LocalDateTime start;
+    private final long spanSeconds;
+    private final String passwordHash;
+
+    // 첫 id (기존 MAX(id) + 1)
+    private long userBase;
+    private long todoBase;
+    private long managerBase;
+    private long commentBase;
+    private long logBase;
+
+    // 일정 블록별 담당자 / 댓글 / 로그 행 수 누적합 -> 블록별 id 구간
+    private long[] managerOffsets;
+    private long[] commentOffsets;
+    private long[] logOffsets;
+
+    private SyntheticDataGenerator(GeneratorOptions options) {
+        this.options = options;
+        this.url = connectionUrl(options);
+        this.authorSampler = new ZipfSampler(options.getUsers(), AUTHOR_SKEW);
+        this.commenterSampler = new ZipfSampler(options.getUsers(), COMMENTER_SKEW);
+        this.userMultiplier = coprimeMultiplier(options.getUsers());
+        this.todoMultiplier = coprimeMultiplier(Math.max(1, options.getTodos()));
+        this.start = options.getEndDate().atStartOfDay().minusDays(options.getDays());
+        this.spanSeconds = options.getDays() * 86_400L;
+        // 생성된 유저도 Password1234로 로그인 가능
+        this.passwordHash = new PasswordEncoder().encode("Password1234");
+    }
+
+    public static void main(String[] args) throws Exception {
+        GeneratorOptions options;
+        try {
+            options = GeneratorOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(GeneratorOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+        new SyntheticDataGenerator(options).run();
+    }
+
+    private void run() throws Exception {
+        long startTime = System.currentTimeMillis();
+        System.out.printf("합성 데이터 생성 - users: %,d, todos: %,d, threads: %d, seed: %d, fast-path: %s%n",
+                options.getUsers(), options.getTodos(), options.getThreads(), options.getSeed(), options.isFastPath());
+
+        try (Connection connection = connect()) {
+            userBase = nextId(connection, "users");
+            todoBase = nextId(connection, "todos");
+            managerBase = nextId(connection, "managers");
+            commentBase = nextId(connection, "comments");
+            logBase = nextId(connection, "log");
+        }
+        computeOffsets();
+
+        Path workDir = Files.createTempDirectory("datagen-");
+        try {
+            long userBlocks = blocks(options.getUsers());
+            long todoBlocks = blocks(options.getTodos());
+            phase("users", List.of("id", "email", "password", "nickname", "user_role", "created_at", "modified_at"),
+                    Set.of(), userBlocks, this::writeUsers, workDir);
+            phase("todos", List.of("id", "title", "contents", "weather", "manager_count", "comment_count",
+                    "user_id", "created_at", "modified_at"), Set.of(), todoBlocks, this::writeTodos, workDir);
+            phase("managers", List.of("id", "user_id", "todo_id"), Set.of(), todoBlocks, this::writeManagers, workDir);
+            phase("comments", List.of("id", "contents", "user_id", "todo_id", "created_at", "modified_at"),
+                    Set.of(), todoBlocks, this::writeComments, workDir);
+            phase("log", List.of("id", "todo_id", "request_user_id", "manager_user_id", "status", "error_message", "created_at"),
+                    Set.of("error_message"), todoBlocks, this::writeLogs, workDir);
+        } finally {
+            try (Stream<Path> files = Files.list(workDir)) {
+                for (Path file : files.toList()) {
+                    Files.deleteIfExists(file);
+                }
+            }
+            Files.deleteIfExists(workDir);
+        }
+
+        if (!options.isMySql()) {
+            restartIdentities();
+        }
+        System.out.printf("완료 - 총 소요 시간: %.1f s%n", (System.currentTimeMillis() - startTime) / 1000.0);
+    }
+
+    private void phase(String table, List<String> columns, Set<String> nullableColumns, long blockCount,
+                       BlockWriter writer, Path workDir) throws Exception {
+        long startTime = System.nanoTime();
+        AtomicInteger nextBlock = new AtomicInteger();
+        LongAdder rows = new LongAdder();
+
+        ExecutorService pool = Executors.newFixedThreadPool(options.getThreads());
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < options.getThreads(); t++) {
+                workers.add(pool.submit(() -> {
+                    try (Connection connection = connect();
+                         RowSink sink = RowSink.create(connection, table, columns, nullableColumns, options, workDir)) {
+                        int block;
+                        while ((block = nextBlock.getAndIncrement()) < blockCount) {
+                            rows.add(writer.write(block, sink));
+                            sink.flush();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        } finally {
+            pool.shutdownNow();
+        }
+
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+        System.out.printf("[%s] %,d 건, %.1f s, %,.0f rows/s%n", table, rows.sum(), seconds, rows.sum() / Math.max(seconds, 1e-9));
+    }
+
+    private long writeUsers(int block, RowSink sink) throws Exception {
+        long from = (long) block * BLOCK_SIZE;
+        long to = Math.min(from + BLOCK_SIZE, options.getUsers());
+        for (long i = from; i < to; i++) {
+            SplittableRandom random = random(USERS, i);
+            long id = userBase + i;
+            String nickname = NICKNAME_HEADS[random.nextInt(NICKNAME_HEADS.length)]
+                    + NICKNAME_TAILS[random.nextInt(NICKNAME_TAILS.length)] + "_" + random.nextInt(10_000);
+            String role = random.nextInt(100) == 0 ? UserRole.ADMIN.name() : UserRole.USER.name();
+            // 유저는 기간 앞쪽 절반에 가입
+            LocalDateTime createdAt = start.plusSeconds(i * (spanSeconds / 2) / options.getUsers());
+            sink.add(id, "gen" + id + "@example.com", passwordHash, nickname, role, createdAt, createdAt);
+        }
+        return to - from;
+    }
+
+    private long writeTodos(int block, RowSink sink) throws Exception {
+        long from = (long) block * BLOCK_SIZE;
+        long to = Math.min(from + BLOCK_SIZE, options.getTodos());
+        for (long i = from; i < to; i++) {
+            SplittableRandom random = random(TODOS, i);
+            long authorId = userBase + author(random);
+            String title = TITLE_WORDS[random.nextInt(TITLE_WORDS.length)] + " "
+                    + TITLE_WORDS[random.nextInt(TITLE_WORDS.length)] + " " + (1 + random.nextInt(50));
+            String contents = title + " 관련 작업 내용 정리";
+            String weather = WEATHERS[random.nextInt(WEATHERS.length)];
+            LocalDateTime createdAt = todoCreatedAt(i);
+            sink.add(todoBase + i, title, contents, weather, 1L + extraManagers(i), (long) comments(i),
+                    authorId, createdAt, createdAt);
+        }
+        return to - from;
+    }
+
+    private long writeManagers(int block, RowSink sink) throws Exception {
+        long from = (long) block * BLOCK_SIZE;
+        long to = Math.min(from + BLOCK_SIZE, options.getTodos());
+        long id = managerBase + managerOffsets[block];
+        for (long i = from; i < to; i++) {
+            long author = author(random(TODOS, i));
+            // 작성자는 기본 담당자 (Todo 생성자와 같음)
+            sink.add(id++, userBase + author, todoBase + i);
+            for (long manager : extraManagerUsers(i, author)) {
+                sink.add(id++, userBase + manager, todoBase + i);
+            }
+        }
+        return id - managerBase - managerOffsets[block];
+    }
+
+    private long writeComments(int block, RowSink sink) throws Exception {
+        long from = (long) block * BLOCK_SIZE;
+        long to = Math.min(from + BLOCK_SIZE, options.getTodos());
+        long id = commentBase + commentOffsets[block];
+        LocalDateTime end = start.plusSeconds(spanSeconds);
+        for (long i = from; i < to; i++) {
+            int count = comments(i);
+            if (count == 0) {
+                continue;
+            }
+            SplittableRandom random = random(COMMENTS, i);
+            LocalDateTime todoCreatedAt = todoCreatedAt(i);
+            for (int c = 0; c < count; c++) {
+                long userId = userBase + permute(commenterSampler.sample(random) - 1, options.getUsers(), userMultiplier);
+                LocalDateTime createdAt = todoCreatedAt.plusSeconds(1 + random.nextLong(30L * 86_400));
+                if (createdAt.isAfter(end)) {
+                    createdAt = end;
+                }
+                sink.add(id++, COMMENT_PHRASES[random.nextInt(COMMENT_PHRASES.length)], userId, todoBase + i,
+                        createdAt, createdAt);
+            }
+        }
+        return id - commentBase - commentOffsets[block];
+    }
+
+    private long writeLogs(int block, RowSink sink) throws Exception {
+        long from = (long) block * BLOCK_SIZE;
+        long to = Math.min(from + BLOCK_SIZE, options.getTodos());
+        long id = logBase + logOffsets[block];
+        for (long i = from; i < to; i++) {
+            long author = author(random(TODOS, i));
+            LocalDateTime createdAt = todoCreatedAt(i);
+            int minute = 1;
+            for (long manager : extraManagerUsers(i, author)) {
+                sink.add(id++, todoBase + i, userBase + author, userBase + manager,
+                        LogStatus.SUCCESS.name(), null, createdAt.plusMinutes(minute++));
+            }
+            if (failed(i)) {
+                // 존재하지 않는 유저를 담당자로 등록하려던 요청
+                long missingUserId = userBase + options.getUsers() + 1 + (i % 1_000);
+                sink.add(id++, todoBase + i, userBase + author, missingUserId,
+                        LogStatus.FAILURE.name(), FAILURE_MESSAGE, createdAt.plusMinutes(minute));
+            }
+        }
+        return id - logBase - logOffsets[block];
+    }
+
+    // 블록별 담당자 / 댓글 / 로그 행 수를 미리 세어 id 구간을 정함 (값 계산만 하므로 빠름)
+    private void computeOffsets() {
+        int todoBlocks = (int) blocks(options.getTodos());
+        managerOffsets = new long[todoBlocks + 1];
+        commentOffsets = new long[todoBlocks + 1];
+        logOffsets = new long[todoBlocks + 1];
+        for (int block = 0; block < todoBlocks; block++) {
+            long from = (long) block * BLOCK_SIZE;
+            long to = Math.min(from + BLOCK_SIZE, options.getTodos());
+            long managers = 0;
+            long comments = 0;
+            long logs = 0;
+            for (long i = from; i < to; i++) {
+                int extra = extraManagers(i);
+                managers += 1 + extra;
+                comments += comments(i);
+                logs += extra + (failed(i) ? 1 : 0);
+            }
+            managerOffsets[block + 1] = managerOffsets[block] + managers;
+            commentOffsets[block + 1] = commentOffsets[block] + comments;
+            logOffsets[block + 1] = logOffsets[block] + logs;
+        }
+    }
+
+    // 작성자 (유저 순번, Zipf 순위를 유저 전체에 흩뿌림)
+    private long author(SplittableRandom todoRandom) {
+        return permute(authorSampler.sample(todoRandom) - 1, options.getUsers(), userMultiplier);
+    }
+
+    private int extraManagers(long todoIndex) {
+        return (int) (mix(EXTRA_MANAGERS, todoIndex) >>> 62);  // 0 ~ 3
+    }
+
+    // 작성자와 겹치지 않는 추가 담당자 (유저 순번)
+    private long[] extraManagerUsers(long todoIndex, long author) {
+        long[] managers = new long[extraManagers(todoIndex)];
+        int found = 0;
+        for (long attempt = 0; found < managers.length; attempt++) {
+            long candidate = Long.remainderUnsigned(mix(EXTRA_MANAGERS, todoIndex, attempt), options.getUsers());
+            boolean duplicate = candidate == author;
+            for (int k = 0; k < found && !duplicate; k++) {
+                duplicate = managers[k] == candidate;
+            }
+            if (!duplicate) {
+                managers[found++] = candidate;
+            }
+        }
+        return managers;
+    }
+
+    // 인기 순위가 높은 일정일수록 댓글이 많음 (순위^-HOT_TODO_SKEW) + 기본 0 ~ 7개
+    private int comments(long todoIndex) {
+        long rank = permute(todoIndex, options.getTodos(), todoMultiplier) + 1;
+        int hot = (int) (HOT_TODO_MAX_COMMENTS / Math.pow(rank, HOT_TODO_SKEW));
+        return hot + (int) (mix(COMMENT_BASE, todoIndex) >>> 61);
+    }
+
+    private boolean failed(long todoIndex) {
+        return Long.remainderUnsigned(mix(FAILURES, todoIndex), FAILURE_LOG_RATE) == 0;
+    }
+
+    // 일정은 기간 뒤쪽 절반에 순서대로 생성 + 최대 1시간 흔들림
+    private LocalDateTime todoCreatedAt(long todoIndex) {
+        long offset = spanSeconds / 2 + todoIndex * (spanSeconds / 2) / Math.max(1, options.getTodos());
+        return start.plusSeconds(offset + Long.remainderUnsigned(mix(JITTER, todoIndex), 3_600));
+    }
+
+    private SplittableRandom random(long table, long key) {
+        return new SplittableRandom(mix(table, key));
+    }
+
+    private long mix(long... parts) {
+        long hash = options.getSeed();
+        for (long part : parts) {
+            hash = splitMix(hash ^ splitMix(part));
+        }
+        return hash;
+    }
+
+    private static long splitMix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // 0 ~ n-1 순열 (곱셈 계수가 n과 서로소라 겹치지 않음, index / multiplier < n 이라 n이 30억 미만이면 overflow 없음)
+    private static long permute(long index, long n, long multiplier) {
+        return index * multiplier % n;
+    }
+
+    private static long coprimeMultiplier(long n) {
+        long multiplier = 2_654_435_761L % n;
+        if (multiplier == 0) {
+            multiplier = 1;
+        }
+        while (gcd(multiplier, n) != 1) {
+            multiplier++;
+        }
+        return multiplier;
+    }
+
+    private static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    private static long blocks(long keys) {
+        return (keys + BLOCK_SIZE - 1) / BLOCK_SIZE;
+    }
+
+    private Connection connect() throws SQLException {
+        Connection connection = DriverManager.getConnection(url, options.getUsername(), options.getPassword());
+        connection.setAutoCommit(false);
+        return connection;
+    }
+
+    private static long nextId(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    // H2는 id를 직접 넣어도 IDENTITY 값이 따라오지 않아 다음 값을 맞춰 둠 (MySQL AUTO_INCREMENT는 자동 조정)
+    private void restartIdentities() throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            for (String table : List.of("users", "todos", "managers", "comments", "log")) {
+                long next = nextId(connection, table);
+                statement.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+            }
+            connection.commit();
+        }
+    }
+
+    // MySQL: batch insert를 multi-row INSERT로 바꾸고, fast-path면 LOAD DATA LOCAL INFILE 허용
+    private static String connectionUrl(GeneratorOptions options) {
+        String url = options.getUrl();
+        if (!options.isMySql()) {
+            return url;
+        }
+        StringBuilder builder = new StringBuilder(url);
+        if (!url.contains("rewriteBatchedStatements")) {
+            builder.append(url.contains("?") ? '&' : '?').append("rewriteBatchedStatements=true");
+        }
+        if (options.isFastPath() && !url.contains("allowLoadLocalInfile")) {
+            builder.append('&').append("allowLoadLocalInfile=true");
+        }
+        return builder.toString();
+    }
+
+    @FunctionalInterface
+    private interface BlockWriter {
+
+        long write(int block, RowSink sink) throws Exception;
+    }
+}
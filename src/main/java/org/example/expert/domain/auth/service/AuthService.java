@@ -11,7 +11,10 @@ import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.event.UserSavedEvent;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserNicknameIndexService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +26,8 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final UserNicknameIndexService userNicknameIndexService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public SignupResponse signup(SignupRequest signupRequest) {
@@ -42,6 +47,10 @@ public class AuthService {
                 userRole
         );
         User savedUser = userRepository.save(newUser);
+        userNicknameIndexService.index(savedUser.getId(), savedUser.getNickname());
+
+        // 커밋 이후 닉네임 조회 인덱스에 반영
+        eventPublisher.publishEvent(new UserSavedEvent(savedUser.getId(), savedUser.getNickname()));
 
         String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), savedUser.getNickname(), userRole);
 
@@ -1,5 +1,6 @@
 package org.example.expert.domain.comment.dto.response;
 
+import com.querydsl.core.annotations.QueryProjection;
 import lombok.Getter;
 import org.example.expert.domain.user.dto.response.UserResponse;
 
@@ -10,6 +11,7 @@ public class CommentResponse {
     private final String contents;
     private final UserResponse user;
 
+    @QueryProjection
     public CommentResponse(Long id, String contents, UserResponse user) {
         this.id = id;
         this.contents = contents;
@@ -0,0 +1,21 @@
+package org.example.expert.domain.comment.event;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 댓글 묶음 저장 이벤트 (CommentBatchWriter)
+ * 묶음 하나에 한 번만 발행 -> 같은 일정 댓글이 몰려도 캐시/읽기 모델 갱신은 일정당 한 번
+ */
+@Getter
+public class CommentBatchSavedEvent {
+
+    private final List<Long> todoIds;
+    private final int commentCount;
+
+    public CommentBatchSavedEvent(List<Long> todoIds, int commentCount) {
+        this.todoIds = List.copyOf(todoIds);
+        this.commentCount = commentCount;
+    }
+}
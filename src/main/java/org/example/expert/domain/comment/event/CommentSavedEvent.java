@@ -0,0 +1,19 @@
+package org.example.expert.domain.comment.event;
+
+import lombok.Getter;
+
+/**
+ * 댓글 저장 이벤트
+ * 댓글 수를 담고 있는 검색 결과 캐시 등을 갱신하는 데 사용
+ */
+@Getter
+public class CommentSavedEvent {
+
+    private final Long todoId;
+    private final Long commentId;
+
+    public CommentSavedEvent(Long todoId, Long commentId) {
+        this.todoId = todoId;
+        this.commentId = commentId;
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.expert.domain.comment.repository;
+
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+
+import java.util.List;
+
+public interface CommentRepositoryCustom {
+
+    /**
+     * 일정 댓글 키셋 페이지네이션 (id 오름차순, 작성자는 DTO로 바로 조회)
+     * @param afterId 이전 페이지 마지막 댓글 id, 첫 페이지면 null
+     * @param limit 조회할 최대 건수 (다음 페이지 판단을 위해 호출부에서 size + 1 전달)
+     */
+    List<CommentResponse> findCommentsByCursor(Long todoId, Long afterId, int limit);
+}
@@ -0,0 +1,43 @@
+package org.example.expert.domain.comment.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.dto.response.QCommentResponse;
+import org.example.expert.domain.user.dto.response.QUserResponse;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static org.example.expert.domain.comment.entity.QComment.comment;
+import static org.example.expert.domain.user.entity.QUser.user;
+
+@Repository
+@RequiredArgsConstructor
+public class CommentRepositoryImpl implements CommentRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * (todo_id, id) 인덱스 범위를 커서 다음부터 limit 건만 읽음
+     * 댓글 수가 많아도 한 번에 읽는 양은 페이지 크기로 제한
+     */
+    @Override
+    public List<CommentResponse> findCommentsByCursor(Long todoId, Long afterId, int limit) {
+        return queryFactory
+                .select(new QCommentResponse(
+                        comment.id,
+                        comment.contents,
+                        new QUserResponse(user.id, user.email, user.nickname)
+                ))
+                .from(comment)
+                .join(comment.user, user)
+                .where(
+                        comment.todo.id.eq(todoId),
+                        afterId != null ? comment.id.gt(afterId) : null
+                )
+                .orderBy(comment.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+}
@@ -0,0 +1,398 @@
+package org.example.expert.domain.comment.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.event.CommentBatchSavedEvent;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 댓글 묶음 저장 (group commit)
+ * 장애 상황처럼 같은 일정에 댓글이 몰리면 요청마다 일정 조회 + IDENTITY insert + 커밋 + 같은 todos 행 카운터 갱신이 반복되어,
+ * 요청을 큐에 모았다가 한 번의 트랜잭션으로 저장
+ *
+ * - 첫 요청 후 max-wait 동안 또는 max-batch-size 건이 모이면 저장
+ * - 댓글은 JDBC batch insert, 댓글 수는 일정별로 합쳐서 한 번씩만 갱신
+ * - 커밋 후 각 요청의 future를 생성된 댓글 id로 완료하고 묶음당 CommentBatchSavedEvent 한 번 발행
+ * - writer가 가져가기 전에 response-timeout이 지난 요청은 실패로 응답하고 저장하지 않음
+ *   writer가 가져간 요청은 timeout 없이 커밋/롤백 결과까지 기다림 (실패 응답 후 커밋되어 재시도 시 댓글이 중복되지 않도록)
+ *   -> 최악의 응답 시간은 response-timeout + 묶음 저장 시간(comment.batch.write)
+ * - 종료되거나 writer 스레드가 멈추면 큐에 남은 요청은 실패 처리하고, 이후 요청은 요청마다 트랜잭션으로 저장 (CommentService)
+ * - 큐가 가득 차면 enqueue-timeout 동안만 기다리고 거절 (backpressure)
+ * - 묶음별 저장 시간은 comment.batch.write 타이머(히스토그램), 묶음 크기는 comment.batch.size로 노출
+ * - comment.batch-writer.enabled=true 일 때만 사용 (CommentService)
+ */
+@Slf4j
+@Component
+public class CommentBatchWriter {
+
+    private static final String SELECT_TODO_IDS_SQL = "SELECT id FROM todos WHERE id IN (%s)";
+    private static final String INSERT_COMMENT_SQL =
+            "INSERT INTO comments (contents, user_id, todo_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String INCREMENT_COMMENT_COUNT_SQL = "UPDATE todos SET comment_count = comment_count + ? WHERE id = ?";
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final DataSource dataSource;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final Duration maxWait;
+    private final Duration enqueueTimeout;
+    private final Duration responseTimeout;
+
+    private final BlockingQueue<PendingComment> queue;
+    private final Timer batchTimer;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter rejectedCounter;
+
+    private Thread writerThread;
+    private volatile boolean running = false;
+
+    public CommentBatchWriter(
+            DataSource dataSource,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${comment.batch-writer.enabled:false}") boolean enabled,
+            @Value("${comment.batch-writer.max-batch-size:200}") int maxBatchSize,
+            @Value("${comment.batch-writer.max-wait:5ms}") Duration maxWait,
+            @Value("${comment.batch-writer.queue-capacity:10000}") int queueCapacity,
+            @Value("${comment.batch-writer.enqueue-timeout:100ms}") Duration enqueueTimeout,
+            @Value("${comment.batch-writer.response-timeout:5s}") Duration responseTimeout
+    ) {
+        this.dataSource = dataSource;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWait = maxWait;
+        this.enqueueTimeout = enqueueTimeout;
+        this.responseTimeout = responseTimeout;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        this.batchTimer = Timer.builder("comment.batch.write")
+                .description("댓글 묶음 저장(insert + 카운터 갱신 + 커밋) 소요 시간")
+                .publishPercentiles(0.5, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("comment.batch.size")
+                .description("묶음당 댓글 수")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("comment.batch.rejected")
+                .description("큐가 가득 차서 거절한 댓글 저장 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("comment.batch.queue.size", queue, BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writerThread = new Thread(this::runLoop, "comment-batch-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * 종료 시 큐에 남은 요청까지 저장 후 멈춤
+     * 기다린 뒤에도 남은 요청(저장 중 멈췄거나 running 확인 직후 들어온 요청)은 실패 처리
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (writerThread != null) {
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        failQueued(new ServerException("댓글 저장을 처리할 수 없습니다."));
+    }
+
+    // writer 스레드가 멈춘 뒤에는 false -> CommentService가 요청마다 트랜잭션으로 저장
+    public boolean isEnabled() {
+        return enabled && running;
+    }
+
+    /**
+     * 댓글 저장 요청을 큐에 넣음
+     * @return 커밋 후 생성된 댓글 id로 완료되는 future
+     */
+    public CompletableFuture<Long> submit(Long todoId, Long userId, String contents) {
+        if (!running) {
+            throw new ServerException("댓글 저장을 처리할 수 없습니다.");
+        }
+        PendingComment pending = new PendingComment(todoId, userId, contents, LocalDateTime.now());
+
+        boolean accepted;
+        try {
+            accepted = queue.offer(pending, enqueueTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerException("댓글 저장 요청이 중단되었습니다.");
+        }
+        if (!accepted) {
+            rejectedCounter.increment();
+            throw new ServerException("댓글 저장 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        // 넣는 사이 stop()이 큐를 비웠다면 직접 꺼내서 거절 (못 꺼냈으면 writer나 stop()이 완료 처리함)
+        if (!running && queue.remove(pending)) {
+            throw new ServerException("댓글 저장을 처리할 수 없습니다.");
+        }
+        CompletableFuture.delayedExecutor(responseTimeout.toNanos(), TimeUnit.NANOSECONDS).execute(pending::expire);
+        return pending.future;
+    }
+
+    private void runLoop() {
+        List<PendingComment> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingComment first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collect(batch);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (RuntimeException e) {
+                // 예상하지 못한 오류로 writer가 멈추지 않도록 해당 묶음만 실패 처리
+                log.error("댓글 묶음 저장 중 오류", e);
+                failAll(batch, new ServerException("댓글 저장 중 오류가 발생했습니다."));
+            } catch (Error e) {
+                // 복구할 수 없는 오류면 새 요청을 더 받지 않고, 기다리는 요청은 모두 실패 처리 후 멈춤
+                log.error("댓글 묶음 저장 스레드 중단", e);
+                running = false;
+                ServerException cause = new ServerException("댓글 저장 중 오류가 발생했습니다.");
+                failAll(batch, cause);
+                failQueued(cause);
+                throw e;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 첫 요청 이후 max-wait 동안 max-batch-size 건까지 더 모음
+    private void collect(List<PendingComment> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || remaining <= 0) {
+                return;
+            }
+            PendingComment next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    /**
+     * 묶음 하나를 한 트랜잭션으로 저장
+     * 없는 일정에 대한 요청만 따로 실패 처리하고, DB 오류면 묶음 전체를 롤백 후 실패 처리
+     */
+    private void flush(List<PendingComment> batch) {
+        // 응답 대기 시간이 이미 지난 요청은 저장하지 않음 (요청 쪽은 실패로 응답했으므로)
+        // 가져간 요청은 더 이상 timeout 되지 않으므로 아래에서 반드시 완료 처리
+        batch.removeIf(pending -> !pending.claim());
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        List<PendingComment> saved = List.of();
+        List<Long> commentIds = List.of();
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                Set<Long> existingTodoIds = findExistingTodoIds(connection, batch);
+                saved = new ArrayList<>(batch.size());
+                for (PendingComment pending : batch) {
+                    if (existingTodoIds.contains(pending.todoId)) {
+                        saved.add(pending);
+                    } else {
+                        pending.future.completeExceptionally(new InvalidRequestException("Todo not found"));
+                    }
+                }
+
+                if (!saved.isEmpty()) {
+                    commentIds = insertComments(connection, saved);
+                    incrementCommentCounts(connection, saved);
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            log.warn("댓글 묶음 저장 실패 - {} 건 롤백", batch.size(), e);
+            failAll(batch, new ServerException("댓글 저장 중 DB 오류가 발생했습니다."));
+            return;
+        } finally {
+            batchTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            batchSizeSummary.record(batch.size());
+        }
+
+        // 응답을 먼저 돌려주고 나서 부가 저장소(캐시, 읽기 모델 등) 갱신
+        Set<Long> savedTodoIds = new LinkedHashSet<>();
+        for (int i = 0; i < saved.size(); i++) {
+            saved.get(i).future.complete(commentIds.get(i));
+            savedTodoIds.add(saved.get(i).todoId);
+        }
+        if (!saved.isEmpty()) {
+            eventPublisher.publishEvent(new CommentBatchSavedEvent(new ArrayList<>(savedTodoIds), saved.size()));
+        }
+    }
+
+    private Set<Long> findExistingTodoIds(Connection connection, List<PendingComment> batch) throws SQLException {
+        Set<Long> todoIds = new HashSet<>();
+        for (PendingComment pending : batch) {
+            todoIds.add(pending.todoId);
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(todoIds.size(), "?"));
+        Set<Long> existing = new HashSet<>();
+        try (PreparedStatement pstmt = connection.prepareStatement(String.format(SELECT_TODO_IDS_SQL, placeholders))) {
+            int index = 1;
+            for (Long todoId : todoIds) {
+                pstmt.setLong(index++, todoId);
+            }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    existing.add(rs.getLong(1));
+                }
+            }
+        }
+        return existing;
+    }
+
+    private List<Long> insertComments(Connection connection, List<PendingComment> saved) throws SQLException {
+        List<Long> commentIds = new ArrayList<>(saved.size());
+        try (PreparedStatement pstmt = connection.prepareStatement(INSERT_COMMENT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            for (PendingComment pending : saved) {
+                Timestamp createdAt = Timestamp.valueOf(pending.createdAt);
+                pstmt.setString(1, pending.contents);
+                pstmt.setLong(2, pending.userId);
+                pstmt.setLong(3, pending.todoId);
+                pstmt.setTimestamp(4, createdAt);
+                pstmt.setTimestamp(5, createdAt);
+                pstmt.addBatch();
+            }
+            pstmt.executeBatch();
+
+            try (ResultSet keys = pstmt.getGeneratedKeys()) {
+                while (keys.next()) {
+                    commentIds.add(keys.getLong(1));
+                }
+            }
+        }
+
+        if (commentIds.size() != saved.size()) {
+            throw new SQLException("생성된 댓글 id 수가 일치하지 않습니다. (" + commentIds.size() + " / " + saved.size() + ")");
+        }
+        return commentIds;
+    }
+
+    // 같은 일정 댓글은 합쳐서 일정당 UPDATE 한 번 (인기 일정 행 잠금 경합 감소)
+    private void incrementCommentCounts(Connection connection, List<PendingComment> saved) throws SQLException {
+        Map<Long, Integer> countsByTodo = new LinkedHashMap<>();
+        for (PendingComment pending : saved) {
+            countsByTodo.merge(pending.todoId, 1, Integer::sum);
+        }
+
+        try (PreparedStatement pstmt = connection.prepareStatement(INCREMENT_COMMENT_COUNT_SQL)) {
+            for (Map.Entry<Long, Integer> entry : countsByTodo.entrySet()) {
+                pstmt.setInt(1, entry.getValue());
+                pstmt.setLong(2, entry.getKey());
+                pstmt.addBatch();
+            }
+            pstmt.executeBatch();
+        }
+    }
+
+    private void failAll(List<PendingComment> batch, RuntimeException cause) {
+        for (PendingComment pending : batch) {
+            pending.future.completeExceptionally(cause);
+        }
+    }
+
+    private void failQueued(RuntimeException cause) {
+        List<PendingComment> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            log.warn("저장하지 못한 댓글 요청 {} 건 실패 처리", remaining.size());
+            failAll(remaining, cause);
+        }
+    }
+
+    private static final class PendingComment {
+
+        private final Long todoId;
+        private final Long userId;
+        private final String contents;
+        private final LocalDateTime createdAt;
+        private final CompletableFuture<Long> future = new CompletableFuture<>();
+        private final AtomicReference<State> state = new AtomicReference<>(State.PENDING);
+
+        private PendingComment(Long todoId, Long userId, String contents, LocalDateTime createdAt) {
+            this.todoId = todoId;
+            this.userId = userId;
+            this.contents = contents;
+            this.createdAt = createdAt;
+        }
+
+        // writer가 저장 대상으로 가져감, 이미 timeout 된 요청이면 false
+        private boolean claim() {
+            return state.compareAndSet(State.PENDING, State.CLAIMED);
+        }
+
+        // response-timeout 시점에 writer가 아직 가져가지 않았을 때만 실패 처리
+        private void expire() {
+            if (state.compareAndSet(State.PENDING, State.EXPIRED)) {
+                future.completeExceptionally(new TimeoutException());
+            }
+        }
+
+        private enum State {
+            PENDING, CLAIMED, EXPIRED
+        }
+    }
+}
@@ -5,30 +5,61 @@ import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.event.CommentSavedEvent;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.common.dto.CursorPageResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CommentService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CommentBatchWriter commentBatchWriter;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    /**
+     * comment.batch-writer.enabled=true 이면 CommentBatchWriter로 모아서 저장 (요청 스레드는 커넥션 없이 대기)
+     * 아니면 요청마다 트랜잭션 하나로 저장
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
         User user = User.fromAuthUser(authUser);
+
+        Long commentId = commentBatchWriter.isEnabled()
+                ? joinCommentId(commentBatchWriter.submit(todoId, user.getId(), commentSaveRequest.getContents()))
+                : transactionTemplate.execute(status -> saveCommentInTransaction(user, todoId, commentSaveRequest));
+
+        return new CommentSaveResponse(
+                commentId,
+                commentSaveRequest.getContents(),
+                new UserResponse(user.getId(), user.getEmail(), user.getNickname())
+        );
+    }
+
+    private Long saveCommentInTransaction(User user, long todoId, CommentSaveRequest commentSaveRequest) {
         Todo todo = todoRepository.findById(todoId).orElseThrow(() ->
                 new InvalidRequestException("Todo not found"));
 
@@ -39,27 +70,39 @@ public class CommentService {
         );
 
         Comment savedComment = commentRepository.save(newComment);
-
-        return new CommentSaveResponse(
-                savedComment.getId(),
-                savedComment.getContents(),
-                new UserResponse(user.getId(), user.getEmail(), user.getNickname())
-        );
+        todoRepository.incrementCommentCount(todoId);
+        eventPublisher.publishEvent(new CommentSavedEvent(todoId, savedComment.getId()));
+        return savedComment.getId();
     }
 
-    public List<CommentResponse> getComments(long todoId) {
-        List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
+    private Long joinCommentId(CompletableFuture<Long> commentIdFuture) {
+        try {
+            return commentIdFuture.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof TimeoutException) {
+                throw new ServerException("댓글 저장 응답이 지연되고 있습니다. 잠시 후 다시 확인해 주세요.");
+            }
+            throw new ServerException("댓글 저장 중 오류가 발생했습니다.");
+        }
+    }
 
-        List<CommentResponse> dtoList = new ArrayList<>();
-        for (Comment comment : commentList) {
-            User user = comment.getUser();
-            CommentResponse dto = new CommentResponse(
-                    comment.getId(),
-                    comment.getContents(),
-                    new UserResponse(user.getId(), user.getEmail(), user.getNickname())
-            );
-            dtoList.add(dto);
+    /**
+     * 일정 댓글 커서 페이지네이션 (작성 순)
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지면 null
+     */
+    public CursorPageResponse<CommentResponse> getComments(long todoId, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
         }
-        return dtoList;
+
+        Cursor decoded = Cursor.decode(cursor);
+        // 다음 페이지 존재 여부 판단을 위해 size + 1건 조회
+        List<CommentResponse> rows = commentRepository.findCommentsByCursor(
+                todoId, decoded != null ? decoded.getId() : null, size + 1);
+
+        return CursorPageResponse.of(rows, size, last -> Cursor.encode(null, last.getId()));
     }
 }
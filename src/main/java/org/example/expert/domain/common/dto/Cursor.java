@@ -0,0 +1,57 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋(Seek) 페이지네이션용 커서
+ * 마지막으로 내려준 행의 (정렬 기준 시각, id)를 담고, 클라이언트에는 불투명한 문자열 토큰으로 전달
+ * offset 방식과 달리 앞 페이지 행들을 스캔 후 버리지 않으므로 깊은 페이지도 첫 페이지와 같은 비용
+ */
+@Getter
+public class Cursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime timestamp;  // 정렬 기준 시각 (id 단독 커서면 null)
+    private final Long id;
+
+    public Cursor(LocalDateTime timestamp, Long id) {
+        this.timestamp = timestamp;
+        this.id = id;
+    }
+
+    /**
+     * (시각, id) -> base64url 토큰
+     */
+    public static String encode(LocalDateTime timestamp, Long id) {
+        String raw = (timestamp != null ? timestamp.toString() : "") + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰 -> 커서, 토큰이 없으면 첫 페이지(null)
+     */
+    public static Cursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            if (idx < 0) {
+                throw new InvalidRequestException("유효하지 않은 커서입니다.");
+            }
+            String timestampPart = raw.substring(0, idx);
+            LocalDateTime timestamp = timestampPart.isEmpty() ? null : LocalDateTime.parse(timestampPart);
+            return new Cursor(timestamp, Long.parseLong(raw.substring(idx + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidRequestException("유효하지 않은 커서입니다.");
+        }
+    }
+}
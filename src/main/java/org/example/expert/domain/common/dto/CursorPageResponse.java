@@ -0,0 +1,37 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 응답
+ * 전체 개수(count) 없이 다음 페이지 존재 여부와 다음 커서만 내려줌
+ */
+@Getter
+public class CursorPageResponse<T> {
+
+    private final List<T> content;
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor;  // 마지막 페이지면 null
+
+    public CursorPageResponse(List<T> content, int size, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * limit + 1건을 조회한 결과로 응답 생성
+     * 초과분 1건이 있으면 다음 페이지가 있다고 판단하고 잘라냄
+     */
+    public static <T> CursorPageResponse<T> of(List<T> rows, int limit, Function<T, String> cursorOf) {
+        boolean hasNext = rows.size() > limit;
+        List<T> content = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null;
+        return new CursorPageResponse<>(content, content.size(), hasNext, nextCursor);
+    }
+}
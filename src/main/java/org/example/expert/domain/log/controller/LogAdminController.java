@@ -0,0 +1,46 @@
+package org.example.expert.domain.log.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.dto.CursorPageResponse;
+import org.example.expert.domain.log.dto.response.LogPurgeResponse;
+import org.example.expert.domain.log.dto.response.LogResponse;
+import org.example.expert.domain.log.entity.LogStatus;
+import org.example.expert.domain.log.service.LogAdminService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class LogAdminController {
+
+    private final LogAdminService logAdminService;
+
+    /**
+     * 매니저 등록 로그 조회 (ADMIN 전용, 최신순)
+     * GET /admin/logs?todoId=1&status=FAILURE&cursor=...&size=20
+     */
+    @GetMapping("/admin/logs")
+    public ResponseEntity<CursorPageResponse<LogResponse>> getLogs(
+            @RequestParam(required = false) Long todoId,
+            @RequestParam(required = false) LogStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(logAdminService.getLogs(todoId, status, cursor, size));
+    }
+
+    /**
+     * 보관 기간이 지난 로그 즉시 정리 (ADMIN 전용)
+     * POST /admin/logs/purge?retentionDays=90&chunkSize=1000
+     */
+    @PostMapping("/admin/logs/purge")
+    public ResponseEntity<LogPurgeResponse> purgeLogs(
+            @RequestParam(defaultValue = "90") int retentionDays,
+            @RequestParam(defaultValue = "1000") int chunkSize
+    ) {
+        return ResponseEntity.ok(logAdminService.purge(retentionDays, chunkSize));
+    }
+}
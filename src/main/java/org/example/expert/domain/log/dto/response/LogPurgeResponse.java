@@ -0,0 +1,21 @@
+package org.example.expert.domain.log.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class LogPurgeResponse {
+
+    private final LocalDateTime cutoff;  // 이 시각 이전 로그 삭제
+    private final long chunks;           // 처리한 chunk 수
+    private final long deletedRows;      // 삭제한 로그 수
+    private final long elapsedMillis;    // 소요 시간
+
+    public LogPurgeResponse(LocalDateTime cutoff, long chunks, long deletedRows, long elapsedMillis) {
+        this.cutoff = cutoff;
+        this.chunks = chunks;
+        this.deletedRows = deletedRows;
+        this.elapsedMillis = elapsedMillis;
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.expert.domain.log.dto.response;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+import org.example.expert.domain.log.entity.LogStatus;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class LogResponse {
+
+    private final Long id;
+    private final Long todoId;
+    private final Long requestUserId;
+    private final Long managerUserId;
+    private final LogStatus status;
+    private final String errorMessage;
+    private final LocalDateTime createdAt;
+
+    @QueryProjection
+    public LogResponse(Long id, Long todoId, Long requestUserId, Long managerUserId,
+                       LogStatus status, String errorMessage, LocalDateTime createdAt) {
+        this.id = id;
+        this.todoId = todoId;
+        this.requestUserId = requestUserId;
+        this.managerUserId = managerUserId;
+        this.status = status;
+        this.errorMessage = errorMessage;
+        this.createdAt = createdAt;
+    }
+}
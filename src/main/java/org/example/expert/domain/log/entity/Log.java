@@ -15,7 +15,11 @@ import java.time.LocalDateTime;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "log")
+@Table(name = "log", indexes = {
+        @Index(name = "idx_log_todo_id_id", columnList = "todo_id, id"),  // 일정별 로그 키셋 조회
+        @Index(name = "idx_log_status_id", columnList = "status, id"),    // 상태별 로그 키셋 조회
+        @Index(name = "idx_log_created_at", columnList = "created_at")    // 보관 기간 정리 대상 범위 조회
+})
 @EntityListeners(AuditingEntityListener.class)
 public class Log {
 
@@ -2,6 +2,29 @@ package org.example.expert.domain.log.repository;
 
 import org.example.expert.domain.log.entity.Log;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface LogRepository extends JpaRepository<Log, Long> {
+import java.time.LocalDateTime;
+
+public interface LogRepository extends JpaRepository<Log, Long>, LogRepositoryCustom {
+
+    @Query("SELECT MIN(l.id) FROM Log l")
+    Long findMinId();
+
+    /**
+     * 보관 기간이 지난 로그 중 가장 큰 id (created_at 인덱스 범위만 읽음)
+     */
+    @Query("SELECT MAX(l.id) FROM Log l WHERE l.createdAt < :cutoff")
+    Long findMaxIdCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * id 구간 안에서 보관 기간이 지난 로그 삭제
+     * PK 범위로 잠그는 행 수를 chunk 크기로 제한
+     * 파일에서 나중에 재처리된 로그는 id가 커도 created_at이 과거일 수 있어 시각 조건도 함께 확인
+     */
+    @Modifying
+    @Query("DELETE FROM Log l WHERE l.id >= :fromId AND l.id <= :toId AND l.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("fromId") Long fromId, @Param("toId") Long toId, @Param("cutoff") LocalDateTime cutoff);
 }
@@ -0,0 +1,11 @@
+package org.example.expert.domain.log.repository;
+
+import org.example.expert.domain.log.dto.response.LogResponse;
+import org.example.expert.domain.log.entity.LogStatus;
+
+import java.util.List;
+
+public interface LogRepositoryCustom {
+
+    List<LogResponse> findLogsByCursor(Long todoId, LogStatus status, Long beforeId, int limit);
+}
@@ -0,0 +1,46 @@
+package org.example.expert.domain.log.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.log.dto.response.LogResponse;
+import org.example.expert.domain.log.dto.response.QLogResponse;
+import org.example.expert.domain.log.entity.LogStatus;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static org.example.expert.domain.log.entity.QLog.log;
+
+@Repository
+@RequiredArgsConstructor
+public class LogRepositoryImpl implements LogRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 최신 로그부터 커서 이전 limit 건만 읽음
+     * todoId가 있으면 (todo_id, id), status만 있으면 (status, id) 인덱스를 역순으로 탐색
+     */
+    @Override
+    public List<LogResponse> findLogsByCursor(Long todoId, LogStatus status, Long beforeId, int limit) {
+        return queryFactory
+                .select(new QLogResponse(
+                        log.id,
+                        log.todoId,
+                        log.requestUserId,
+                        log.managerUserId,
+                        log.status,
+                        log.errorMessage,
+                        log.createdAt
+                ))
+                .from(log)
+                .where(
+                        todoId != null ? log.todoId.eq(todoId) : null,
+                        status != null ? log.status.eq(status) : null,
+                        beforeId != null ? log.id.lt(beforeId) : null
+                )
+                .orderBy(log.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+}
@@ -0,0 +1,484 @@
+package org.example.expert.domain.log.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.log.entity.Log;
+import org.example.expert.domain.log.entity.LogStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매니저 등록 로그 비동기 묶음 저장
+ * REQUIRES_NEW는 saveManager 트랜잭션이 커넥션을 잡은 채로 커넥션을 하나 더 빌려서, 부하가 걸리면 풀이 고갈되거나 서로 기다리게 됨
+ * -> 요청 스레드는 메모리 큐(고정 크기)에 넣기만 하고, 백그라운드 스레드가 모아서 JDBC batch insert
+ *
+ * - 큐가 가득 차면 기다리지 않고 버림 (log.writer.dropped 카운터, 큐 길이는 log.writer.queue.size)
+ * - 실패 로그는 큐에 넣기 전에 로컬 파일(append-only)에 먼저 기록
+ *   -> 디스크 반영(fsync)은 writer 스레드가 모아서 한 번에 함 (요청 스레드는 기다리지 않음)
+ *   -> 큐에서 버려지거나 DB 저장에 실패하거나 프로세스가 죽어도 시작 시 / 다음 재처리 때 파일에서 다시 저장
+ *   -> 파일의 모든 실패 로그가 커밋되면 파일을 비움
+ * - 파일에서 다시 저장할 때 이미 저장된 행(같은 일정/요청자/담당자/시각)은 묶음당 한 번 조회해서 건너뜀
+ * - log.async-writer.enabled=true 일 때만 동작 (LogService)
+ */
+@Slf4j
+@Component
+public class AsyncLogWriter implements LogWriter {
+
+    private static final String SELECT_FAILURE_KEYS_SQL =
+            "SELECT todo_id, request_user_id, manager_user_id, created_at FROM log WHERE status = 'FAILURE' AND created_at IN (%s)";
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long IDLE_POLL_MILLIS = 100;
+    private static final long REPLAY_INTERVAL_MILLIS = 5_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final Path spillPath;
+
+    private final BlockingQueue<LogRecord> queue;
+    private final Counter droppedCounter;
+
+    // 실패 로그 파일 관련 상태는 spillLock으로 보호
+    private final Object spillLock = new Object();
+    private FileChannel spillChannel;
+    private long pendingSpilled = 0;  // 파일에 기록했고 아직 큐에서 저장되지 않은 실패 로그 수
+    private volatile boolean spillBacklog = false;  // 파일에만 남은(큐에서 빠진) 실패 로그가 있는지
+    private long lastReplayMillis = 0;
+    private volatile boolean spillDirty = false;  // 파일에 쓰고 아직 fsync 하지 않은 실패 로그가 있는지
+
+    private Thread writerThread;
+    private volatile boolean running = false;
+
+    public AsyncLogWriter(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${log.async-writer.enabled:false}") boolean enabled,
+            @Value("${log.async-writer.capacity:10000}") int capacity,
+            @Value("${log.async-writer.batch-size:500}") int batchSize,
+            @Value("${log.async-writer.flush-interval:200ms}") Duration flushInterval,
+            @Value("${log.async-writer.spill-path:./data/manager-log-spill.ndjson}") String spillPath
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.spillPath = Path.of(spillPath);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+
+        this.droppedCounter = Counter.builder("log.writer.dropped")
+                .description("큐가 가득 차거나 저장에 실패해서 버린 로그 수 (실패 로그는 파일에서 다시 저장)")
+                .register(meterRegistry);
+        Gauge.builder("log.writer.queue.size", queue, BlockingQueue::size)
+                .description("저장 대기 중인 로그 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 실패 로그 파일을 열고, 이전 실행에서 남은 실패 로그를 먼저 저장한 뒤 writer 시작
+     */
+    @PostConstruct
+    public void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        if (spillPath.getParent() != null) {
+            Files.createDirectories(spillPath.getParent());
+        }
+        spillChannel = FileChannel.open(spillPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        spillBacklog = spillChannel.size() > 0;
+        replaySpill();
+
+        running = true;
+        writerThread = new Thread(this::runLoop, "manager-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * 종료 시 큐에 남은 로그까지 저장 후 멈춤
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException, IOException {
+        running = false;
+        if (writerThread != null) {
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        if (spillChannel != null) {
+            forceSpill();
+            spillChannel.close();
+        }
+    }
+
+    /**
+     * 요청 스레드는 DB 커넥션 없이 큐에 넣기만 함
+     */
+    @Override
+    public void write(Log managerLog) {
+        LogRecord record = LogRecord.of(managerLog);
+        if (record.status == LogStatus.FAILURE) {
+            spill(record);
+        }
+
+        if (!queue.offer(record)) {
+            droppedCounter.increment();
+            if (record.spilled) {
+                // 파일에는 남아 있으므로 다음 재처리 때 저장
+                synchronized (spillLock) {
+                    pendingSpilled--;
+                    spillBacklog = true;
+                }
+            }
+        }
+    }
+
+    private void runLoop() {
+        List<LogRecord> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                LogRecord first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                forceSpill();
+                if (first != null) {
+                    batch.add(first);
+                    collect(batch);
+                    forceSpill();
+                    saveWithRetry(batch);
+                }
+                if (spillBacklog && queue.isEmpty()) {
+                    replaySpillThrottled();
+                } else {
+                    truncateSpillIfDone();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (RuntimeException e) {
+                // 예상하지 못한 오류로 writer가 멈추지 않도록 로그만 남김
+                log.error("매니저 로그 저장 중 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 첫 로그 이후 flush-interval 동안 batch-size 건까지 더 모음
+    private void collect(List<LogRecord> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + flushInterval.toNanos();
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            LogRecord next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void saveWithRetry(List<LogRecord> batch) throws InterruptedException {
+        long spilledCount = batch.stream().filter(record -> record.spilled).count();
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> insert(batch));
+                synchronized (spillLock) {
+                    pendingSpilled -= spilledCount;
+                }
+                return;
+            } catch (RuntimeException e) {
+                log.warn("매니저 로그 {} 건 저장 실패 ({}/{})", batch.size(), attempt, MAX_ATTEMPTS, e);
+                Thread.sleep(100L * attempt);
+            }
+        }
+
+        // 성공 로그는 버리고, 실패 로그는 파일에 남아 있으므로 나중에 다시 저장
+        droppedCounter.increment(batch.size() - spilledCount);
+        synchronized (spillLock) {
+            pendingSpilled -= spilledCount;
+            if (spilledCount > 0) {
+                spillBacklog = true;
+            }
+        }
+    }
+
+    // 호출부 트랜잭션 안에서 실행
+    private void insert(List<LogRecord> records) {
+        // 파일에 기록된 로그는 재처리와 겹칠 수 있어서 이미 저장된 행은 건너뜀
+        Set<String> savedKeys = findSavedFailureKeys(records);
+        List<LogRecord> toInsert = new ArrayList<>(records.size());
+        for (LogRecord record : records) {
+            if (!record.spilled || !savedKeys.contains(record.key())) {
+                toInsert.add(record);
+            }
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_LOG_SQL, toInsert, batchSize, (ps, record) -> {
+            ps.setLong(1, record.todoId);
+            ps.setLong(2, record.requestUserId);
+            ps.setLong(3, record.managerUserId);
+            ps.setString(4, record.status.name());
+            ps.setString(5, record.errorMessage);
+            ps.setTimestamp(6, Timestamp.valueOf(record.createdAt));
+        });
+    }
+
+    // 파일에 기록된 로그의 시각으로 한 번에 조회 (created_at 인덱스, 시각이 마이크로초 단위라 대부분 1건)
+    private Set<String> findSavedFailureKeys(List<LogRecord> records) {
+        Set<Timestamp> createdAts = new LinkedHashSet<>();
+        for (LogRecord record : records) {
+            if (record.spilled) {
+                createdAts.add(Timestamp.valueOf(record.createdAt));
+            }
+        }
+        if (createdAts.isEmpty()) {
+            return Set.of();
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(createdAts.size(), "?"));
+        Set<String> keys = new HashSet<>();
+        jdbcTemplate.query(String.format(SELECT_FAILURE_KEYS_SQL, placeholders), rs -> {
+            keys.add(LogRecord.key(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getTimestamp(4).toLocalDateTime()));
+        }, createdAts.toArray());
+        return keys;
+    }
+
+    /**
+     * 실패 로그를 파일 끝에 한 줄 추가 (fsync는 writer 스레드가 forceSpill에서 모아서 함)
+     */
+    private void spill(LogRecord record) {
+        if (spillChannel == null) {
+            return;
+        }
+        byte[] line;
+        try {
+            line = (objectMapper.writeValueAsString(record.toMap()) + "\n").getBytes(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            log.error("매니저 실패 로그 직렬화 실패", e);
+            return;
+        }
+
+        synchronized (spillLock) {
+            try {
+                ByteBuffer buffer = ByteBuffer.wrap(line);
+                while (buffer.hasRemaining()) {
+                    spillChannel.write(buffer);
+                }
+                spillDirty = true;
+                pendingSpilled++;
+                record.spilled = true;
+            } catch (IOException e) {
+                // 파일에 못 쓰면 큐 저장에만 의존
+                log.error("매니저 실패 로그 파일 기록 실패 - {}", spillPath, e);
+            }
+        }
+    }
+
+    /**
+     * 지난 fsync 이후 파일에 추가된 실패 로그를 한 번에 디스크에 반영
+     * 플래그를 먼저 내리고 반영하므로 그 사이 추가된 로그는 다음 호출에서 반영됨
+     */
+    private void forceSpill() {
+        if (!spillDirty || spillChannel == null) {
+            return;
+        }
+        spillDirty = false;
+        try {
+            spillChannel.force(false);
+        } catch (IOException e) {
+            spillDirty = true;
+            log.error("매니저 실패 로그 파일 반영 실패 - {}", spillPath, e);
+        }
+    }
+
+    private void replaySpillThrottled() {
+        if (System.currentTimeMillis() - lastReplayMillis < REPLAY_INTERVAL_MILLIS) {
+            return;
+        }
+        replaySpill();
+    }
+
+    /**
+     * 파일에 남은 실패 로그를 모두 다시 저장 (이미 저장된 행은 건너뜀)
+     * 잠금은 파일 길이를 읽을 때만 잡고, 그 길이까지(append-only라 바뀌지 않음)를 잠금 밖에서 읽어서 저장
+     * -> 재처리 중에도 요청 스레드의 파일 기록은 기다리지 않음
+     * 파일을 비우는 것은 writer 스레드(truncateSpillIfDone)뿐이라 재처리 중에 앞부분이 바뀌지 않음
+     */
+    private void replaySpill() {
+        long snapshotSize;
+        synchronized (spillLock) {
+            lastReplayMillis = System.currentTimeMillis();
+            try {
+                snapshotSize = spillChannel.size();
+            } catch (IOException e) {
+                log.error("매니저 실패 로그 파일 읽기 실패 - {}", spillPath, e);
+                return;
+            }
+            // 이 시점까지 파일에만 남은 로그는 이번 재처리에 포함, 이후 버려지는 로그는 다시 표시됨
+            spillBacklog = false;
+        }
+
+        try {
+            List<LogRecord> records = readSpill(snapshotSize);
+            for (int from = 0; from < records.size(); from += batchSize) {
+                List<LogRecord> chunk = records.subList(from, Math.min(from + batchSize, records.size()));
+                transactionTemplate.executeWithoutResult(status -> insert(chunk));
+            }
+            if (!records.isEmpty()) {
+                log.info("매니저 실패 로그 파일 재처리 - {} 건", records.size());
+            }
+        } catch (IOException | UncheckedIOException e) {
+            markSpillBacklog();
+            log.error("매니저 실패 로그 파일 읽기 실패 - {}", spillPath, e);
+            return;
+        } catch (RuntimeException e) {
+            markSpillBacklog();
+            log.warn("매니저 실패 로그 파일 재처리 실패, 다음에 다시 시도", e);
+            return;
+        }
+
+        // 큐에서 저장 중인 실패 로그가 없으면 파일을 비움
+        truncateSpillIfDone();
+    }
+
+    private List<LogRecord> readSpill(long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(size));
+        try (FileChannel channel = FileChannel.open(spillPath, StandardOpenOption.READ)) {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, buffer.position()) < 0) {
+                    break;
+                }
+            }
+        }
+
+        List<LogRecord> records = new ArrayList<>();
+        String contents = new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+        for (String line : contents.split("\n")) {
+            if (!line.isBlank()) {
+                records.add(LogRecord.fromJson(objectMapper.readTree(line)));
+            }
+        }
+        return records;
+    }
+
+    private void markSpillBacklog() {
+        synchronized (spillLock) {
+            spillBacklog = true;
+        }
+    }
+
+    private void truncateSpillIfDone() {
+        synchronized (spillLock) {
+            if (spillBacklog || pendingSpilled != 0) {
+                return;
+            }
+            try {
+                if (spillChannel.size() > 0) {
+                    spillChannel.truncate(0);
+                }
+            } catch (IOException e) {
+                log.warn("매니저 실패 로그 파일 정리 실패 - {}", spillPath, e);
+            }
+        }
+    }
+
+    private static final class LogRecord {
+
+        private final Long todoId;
+        private final Long requestUserId;
+        private final Long managerUserId;
+        private final LogStatus status;
+        private final String errorMessage;
+        private final LocalDateTime createdAt;
+        private boolean spilled;
+
+        private LogRecord(Long todoId, Long requestUserId, Long managerUserId, LogStatus status,
+                          String errorMessage, LocalDateTime createdAt, boolean spilled) {
+            this.todoId = todoId;
+            this.requestUserId = requestUserId;
+            this.managerUserId = managerUserId;
+            this.status = status;
+            this.errorMessage = errorMessage;
+            this.createdAt = createdAt;
+            this.spilled = spilled;
+        }
+
+        // 재처리 시 같은 행인지 비교할 수 있도록 DB 컬럼 정밀도(마이크로초)에 맞춤
+        private static LogRecord of(Log managerLog) {
+            return new LogRecord(managerLog.getTodoId(), managerLog.getRequestUserId(), managerLog.getManagerUserId(),
+                    managerLog.getStatus(), LogWriter.truncateErrorMessage(managerLog.getErrorMessage()),
+                    LocalDateTime.now().truncatedTo(ChronoUnit.MICROS), false);
+        }
+
+        private static LogRecord fromJson(JsonNode node) {
+            return new LogRecord(
+                    node.get("todoId").asLong(),
+                    node.get("requestUserId").asLong(),
+                    node.get("managerUserId").asLong(),
+                    LogStatus.valueOf(node.get("status").asText()),
+                    node.hasNonNull("errorMessage") ? node.get("errorMessage").asText() : null,
+                    LocalDateTime.parse(node.get("createdAt").asText()),
+                    true
+            );
+        }
+
+        private String key() {
+            return key(todoId, requestUserId, managerUserId, createdAt);
+        }
+
+        private static String key(long todoId, long requestUserId, long managerUserId, LocalDateTime createdAt) {
+            return todoId + ":" + requestUserId + ":" + managerUserId + ":" + createdAt;
+        }
+
+        private Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("todoId", todoId);
+            map.put("requestUserId", requestUserId);
+            map.put("managerUserId", managerUserId);
+            map.put("status", status.name());
+            map.put("errorMessage", errorMessage);
+            map.put("createdAt", createdAt.toString());
+            return map;
+        }
+    }
+}
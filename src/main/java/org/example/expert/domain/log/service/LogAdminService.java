@@ -0,0 +1,185 @@
+package org.example.expert.domain.log.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.common.dto.CursorPageResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.log.dto.response.LogPurgeResponse;
+import org.example.expert.domain.log.dto.response.LogResponse;
+import org.example.expert.domain.log.entity.LogStatus;
+import org.example.expert.domain.log.repository.LogRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 매니저 등록 로그 조회 / 보관 기간 정리 (관리자용)
+ *
+ * - 조회: todoId / status 조건 + id 키셋 커서, 최신순
+ * - 정리: 보관 기간이 지난 로그를 id 구간(chunk)마다 따로 커밋하며 삭제
+ *   한 트랜잭션이 잠그는 행 수를 chunk 크기로 제한하고 chunk 사이에 잠시 쉬어 로그 저장과 경합을 줄임
+ * - log.retention.enabled=true 일 때 log.retention.cron 주기로 자동 정리
+ *   정리는 오래 걸릴 수 있어서 공용 @Scheduled 스레드(WeatherClient 날씨 갱신 등) 대신 전용 스케줄러 스레드에서 실행
+ *
+ * 월별 테이블(파티션)로 나누지 않은 이유: 스키마를 엔티티에서 생성(ddl-auto)하고 마이그레이션 도구가 없어서
+ * 월마다 테이블과 UNION ALL 뷰를 다시 만들고, 저장(JDBC insert)과 JPA 조회를 월별 테이블로 나눠 보내고,
+ * 테이블 사이에 id가 겹치지 않도록 시퀀스를 따로 둬야 함 (MySQL 파티션은 PK에 created_at이 들어가야 해서 @Id 매핑이 바뀜)
+ * -> 보관 기간 정리는 PK 구간 삭제로도 한 번에 잠그는 행 수를 제한할 수 있어 단일 테이블 유지
+ */
+@Slf4j
+@Service
+public class LogAdminService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_CHUNK_SIZE = 10_000;
+
+    private final LogRepository logRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean retentionEnabled;
+    private final int retentionDays;
+    private final int chunkSize;
+    private final Duration chunkPause;
+    private final String retentionCron;
+    private final AtomicBoolean purging = new AtomicBoolean(false);
+    private ThreadPoolTaskScheduler purgeScheduler;
+
+    public LogAdminService(
+            LogRepository logRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${log.retention.enabled:false}") boolean retentionEnabled,
+            @Value("${log.retention.days:90}") int retentionDays,
+            @Value("${log.retention.chunk-size:1000}") int chunkSize,
+            @Value("${log.retention.chunk-pause:50ms}") Duration chunkPause,
+            @Value("${log.retention.cron:0 30 3 * * *}") String retentionCron
+    ) {
+        this.logRepository = logRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retentionEnabled = retentionEnabled;
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+        this.chunkPause = chunkPause;
+        this.retentionCron = retentionCron;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!retentionEnabled) {
+            return;
+        }
+        purgeScheduler = new ThreadPoolTaskScheduler();
+        purgeScheduler.setPoolSize(1);
+        purgeScheduler.setThreadNamePrefix("log-retention-");
+        purgeScheduler.setDaemon(true);
+        purgeScheduler.initialize();
+        purgeScheduler.schedule(this::scheduledPurge, new CronTrigger(retentionCron));
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (purgeScheduler != null) {
+            purgeScheduler.shutdown();
+        }
+    }
+
+    /**
+     * 로그 목록 조회 (최신순)
+     */
+    public CursorPageResponse<LogResponse> getLogs(Long todoId, LogStatus status, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        Cursor decoded = Cursor.decode(cursor);
+        // 다음 페이지 존재 여부 판단을 위해 size + 1건 조회
+        List<LogResponse> rows = logRepository.findLogsByCursor(
+                todoId, status, decoded != null ? decoded.getId() : null, size + 1);
+
+        return CursorPageResponse.of(rows, size, last -> Cursor.encode(null, last.getId()));
+    }
+
+    /**
+     * 주기적 보관 기간 정리 (purgeScheduler 스레드에서 실행)
+     */
+    public void scheduledPurge() {
+        try {
+            purge(retentionDays, chunkSize);
+        } catch (RuntimeException e) {
+            log.warn("매니저 등록 로그 정리 실패", e);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 로그 삭제
+     * @param retentionDays 보관 일수 (오늘 기준 이 일수보다 오래된 로그 삭제)
+     * @param chunkSize 한 번에 삭제할 id 구간 크기
+     */
+    public LogPurgeResponse purge(int retentionDays, int chunkSize) {
+        if (retentionDays < 1) {
+            throw new InvalidRequestException("retentionDays는 1 이상이어야 합니다.");
+        }
+        if (chunkSize < 1 || chunkSize > MAX_CHUNK_SIZE) {
+            throw new InvalidRequestException("chunkSize는 1 이상 " + MAX_CHUNK_SIZE + " 이하여야 합니다.");
+        }
+        if (!purging.compareAndSet(false, true)) {
+            throw new InvalidRequestException("이미 로그 정리가 진행 중입니다.");
+        }
+
+        try {
+            return purgeBefore(LocalDateTime.now().minusDays(retentionDays), chunkSize);
+        } finally {
+            purging.set(false);
+        }
+    }
+
+    private LogPurgeResponse purgeBefore(LocalDateTime cutoff, int chunkSize) {
+        long startTime = System.currentTimeMillis();
+        Long minId = logRepository.findMinId();
+        Long maxId = logRepository.findMaxIdCreatedBefore(cutoff);
+        if (minId == null || maxId == null) {
+            return new LogPurgeResponse(cutoff, 0, 0, System.currentTimeMillis() - startTime);
+        }
+
+        long chunks = 0;
+        long deletedRows = 0;
+        for (long start = minId; start <= maxId; start += chunkSize) {
+            long fromId = start;
+            long toId = Math.min(start + chunkSize - 1, maxId);
+
+            Integer deleted = transactionTemplate.execute(status -> logRepository.deleteCreatedBefore(fromId, toId, cutoff));
+            deletedRows += deleted != null ? deleted : 0;
+            chunks++;
+
+            if (toId < maxId) {
+                pause();
+            }
+        }
+
+        long elapsed = System.currentTimeMillis() - startTime;
+        log.info("매니저 등록 로그 정리 완료 - cutoff: {}, chunk: {} 개, {} 건, 소요 시간: {} ms",
+                cutoff, chunks, deletedRows, elapsed);
+        return new LogPurgeResponse(cutoff, chunks, deletedRows, elapsed);
+    }
+
+    private void pause() {
+        if (chunkPause.isZero() || chunkPause.isNegative()) {
+            return;
+        }
+        try {
+            Thread.sleep(chunkPause.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerException("로그 정리가 중단되었습니다.");
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.expert.domain.log.service;
+
+import org.example.expert.domain.log.entity.Log;
+
+import java.util.List;
+
+/**
+ * 매니저 등록 로그 저장 방식
+ * SyncLogWriter: 요청 스레드에서 REQUIRES_NEW 트랜잭션으로 바로 저장
+ * AsyncLogWriter: 메모리 큐에 넣고 백그라운드에서 묶어서 저장
+ */
+public interface LogWriter {
+
+    String INSERT_LOG_SQL =
+            "INSERT INTO log (todo_id, request_user_id, manager_user_id, status, error_message, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    int MAX_ERROR_MESSAGE_LENGTH = 500;  // Log.errorMessage 컬럼 길이
+
+    void write(Log managerLog);
+
+    /**
+     * 여러 로그를 한 번에 저장 (담당자 일괄 등록)
+     */
+    default void writeAll(List<Log> managerLogs) {
+        for (Log managerLog : managerLogs) {
+            write(managerLog);
+        }
+    }
+
+    /**
+     * JDBC로 직접 넣을 때 컬럼 길이를 넘는 오류 메시지는 잘라서 저장 (긴 메시지 하나로 묶음 전체가 실패하지 않도록)
+     */
+    static String truncateErrorMessage(String errorMessage) {
+        if (errorMessage != null && errorMessage.length() > MAX_ERROR_MESSAGE_LENGTH) {
+            return errorMessage.substring(0, MAX_ERROR_MESSAGE_LENGTH);
+        }
+        return errorMessage;
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.expert.domain.log.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.log.entity.Log;
+import org.example.expert.domain.log.repository.LogRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 로그를 요청 스레드에서 바로 저장
+ * REQUIRES_NEW: 항상 새로운 트랜잭션을 시작하여 부모 트랜잭션과 독립적으로 실행
+ * 부모 트랜잭션이 롤백되어도 이 로그는 커밋됨 (대신 요청마다 커넥션을 하나 더 사용)
+ */
+@Component
+@RequiredArgsConstructor
+public class SyncLogWriter implements LogWriter {
+
+    private final LogRepository logRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void write(Log managerLog) {
+        logRepository.save(managerLog);
+    }
+
+    /**
+     * IDENTITY 전략이라 JPA saveAll은 건마다 insert -> JDBC batch insert 한 번으로 저장
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void writeAll(List<Log> managerLogs) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_LOG_SQL, managerLogs, managerLogs.size(), (ps, managerLog) -> {
+            ps.setLong(1, managerLog.getTodoId());
+            ps.setLong(2, managerLog.getRequestUserId());
+            ps.setLong(3, managerLog.getManagerUserId());
+            ps.setString(4, managerLog.getStatus().name());
+            ps.setString(5, LogWriter.truncateErrorMessage(managerLog.getErrorMessage()));
+            ps.setTimestamp(6, now);
+        });
+    }
+}
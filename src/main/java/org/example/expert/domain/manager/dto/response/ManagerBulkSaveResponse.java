@@ -0,0 +1,51 @@
+package org.example.expert.domain.manager.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.user.dto.response.UserResponse;
+
+import java.util.List;
+
+/**
+ * 담당자 일괄 등록 결과
+ * 요청한 유저 id 순서대로 유저별 처리 결과를 담음
+ */
+@Getter
+public class ManagerBulkSaveResponse {
+
+    private final int savedCount;
+    private final int skippedCount;   // 이미 담당자이거나 요청 안에서 중복된 유저
+    private final int failedCount;
+    private final List<Result> results;
+
+    public ManagerBulkSaveResponse(int savedCount, int skippedCount, int failedCount, List<Result> results) {
+        this.savedCount = savedCount;
+        this.skippedCount = skippedCount;
+        this.failedCount = failedCount;
+        this.results = results;
+    }
+
+    public enum Status {
+        SAVED,           // 등록됨
+        DUPLICATE,       // 이미 담당자 (건너뜀)
+        USER_NOT_FOUND,  // 존재하지 않는 유저
+        SELF_ASSIGNMENT  // 일정 작성자 본인
+    }
+
+    @Getter
+    public static class Result {
+
+        private final Long managerUserId;
+        private final Status status;
+        private final Long managerId;       // SAVED인 경우만
+        private final UserResponse user;    // SAVED인 경우만
+        private final String message;       // SAVED가 아닌 경우 사유
+
+        public Result(Long managerUserId, Status status, Long managerId, UserResponse user, String message) {
+            this.managerUserId = managerUserId;
+            this.status = status;
+            this.managerId = managerId;
+            this.user = user;
+            this.message = message;
+        }
+    }
+}
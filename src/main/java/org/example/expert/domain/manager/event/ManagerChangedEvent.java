@@ -0,0 +1,17 @@
+package org.example.expert.domain.manager.event;
+
+import lombok.Getter;
+
+/**
+ * 담당자 등록/삭제 이벤트
+ * 담당자 수, 담당자 닉네임 조건이 걸린 검색 결과 캐시 등을 갱신하는 데 사용
+ */
+@Getter
+public class ManagerChangedEvent {
+
+    private final Long todoId;
+
+    public ManagerChangedEvent(Long todoId) {
+        this.todoId = todoId;
+    }
+}
@@ -3,33 +3,53 @@ package org.example.expert.domain.manager.service;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.log.entity.Log;
 import org.example.expert.domain.log.service.LogService;
+import org.example.expert.domain.manager.dto.request.ManagerBulkSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerBulkSaveResponse;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.event.ManagerChangedEvent;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ManagerService {
 
+    private static final String INSERT_MANAGER_SQL = "INSERT INTO managers (user_id, todo_id) VALUES (?, ?)";
+
     private final ManagerRepository managerRepository;
     private final UserRepository userRepository;
     private final TodoRepository todoRepository;
     private final LogService logService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
 
     @Transactional
     public ManagerSaveResponse saveManager(AuthUser authUser, long todoId, ManagerSaveRequest managerSaveRequest) {
@@ -54,6 +74,8 @@ public class ManagerService {
 
             Manager newManagerUser = new Manager(managerUser, todo);
             Manager savedManagerUser = managerRepository.save(newManagerUser);
+            todoRepository.incrementManagerCount(todoId);
+            eventPublisher.publishEvent(new ManagerChangedEvent(todoId));
 
             // 성공 로그 저장 (REQUIRES_NEW로 독립적인 트랜잭션)
             logService.saveSuccessLog(todoId, user.getId(), managerUserId);
@@ -72,6 +94,78 @@ public class ManagerService {
         }
     }
 
+    /**
+     * 담당자 일괄 등록
+     * saveManager를 유저 수만큼 부르면 일정/유저 조회, insert, 로그 트랜잭션이 건마다 반복되어
+     * - 일정 조회 + 권한 확인 1번, 유저는 IN 쿼리 1번, 기존 담당자 확인 1번
+     * - 새 담당자는 JDBC batch insert, 담당자 수 갱신 1번, 로그는 한 번에 저장
+     * - 이미 담당자이거나 요청 안에서 중복된 유저는 건너뛰고, 없는 유저 / 작성자 본인은 실패로 기록
+     */
+    @Transactional
+    public ManagerBulkSaveResponse saveManagers(AuthUser authUser, long todoId, ManagerBulkSaveRequest managerBulkSaveRequest) {
+        User user = User.fromAuthUser(authUser);
+        List<Long> requestedUserIds = managerBulkSaveRequest.getManagerUserIds();
+
+        try {
+            Todo todo = todoRepository.findById(todoId)
+                    .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+
+            if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(user.getId(), todo.getUser().getId())) {
+                throw new InvalidRequestException("담당자를 등록하려고 하는 유저가 유효하지 않거나, 일정을 만든 유저가 아닙니다.");
+            }
+
+            Set<Long> distinctUserIds = new LinkedHashSet<>(requestedUserIds);
+            Map<Long, User> usersById = new HashMap<>();
+            for (User managerUser : userRepository.findAllById(distinctUserIds)) {
+                usersById.put(managerUser.getId(), managerUser);
+            }
+            Set<Long> existingManagerUserIds = new HashSet<>(
+                    managerRepository.findUserIdsByTodoIdAndUserIdIn(todoId, distinctUserIds));
+
+            // 요청 순서대로 결과를 정하고, 새로 등록할 유저만 모음
+            List<ManagerBulkSaveResponse.Status> statuses = new ArrayList<>(requestedUserIds.size());
+            List<Long> newManagerUserIds = new ArrayList<>();
+            Set<Long> seen = new HashSet<>();
+            for (Long managerUserId : requestedUserIds) {
+                ManagerBulkSaveResponse.Status status;
+                if (!usersById.containsKey(managerUserId)) {
+                    status = ManagerBulkSaveResponse.Status.USER_NOT_FOUND;
+                } else if (ObjectUtils.nullSafeEquals(user.getId(), managerUserId)) {
+                    status = ManagerBulkSaveResponse.Status.SELF_ASSIGNMENT;
+                } else if (existingManagerUserIds.contains(managerUserId) || !seen.add(managerUserId)) {
+                    status = ManagerBulkSaveResponse.Status.DUPLICATE;
+                } else {
+                    status = ManagerBulkSaveResponse.Status.SAVED;
+                    newManagerUserIds.add(managerUserId);
+                }
+                statuses.add(status);
+            }
+
+            List<Long> managerIds = insertManagers(todoId, newManagerUserIds);
+            if (!newManagerUserIds.isEmpty()) {
+                todoRepository.addManagerCount(todoId, newManagerUserIds.size());
+                eventPublisher.publishEvent(new ManagerChangedEvent(todoId));
+            }
+
+            ManagerBulkSaveResponse response = toBulkSaveResponse(requestedUserIds, statuses, newManagerUserIds, managerIds, usersById);
+            logService.saveLogs(toLogs(todoId, user.getId(), response.getResults()));
+            return response;
+        } catch (Exception e) {
+            // 일괄 등록 자체가 실패하면 요청한 유저 모두 실패 로그 저장 후 원래 예외를 다시 던짐
+            List<Log> failureLogs = new ArrayList<>(requestedUserIds.size());
+            for (Long managerUserId : requestedUserIds) {
+                failureLogs.add(Log.failure(todoId, user.getId(), managerUserId, e.getMessage()));
+            }
+            try {
+                logService.saveLogs(failureLogs);
+            } catch (RuntimeException logException) {
+                // 로그 저장 실패가 원래 예외를 가리지 않도록 suppressed로 붙임
+                e.addSuppressed(logException);
+            }
+            throw e;
+        }
+    }
+
     public List<ManagerResponse> getManagers(long todoId) {
         Todo todo = todoRepository.findById(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
@@ -108,5 +202,88 @@ public class ManagerService {
         }
 
         managerRepository.delete(manager);
+        todoRepository.decrementManagerCount(todoId);
+        eventPublisher.publishEvent(new ManagerChangedEvent(todoId));
+    }
+
+    // 현재 트랜잭션 커넥션에서 batch insert 후 생성된 id를 순서대로 반환
+    private List<Long> insertManagers(long todoId, List<Long> managerUserIds) {
+        if (managerUserIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            List<Long> managerIds = new ArrayList<>(managerUserIds.size());
+            try (PreparedStatement pstmt = connection.prepareStatement(INSERT_MANAGER_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (Long managerUserId : managerUserIds) {
+                    pstmt.setLong(1, managerUserId);
+                    pstmt.setLong(2, todoId);
+                    pstmt.addBatch();
+                }
+                pstmt.executeBatch();
+
+                try (ResultSet keys = pstmt.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        managerIds.add(keys.getLong(1));
+                    }
+                }
+            }
+            if (managerIds.size() != managerUserIds.size()) {
+                throw new ServerException("생성된 담당자 id 수가 일치하지 않습니다.");
+            }
+            return managerIds;
+        });
+    }
+
+    private ManagerBulkSaveResponse toBulkSaveResponse(List<Long> requestedUserIds, List<ManagerBulkSaveResponse.Status> statuses,
+                                                       List<Long> newManagerUserIds, List<Long> managerIds, Map<Long, User> usersById) {
+        Map<Long, Long> managerIdsByUserId = new HashMap<>();
+        for (int i = 0; i < newManagerUserIds.size(); i++) {
+            managerIdsByUserId.put(newManagerUserIds.get(i), managerIds.get(i));
+        }
+
+        List<ManagerBulkSaveResponse.Result> results = new ArrayList<>(requestedUserIds.size());
+        int saved = 0;
+        int skipped = 0;
+        int failed = 0;
+        Set<Long> reported = new HashSet<>();
+        for (int i = 0; i < requestedUserIds.size(); i++) {
+            Long managerUserId = requestedUserIds.get(i);
+            ManagerBulkSaveResponse.Status status = statuses.get(i);
+            switch (status) {
+                case SAVED -> {
+                    saved++;
+                    User managerUser = usersById.get(managerUserId);
+                    results.add(new ManagerBulkSaveResponse.Result(managerUserId, status, managerIdsByUserId.get(managerUserId),
+                            new UserResponse(managerUser.getId(), managerUser.getEmail(), managerUser.getNickname()), null));
+                }
+                case DUPLICATE -> {
+                    skipped++;
+                    String message = reported.contains(managerUserId) ? "요청에 중복된 유저입니다." : "이미 등록된 담당자입니다.";
+                    results.add(new ManagerBulkSaveResponse.Result(managerUserId, status, null, null, message));
+                }
+                case USER_NOT_FOUND -> {
+                    failed++;
+                    results.add(new ManagerBulkSaveResponse.Result(managerUserId, status, null, null,
+                            "등록하려고 하는 담당자 유저가 존재하지 않습니다."));
+                }
+                case SELF_ASSIGNMENT -> {
+                    failed++;
+                    results.add(new ManagerBulkSaveResponse.Result(managerUserId, status, null, null,
+                            "일정 작성자는 본인을 담당자로 등록할 수 없습니다."));
+                }
+            }
+            reported.add(managerUserId);
+        }
+        return new ManagerBulkSaveResponse(saved, skipped, failed, results);
+    }
+
+    private List<Log> toLogs(long todoId, Long requestUserId, List<ManagerBulkSaveResponse.Result> results) {
+        List<Log> logs = new ArrayList<>(results.size());
+        for (ManagerBulkSaveResponse.Result result : results) {
+            logs.add(result.getStatus() == ManagerBulkSaveResponse.Status.SAVED
+                    ? Log.success(todoId, requestUserId, result.getManagerUserId())
+                    : Log.failure(todoId, requestUserId, result.getManagerUserId(), result.getMessage()));
+        }
+        return logs;
     }
 }
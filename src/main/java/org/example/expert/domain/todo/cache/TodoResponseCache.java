@@ -0,0 +1,77 @@
+package org.example.expert.domain.todo.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.event.TodoBatchSavedEvent;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 일정 단건 조회(GET /todos/{todoId}) 응답 로컬 캐시
+ * 일정은 변경보다 조회가 훨씬 많아서 매번 fetch join 쿼리를 날리지 않도록 TodoResponse를 id 기준으로 보관
+ *
+ * - 최대 크기 + TTL로 제거, hit/miss/eviction 지표는 cache.* 메트릭(cache=todoResponse)으로 노출
+ * - 일정이 바뀌면 커밋 이후 무효화 (작성자 닉네임/이메일 변경 API는 아직 없음, 생기면 여기서도 무효화해야 함)
+ * - todo.cache.enabled=false 로 끌 수 있음
+ */
+@Slf4j
+@Component
+public class TodoResponseCache {
+
+    public static final String CACHE_NAME = "todoResponse";
+
+    private final boolean enabled;
+    private final Cache<Long, TodoResponse> cache;
+
+    public TodoResponseCache(
+            MeterRegistry meterRegistry,
+            @Value("${todo.cache.enabled:true}") boolean enabled,
+            @Value("${todo.cache.maximum-size:10000}") long maximumSize,
+            @Value("${todo.cache.ttl:10m}") Duration ttl
+    ) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시에 있으면 반환, 없으면 loader로 조회 후 저장 (같은 id 동시 miss는 한 번만 조회)
+     */
+    public TodoResponse get(long todoId, Function<Long, TodoResponse> loader) {
+        if (!enabled) {
+            return loader.apply(todoId);
+        }
+        return cache.get(todoId, loader);
+    }
+
+    public void evict(long todoId) {
+        cache.invalidate(todoId);
+    }
+
+    /**
+     * 일정 저장/변경 커밋 후 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTodoSaved(TodoSavedEvent event) {
+        evict(event.getTodoId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTodoBatchSaved(TodoBatchSavedEvent event) {
+        cache.invalidateAll(event.getTodoIds());
+    }
+}
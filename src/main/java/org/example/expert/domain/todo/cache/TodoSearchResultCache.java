@@ -0,0 +1,222 @@
+package org.example.expert.domain.todo.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.EqualsAndHashCode;
+import org.example.expert.domain.comment.event.CommentBatchSavedEvent;
+import org.example.expert.domain.comment.event.CommentSavedEvent;
+import org.example.expert.domain.manager.event.ManagerChangedEvent;
+import org.example.expert.domain.todo.dto.request.TodoSearchRequest;
+import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.event.TodoBatchSavedEvent;
+import org.example.expert.domain.todo.event.TodoCountersRebuiltEvent;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * 일정 검색(GET /todos/search) 결과 캐시
+ * 대시보드가 같은 검색 조건을 초당 여러 번 반복 조회해서, 정규화한 검색 조건 + 페이지를 키로 짧게 보관
+ *
+ * - 키에 전역 쓰기 버전을 포함, 일정/댓글/담당자 쓰기와 카운터 재계산마다 버전을 올려 이전 결과는 다시 쓰이지 않음
+ *   (이벤트 발행 시점과 커밋 직후 두 번 올림 -> 커밋 전에 읽어 간 결과가 새 버전 키로 남지 않음)
+ * - 같은 키 동시 miss는 한 번만 조회 (Caffeine get(key, loader))
+ * - 조건 조합(shape)별 hit/miss는 todo.search.cache.requests{shape, result} 카운터로 노출
+ * - todo.search-cache.enabled=false 로 끌 수 있음
+ */
+@Component
+public class TodoSearchResultCache {
+
+    public static final String CACHE_NAME = "todoSearchResult";
+    private static final String REQUESTS_METRIC = "todo.search.cache.requests";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Cache<Key, Page<TodoSearchResponse>> cache;
+    private final AtomicLong writeVersion = new AtomicLong();
+
+    public TodoSearchResultCache(
+            MeterRegistry meterRegistry,
+            @Value("${todo.search-cache.enabled:true}") boolean enabled,
+            @Value("${todo.search-cache.maximum-size:1000}") long maximumSize,
+            @Value("${todo.search-cache.ttl:5s}") Duration ttl
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시에 있으면 반환, 없으면 loader로 조회 후 저장
+     */
+    public Page<TodoSearchResponse> get(TodoSearchRequest request, Pageable pageable, Supplier<Page<TodoSearchResponse>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        Key key = Key.of(writeVersion.get(), request, pageable);
+        boolean[] loaded = {false};
+        Page<TodoSearchResponse> result = cache.get(key, k -> {
+            loaded[0] = true;
+            return loader.get();
+        });
+        record(key.shape(), loaded[0] ? "miss" : "hit");
+        return result;
+    }
+
+    @EventListener
+    public void onTodoSaved(TodoSavedEvent event) {
+        bumpVersion();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void afterTodoSaved(TodoSavedEvent event) {
+        bumpVersion();
+    }
+
+    @EventListener
+    public void onTodoBatchSaved(TodoBatchSavedEvent event) {
+        bumpVersion();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void afterTodoBatchSaved(TodoBatchSavedEvent event) {
+        bumpVersion();
+    }
+
+    @EventListener
+    public void onCommentSaved(CommentSavedEvent event) {
+        bumpVersion();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void afterCommentSaved(CommentSavedEvent event) {
+        bumpVersion();
+    }
+
+    @EventListener
+    public void onCommentBatchSaved(CommentBatchSavedEvent event) {
+        bumpVersion();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void afterCommentBatchSaved(CommentBatchSavedEvent event) {
+        bumpVersion();
+    }
+
+    @EventListener
+    public void onManagerChanged(ManagerChangedEvent event) {
+        bumpVersion();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void afterManagerChanged(ManagerChangedEvent event) {
+        bumpVersion();
+    }
+
+    // 재계산 chunk가 커밋된 뒤 트랜잭션 밖에서 발행되므로 한 번만 올림
+    @EventListener
+    public void onCountersRebuilt(TodoCountersRebuiltEvent event) {
+        bumpVersion();
+    }
+
+    private void bumpVersion() {
+        writeVersion.incrementAndGet();
+    }
+
+    private void record(String shape, String result) {
+        // 같은 이름 + 태그면 Micrometer가 기존 카운터를 돌려줌
+        Counter.builder(REQUESTS_METRIC)
+                .tag("shape", shape)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 정규화한 검색 키
+     * 검색은 모두 대소문자 무시 + 공백만 있는 조건은 조건 없음으로 처리되므로, 같은 결과를 내는 요청은 같은 키가 되도록 맞춤
+     */
+    @EqualsAndHashCode
+    private static final class Key {
+
+        private final long version;
+        private final String title;
+        private final String keyword;
+        private final LocalDateTime startDate;
+        private final LocalDateTime endDate;
+        private final String managerNickname;
+        private final long offset;
+        private final int size;
+
+        private Key(long version, String title, String keyword, LocalDateTime startDate, LocalDateTime endDate,
+                    String managerNickname, long offset, int size) {
+            this.version = version;
+            this.title = title;
+            this.keyword = keyword;
+            this.startDate = startDate;
+            this.endDate = endDate;
+            this.managerNickname = managerNickname;
+            this.offset = offset;
+            this.size = size;
+        }
+
+        private static Key of(long version, TodoSearchRequest request, Pageable pageable) {
+            return new Key(
+                    version,
+                    normalize(request.getTitle()),
+                    normalize(request.getKeyword()),
+                    request.getStartDate(),
+                    request.getEndDate(),
+                    normalize(request.getManagerNickname()),
+                    pageable.getOffset(),
+                    pageable.getPageSize()
+            );
+        }
+
+        private static String normalize(String text) {
+            return hasText(text) ? text.toLowerCase(Locale.ROOT) : null;
+        }
+
+        // 어떤 조건이 들어 있는지만 표시 (예: title+managerNickname), 없으면 none
+        private String shape() {
+            StringJoiner joiner = new StringJoiner("+");
+            joiner.setEmptyValue("none");
+            if (title != null) {
+                joiner.add("title");
+            }
+            if (keyword != null) {
+                joiner.add("keyword");
+            }
+            if (startDate != null || endDate != null) {
+                joiner.add("date");
+            }
+            if (managerNickname != null) {
+                joiner.add("managerNickname");
+            }
+            return joiner.toString();
+        }
+    }
+}
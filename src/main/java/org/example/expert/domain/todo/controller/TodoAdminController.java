@@ -0,0 +1,55 @@
+package org.example.expert.domain.todo.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.response.TodoCounterRebuildResponse;
+import org.example.expert.domain.todo.dto.response.TodoSearchIndexRebuildResponse;
+import org.example.expert.domain.todo.dto.response.TodoSummaryRebuildResponse;
+import org.example.expert.domain.todo.search.TodoSearchIndex;
+import org.example.expert.domain.todo.service.TodoCounterService;
+import org.example.expert.domain.todo.service.TodoSummaryService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class TodoAdminController {
+
+    private final TodoCounterService todoCounterService;
+    private final TodoSearchIndex todoSearchIndex;
+    private final TodoSummaryService todoSummaryService;
+
+    /**
+     * 일정 담당자 수 / 댓글 수 카운터 재계산 (ADMIN 전용)
+     * POST /admin/todos/counters/rebuild?chunkSize=1000
+     */
+    @PostMapping("/admin/todos/counters/rebuild")
+    public ResponseEntity<TodoCounterRebuildResponse> rebuildCounters(
+            @RequestParam(defaultValue = "1000") int chunkSize
+    ) {
+        return ResponseEntity.ok(todoCounterService.rebuildCounters(chunkSize));
+    }
+
+    /**
+     * 일정 검색 인덱스 DB 기준 재구축 (ADMIN 전용)
+     * POST /admin/todos/search-index/rebuild
+     */
+    @PostMapping("/admin/todos/search-index/rebuild")
+    public ResponseEntity<TodoSearchIndexRebuildResponse> rebuildSearchIndex() {
+        long startTime = System.currentTimeMillis();
+        long indexedCount = todoSearchIndex.rebuild();
+        return ResponseEntity.ok(new TodoSearchIndexRebuildResponse(indexedCount, System.currentTimeMillis() - startTime));
+    }
+
+    /**
+     * 일정 읽기 모델(todo_summary) 원본 테이블 기준 재구축 (ADMIN 전용)
+     * POST /admin/todos/read-model/rebuild?chunkSize=1000
+     */
+    @PostMapping("/admin/todos/read-model/rebuild")
+    public ResponseEntity<TodoSummaryRebuildResponse> rebuildReadModel(
+            @RequestParam(defaultValue = "1000") int chunkSize
+    ) {
+        return ResponseEntity.ok(todoSummaryService.rebuild(chunkSize));
+    }
+}
@@ -1,26 +1,51 @@
 package org.example.expert.domain.todo.controller;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorPageResponse;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSearchRequest;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.dto.response.TodoSuggestResponse;
+import org.example.expert.domain.todo.service.TodoExportService;
+import org.example.expert.domain.todo.service.TodoImportService;
 import org.example.expert.domain.todo.service.TodoService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
 public class TodoController {
 
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+    private static final String CSV_VALUE = "text/csv";
+
     private final TodoService todoService;
+    private final TodoExportService todoExportService;
+    private final TodoImportService todoImportService;
+
+    @Value("${todo.export.timeout:30m}")
+    private Duration exportTimeout;
 
     @PostMapping("/todos")
     public ResponseEntity<TodoSaveResponse> saveTodo(
@@ -30,6 +55,21 @@ public class TodoController {
         return ResponseEntity.ok(todoService.saveTodo(authUser, todoSaveRequest));
     }
 
+    /**
+     * 일정 대량 등록 (CSV 또는 NDJSON 본문을 스트리밍으로 읽음)
+     * CSV: title,contents[,createdAt] / NDJSON: 한 줄에 {"title", "contents", "createdAt"} 하나
+     * 작성자가 담당자로 등록되고, 날씨는 createdAt 날짜 기준으로 조회
+     */
+    @PostMapping(value = "/todos/import", consumes = {CSV_VALUE, NDJSON_VALUE})
+    public ResponseEntity<TodoImportResponse> importTodos(
+            @Auth AuthUser authUser,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body
+    ) throws IOException {
+        boolean ndjson = NDJSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+        return ResponseEntity.ok(todoImportService.importTodos(authUser, body, ndjson));
+    }
+
     @GetMapping("/todos")
     public ResponseEntity<Page<TodoResponse>> getTodos(
             @RequestParam(defaultValue = "1") int page,
@@ -41,6 +81,45 @@ public class TodoController {
         return ResponseEntity.ok(todoService.getTodos(page, size, weather, startDate, endDate));
     }
 
+    /**
+     * 커서(키셋) 기반 일정 목록 조회
+     * 응답의 nextCursor를 다음 요청의 cursor로 전달, 깊은 페이지도 첫 페이지와 같은 비용
+     */
+    @GetMapping("/todos/cursor")
+    public ResponseEntity<CursorPageResponse<TodoResponse>> getTodosByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String weather,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate
+    ) {
+        return ResponseEntity.ok(todoService.getTodosByCursor(cursor, size, weather, startDate, endDate));
+    }
+
+    /**
+     * 일정 전체 NDJSON 스트리밍 내보내기 (리포팅용)
+     * getTodos와 같은 조건, 페이지 없이 한 번의 응답으로 전체를 흘려보냄
+     * 비동기 요청 기본 타임아웃(Tomcat 30초)에 끊기지 않도록 todo.export.timeout을 이 요청에만 적용
+     * @param gzip true면 gzip 압축 (Content-Encoding: gzip)
+     */
+    @GetMapping("/todos/export")
+    public WebAsyncTask<Void> exportTodos(
+            @RequestParam(required = false) String weather,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response
+    ) {
+        response.setContentType(NDJSON_VALUE);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return new WebAsyncTask<>(exportTimeout.toMillis(), () -> {
+            todoExportService.exportTodos(response.getOutputStream(), gzip, weather, startDate, endDate);
+            return null;
+        });
+    }
+
     @GetMapping("/todos/{todoId}")
     public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
         return ResponseEntity.ok(todoService.getTodo(todoId));
@@ -59,4 +138,43 @@ public class TodoController {
         Pageable pageable = PageRequest.of(page - 1, size);
         return ResponseEntity.ok(todoService.searchTodos(request, pageable));
     }
+
+    /**
+     * 일정 제목 자동완성 API (검색창 입력마다 호출)
+     * 접두어로 시작하는 제목을 중복 없이 최근 일정 순으로 반환
+     */
+    @GetMapping("/todos/suggest")
+    public ResponseEntity<List<TodoSuggestResponse>> suggestTodos(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(todoService.suggestTodos(prefix, size));
+    }
+
+    /**
+     * 전체 개수(count) 없이 조회하는 일정 검색 API (무한 스크롤용)
+     * 응답의 last / numberOfElements로 다음 페이지 여부 판단
+     */
+    @GetMapping("/todos/search/slice")
+    public ResponseEntity<Slice<TodoSearchResponse>> searchTodosSlice(
+            @ModelAttribute TodoSearchRequest request,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        Pageable pageable = PageRequest.of(page - 1, size);
+        return ResponseEntity.ok(todoService.searchTodosSlice(request, pageable));
+    }
+
+    /**
+     * 커서(키셋) 기반 일정 검색
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지면 생략
+     */
+    @GetMapping("/todos/search/cursor")
+    public ResponseEntity<CursorPageResponse<TodoSearchResponse>> searchTodosByCursor(
+            @ModelAttribute TodoSearchRequest request,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(todoService.searchTodosByCursor(request, cursor, size));
+    }
 }
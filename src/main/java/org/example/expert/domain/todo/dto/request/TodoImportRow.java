@@ -0,0 +1,21 @@
+package org.example.expert.domain.todo.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일정 대량 등록 한 행 (CSV: title,contents[,createdAt] / NDJSON: {"title", "contents", "createdAt"})
+ * createdAt이 없으면 등록 시각 사용, 날씨는 createdAt 날짜 기준으로 조회
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoImportRow {
+
+    private String title;
+    private String contents;
+    private LocalDateTime createdAt;
+}
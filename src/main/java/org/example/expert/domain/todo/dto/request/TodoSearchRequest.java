@@ -17,6 +17,7 @@ import java.time.LocalDateTime;
 public class TodoSearchRequest {
 
     private String title;
+    private String keyword;  // 제목 또는 내용
     private LocalDateTime startDate;
     private LocalDateTime endDate;
     private String managerNickname;
@@ -0,0 +1,15 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TodoCounterRebuildResponse {
+
+    private final long chunks;       // 처리한 chunk 수
+    private final long updatedRows;  // 갱신한 일정 수
+
+    public TodoCounterRebuildResponse(long chunks, long updatedRows) {
+        this.chunks = chunks;
+        this.updatedRows = updatedRows;
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 일정 대량 등록 결과
+ * chunk(커밋 단위)별 처리 결과와 실패한 행 목록
+ */
+@Getter
+public class TodoImportResponse {
+
+    private final long totalRows;
+    private final long insertedRows;
+    private final long failedRows;
+    private final List<ChunkResult> chunks;
+    private final List<RowError> errors;  // 최대 MAX_REPORTED_ERRORS건까지만 포함
+
+    public TodoImportResponse(long totalRows, long insertedRows, long failedRows, List<ChunkResult> chunks, List<RowError> errors) {
+        this.totalRows = totalRows;
+        this.insertedRows = insertedRows;
+        this.failedRows = failedRows;
+        this.chunks = chunks;
+        this.errors = errors;
+    }
+
+    @Getter
+    public static class ChunkResult {
+
+        private final int chunk;          // chunk 순번 (1부터)
+        private final int rows;           // chunk에 담긴 행 수
+        private final int inserted;       // 커밋된 행 수
+        private final long elapsedMillis; // chunk 저장 소요 시간
+        private final String error;       // chunk 전체가 롤백된 경우 사유
+
+        public ChunkResult(int chunk, int rows, int inserted, long elapsedMillis, String error) {
+            this.chunk = chunk;
+            this.rows = rows;
+            this.inserted = inserted;
+            this.elapsedMillis = elapsedMillis;
+            this.error = error;
+        }
+    }
+
+    @Getter
+    public static class RowError {
+
+        private final long line;     // 입력 줄 번호 (1부터)
+        private final String message;
+
+        public RowError(long line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+    }
+}
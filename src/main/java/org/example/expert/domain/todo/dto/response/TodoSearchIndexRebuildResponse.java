@@ -0,0 +1,15 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TodoSearchIndexRebuildResponse {
+
+    private final long indexedCount;    // 인덱싱한 일정 수
+    private final long elapsedMillis;   // 소요 시간 (ms)
+
+    public TodoSearchIndexRebuildResponse(long indexedCount, long elapsedMillis) {
+        this.indexedCount = indexedCount;
+        this.elapsedMillis = elapsedMillis;
+    }
+}
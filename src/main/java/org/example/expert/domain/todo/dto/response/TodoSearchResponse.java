@@ -3,6 +3,8 @@ package org.example.expert.domain.todo.dto.response;
 import com.querydsl.core.annotations.QueryProjection;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+
 /**
  * QueryDSL Projections를 활용한 검색 응답 DTO
  * 필요한 필드만 선택적으로 조회하여 성능 최적화
@@ -10,18 +12,22 @@ import lombok.Getter;
 @Getter
 public class TodoSearchResponse {
 
+    private final Long id;                // 일정 id (커서 생성용)
     private final String title;           // 일정 제목
     private final Long managerCount;      // 담당자 수
     private final Long commentCount;      // 댓글 개수
+    private final LocalDateTime createdAt; // 생성일 (커서 생성용)
 
     /**
      * @QueryProjection: QueryDSL이 DTO를 직접 생성할 수 있도록 지원
      * Q클래스에 생성자가 포함되어 타입 안전하게 Projection 가능
      */
     @QueryProjection
-    public TodoSearchResponse(String title, Long managerCount, Long commentCount) {
+    public TodoSearchResponse(Long id, String title, Long managerCount, Long commentCount, LocalDateTime createdAt) {
+        this.id = id;
         this.title = title;
         this.managerCount = managerCount;
         this.commentCount = commentCount;
+        this.createdAt = createdAt;
     }
 }
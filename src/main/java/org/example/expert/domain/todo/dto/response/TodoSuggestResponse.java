@@ -0,0 +1,21 @@
+package org.example.expert.domain.todo.dto.response;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+
+/**
+ * 일정 제목 자동완성 응답 DTO
+ * 같은 제목이 여러 일정에 있으면 가장 최근 일정 id 하나만 포함
+ */
+@Getter
+public class TodoSuggestResponse {
+
+    private final Long todoId;
+    private final String title;
+
+    @QueryProjection
+    public TodoSuggestResponse(Long todoId, String title) {
+        this.todoId = todoId;
+        this.title = title;
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TodoSummaryRebuildResponse {
+
+    private final long chunks;         // 처리한 chunk 수
+    private final long rebuiltRows;    // 다시 만든 읽기 모델 행 수
+    private final long elapsedMillis;  // 소요 시간
+
+    public TodoSummaryRebuildResponse(long chunks, long rebuiltRows, long elapsedMillis) {
+        this.chunks = chunks;
+        this.rebuiltRows = rebuiltRows;
+        this.elapsedMillis = elapsedMillis;
+    }
+}
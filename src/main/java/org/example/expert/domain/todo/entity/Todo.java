@@ -3,6 +3,7 @@ package org.example.expert.domain.todo.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
@@ -14,7 +15,10 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+@Table(name = "todos", indexes = {
+        @Index(name = "idx_todos_modified_at_id", columnList = "modified_at, id"),  // GET /todos 키셋 페이지네이션
+        @Index(name = "idx_todos_created_at_id", columnList = "created_at, id")     // GET /todos/search 키셋 페이지네이션
+})
 public class Todo extends Timestamped {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -23,6 +27,15 @@ public class Todo extends Timestamped {
     private String contents;
     private String weather;
 
+    // 검색 시 size() 서브쿼리 대신 읽는 비정규화 카운터 (UPDATE ... SET x = x + 1 로만 갱신)
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long managerCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long commentCount;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -39,5 +52,6 @@ public class Todo extends Timestamped {
         this.weather = weather;
         this.user = user;
         this.managers.add(new Manager(user, this));
+        this.managerCount = 1;  // 작성자가 기본 담당자로 함께 저장됨
     }
 }
@@ -0,0 +1,64 @@
+package org.example.expert.domain.todo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일정 목록/검색용 읽기 모델 (일정 1건당 1행)
+ * todos, users, managers, comments를 조인하지 않고 이 테이블 하나만 읽도록 필요한 값을 미리 펼쳐 둠
+ * 쓰기 커밋 이벤트로 갱신되고, 어긋나면 관리자 재구축으로 복구 (TodoSummaryService)
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "todo_summary", indexes = {
+        @Index(name = "idx_todo_summary_modified_at_id", columnList = "modified_at, id"),
+        @Index(name = "idx_todo_summary_created_at_id", columnList = "created_at, id")
+})
+public class TodoSummary {
+
+    public static final String NICKNAME_SEPARATOR = "\n";
+    public static final int MAX_NICKNAMES_LENGTH = 2000;
+
+    @Id
+    private Long id;  // todos.id
+    private String title;
+    private String contents;
+    private String weather;
+
+    // 작성자
+    private Long userId;
+    private String authorNickname;
+    private String authorEmail;
+
+    private long managerCount;
+    private long commentCount;
+
+    // 담당자 닉네임 목록 (NICKNAME_SEPARATOR로 구분, 담당자 닉네임 검색용)
+    @Column(length = MAX_NICKNAMES_LENGTH)
+    private String managerNicknames;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime modifiedAt;
+
+    public TodoSummary(Long id, String title, String contents, String weather,
+                       Long userId, String authorNickname, String authorEmail,
+                       long managerCount, long commentCount, String managerNicknames,
+                       LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this.id = id;
+        this.title = title;
+        this.contents = contents;
+        this.weather = weather;
+        this.userId = userId;
+        this.authorNickname = authorNickname;
+        this.authorEmail = authorEmail;
+        this.managerCount = managerCount;
+        this.commentCount = commentCount;
+        this.managerNicknames = managerNicknames;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.expert.domain.todo.event;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 일정 묶음 저장 이벤트 (대량 등록 chunk 커밋마다 한 번)
+ * 검색 인덱스 등은 묶음 단위로 한 번에 반영하고, 캐시 버전도 한 번만 올림
+ */
+@Getter
+public class TodoBatchSavedEvent {
+
+    private final List<TodoSavedEvent> todos;
+
+    public TodoBatchSavedEvent(List<TodoSavedEvent> todos) {
+        this.todos = List.copyOf(todos);
+    }
+
+    public List<Long> getTodoIds() {
+        return todos.stream().map(TodoSavedEvent::getTodoId).toList();
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.expert.domain.todo.event;
+
+import lombok.Getter;
+
+/**
+ * 일정 카운터(managerCount, commentCount) 재계산 이벤트
+ * 관리자 재계산의 chunk 하나가 커밋될 때마다 발행 (트랜잭션 밖에서 발행)
+ */
+@Getter
+public class TodoCountersRebuiltEvent {
+
+    private final Long fromId;
+    private final Long toId;
+
+    public TodoCountersRebuiltEvent(Long fromId, Long toId) {
+        this.fromId = fromId;
+        this.toId = toId;
+    }
+}
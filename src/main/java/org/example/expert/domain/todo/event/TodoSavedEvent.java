@@ -0,0 +1,32 @@
+package org.example.expert.domain.todo.event;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일정 저장 이벤트
+ * 트랜잭션 커밋 이후(@TransactionalEventListener AFTER_COMMIT) 검색 인덱스 등 부가 저장소 갱신에 사용
+ */
+@Getter
+public class TodoSavedEvent {
+
+    private final Long todoId;
+    private final String title;
+    private final String contents;
+    private final String weather;
+    private final Long userId;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime modifiedAt;
+
+    public TodoSavedEvent(Long todoId, String title, String contents, String weather, Long userId,
+                          LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this.todoId = todoId;
+        this.title = title;
+        this.contents = contents;
+        this.weather = weather;
+        this.userId = userId;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+    }
+}
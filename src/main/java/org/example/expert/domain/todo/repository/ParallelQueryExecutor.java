@@ -0,0 +1,216 @@
+package org.example.expert.domain.todo.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.ServerException;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * 독립적인 조회 쿼리 두 개를 동시에 실행 (검색 content + count 쿼리용)
+ * 순서대로 실행하면 응답 시간이 두 쿼리의 합이 되므로, 크기가 정해진 전용 스레드 풀에서 동시에 실행해 max로 줄임
+ *
+ * - 쿼리마다 별도의 읽기 전용 EntityManager(= 별도 커넥션)를 사용, 요청 스레드의 영속성 컨텍스트와 공유하지 않음
+ * - 한쪽이 실패하거나 timeout을 넘기면 다른 쪽도 취소 (스레드 interrupt + 실행 중인 JDBC 문장 cancel)
+ * - 풀이 가득 차거나, 대기열에 들어간 쿼리가 timeout 안에 시작하지 못하면 null을 반환 -> 호출부는 기존 순차 실행으로 처리
+ * - 호출부는 트랜잭션 밖에서 불러야 함 (바깥 트랜잭션이 커넥션을 잡은 채로 두 개를 더 빌리지 않도록)
+ * - 풀 사용량은 executor.* 메트릭(name=todoSearchQuery)으로 노출
+ *
+ * Java 17이라 가상 스레드 대신 고정 크기 풀 사용, 풀 크기 x 2 이상으로 커넥션 풀(Hikari) 여유가 있어야 함
+ */
+@Slf4j
+@Component
+public class ParallelQueryExecutor {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final boolean enabled;
+    private final Duration timeout;
+    private final ExecutorService executor;
+
+    public ParallelQueryExecutor(
+            EntityManagerFactory entityManagerFactory,
+            MeterRegistry meterRegistry,
+            @Value("${todo.search.parallel.enabled:false}") boolean enabled,
+            @Value("${todo.search.parallel.pool-size:4}") int poolSize,
+            @Value("${todo.search.parallel.timeout:3s}") Duration timeout
+    ) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.enabled = enabled;
+        this.timeout = timeout;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor threadPool = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(poolSize * 4),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "todo-search-query-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, threadPool, "todoSearchQuery");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 두 쿼리를 동시에 실행하고 둘 다 끝날 때까지 대기 (한쪽이 먼저 실패하면 그때 다른 쪽을 취소)
+     * @return 두 결과, 풀이 가득 찼거나 대기열에서 timeout 안에 시작하지 못하면 null
+     */
+    @SuppressWarnings("unchecked")
+    public <A, B> Results<A, B> execute(Function<JPAQueryFactory, A> first, Function<JPAQueryFactory, B> second) {
+        QueryTask<A> firstTask = new QueryTask<>(first);
+        QueryTask<B> secondTask = new QueryTask<>(second);
+        // 끝난 순서대로 꺼내서 먼저 실패한 쪽이 있으면 다른 쪽을 기다리지 않고 바로 취소
+        CompletionService<Object> completionService = new ExecutorCompletionService<>(executor);
+
+        Future<Object> firstFuture;
+        Future<Object> secondFuture;
+        try {
+            firstFuture = completionService.submit(firstTask::run);
+        } catch (RejectedExecutionException e) {
+            return null;
+        }
+        try {
+            secondFuture = completionService.submit(secondTask::run);
+        } catch (RejectedExecutionException e) {
+            firstTask.cancel(firstFuture);
+            return null;
+        }
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+        try {
+            for (int i = 0; i < 2; i++) {
+                Future<Object> done = completionService.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (done == null) {
+                    throw new TimeoutException();
+                }
+                await(done, deadline);
+            }
+            return new Results<>((A) await(firstFuture, deadline), (B) await(secondFuture, deadline));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            firstTask.cancel(firstFuture);
+            secondTask.cancel(secondFuture);
+            throw new ServerException("검색 쿼리 대기 중 인터럽트되었습니다.");
+        } catch (TimeoutException e) {
+            firstTask.cancel(firstFuture);
+            secondTask.cancel(secondFuture);
+            if (!firstTask.started.get() || !secondTask.started.get()) {
+                // 쿼리가 느린 게 아니라 풀 대기열에서 기다린 것이므로 요청 스레드에서 순차 실행
+                log.warn("검색 쿼리가 {}ms 동안 대기열에서 시작하지 못해 순차 실행으로 전환", timeout.toMillis());
+                return null;
+            }
+            throw new ServerException("검색 쿼리가 " + timeout.toMillis() + "ms 안에 끝나지 않았습니다.");
+        } catch (RuntimeException e) {
+            firstTask.cancel(firstFuture);
+            secondTask.cancel(secondFuture);
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T await(Future<T> future, long deadline) throws TimeoutException {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ServerException("검색 쿼리 실행 중 오류가 발생했습니다: " + e.getCause());
+        } catch (CancellationException e) {
+            throw new ServerException("검색 쿼리가 취소되었습니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerException("검색 쿼리 대기 중 인터럽트되었습니다.");
+        }
+    }
+
+    /**
+     * 전용 EntityManager 하나로 쿼리를 실행하는 작업
+     * 취소할 수 있도록 실행 중인 Session을 보관
+     */
+    private class QueryTask<T> {
+
+        private final Function<JPAQueryFactory, T> query;
+        private final AtomicReference<Session> running = new AtomicReference<>();
+        private final AtomicBoolean started = new AtomicBoolean();
+
+        private QueryTask(Function<JPAQueryFactory, T> query) {
+            this.query = query;
+        }
+
+        private T run() {
+            started.set(true);
+            EntityManager entityManager = entityManagerFactory.createEntityManager();
+            try {
+                Session session = entityManager.unwrap(Session.class);
+                session.setDefaultReadOnly(true);
+                running.set(session);
+                return query.apply(new JPAQueryFactory(entityManager));
+            } finally {
+                running.set(null);
+                entityManager.close();
+            }
+        }
+
+        private void cancel(Future<?> future) {
+            future.cancel(true);
+            Session session = running.get();
+            if (session != null) {
+                try {
+                    session.cancelQuery();
+                } catch (RuntimeException e) {
+                    log.debug("검색 쿼리 취소 실패", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 두 쿼리의 결과
+     */
+    @Getter
+    public static class Results<A, B> {
+
+        private final A first;
+        private final B second;
+
+        private Results(A first, B second) {
+            this.first = first;
+            this.second = second;
+        }
+    }
+}
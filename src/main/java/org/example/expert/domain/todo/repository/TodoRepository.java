@@ -1,13 +1,13 @@
 package org.example.expert.domain.todo.repository;
 
 import org.example.expert.domain.todo.entity.Todo;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -16,46 +16,44 @@ import java.util.Optional;
  */
 public interface TodoRepository extends JpaRepository<Todo, Long>, TodoRepositoryCustom {
 
-    @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC")
-    Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
+    // 비트맵 인덱스로 구한 id 목록 조회 (정렬은 호출부에서)
+    @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u WHERE t.id IN :ids")
+    List<Todo> findAllByIdInWithUser(@Param("ids") Collection<Long> ids);
 
     /**
-     * left join fetch t.user사용하여 n+1문제 방지(findByWeatherAndDateRange까지)
-     * 수정일 내림차순으로 정렬
-     * LIKE 연산자로 부분 일치 검색, 대소문자 구분 없음
-     * @param weather
-     * @param pageable
+     * 비정규화 카운터 갱신
+     * 엔티티 값을 읽어서 더하지 않고 DB에서 원자적으로 증감 (동시 요청에도 유실 없음)
      */
-    //weather 조건만 검색
-    @Query("SELECT t FROM Todo t " +
-            "LEFT JOIN FETCH t.user u " +
-            "WHERE LOWER(t.weather) LIKE LOWER(CONCAT('%', :weather, '%')) " +
-            "ORDER BY t.modifiedAt DESC")
-    Page<Todo> findByWeather(@Param("weather") String weather, Pageable pageable);
-
-    // 수정일 기간만 검색
-    @Query("SELECT t FROM Todo t " +
-            "LEFT JOIN FETCH t.user u " +
-            "WHERE t.modifiedAt BETWEEN :startDate AND :endDate " +
-            "ORDER BY t.modifiedAt DESC")
-    Page<Todo> findByModifiedAtBetween(
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate,
-            Pageable pageable
-    );
-
-    //weather + 수정일 기간 검색
-    @Query("SELECT t FROM Todo t " +
-            "LEFT JOIN FETCH t.user u " +
-            "WHERE LOWER(t.weather) LIKE LOWER(CONCAT('%', :weather, '%')) " +
-            "AND t.modifiedAt BETWEEN :startDate AND :endDate " +
-            "ORDER BY t.modifiedAt DESC")
-    Page<Todo> findByWeatherAndDateRange(
-            @Param("weather") String weather,
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate,
-            Pageable pageable
-    );
+    @Modifying
+    @Query("UPDATE Todo t SET t.commentCount = t.commentCount + 1 WHERE t.id = :todoId")
+    int incrementCommentCount(@Param("todoId") Long todoId);
 
+    @Modifying
+    @Query("UPDATE Todo t SET t.managerCount = t.managerCount + 1 WHERE t.id = :todoId")
+    int incrementManagerCount(@Param("todoId") Long todoId);
 
+    @Modifying
+    @Query("UPDATE Todo t SET t.managerCount = t.managerCount + :count WHERE t.id = :todoId")
+    int addManagerCount(@Param("todoId") Long todoId, @Param("count") long count);
+
+    @Modifying
+    @Query("UPDATE Todo t SET t.managerCount = t.managerCount - 1 WHERE t.id = :todoId AND t.managerCount > 0")
+    int decrementManagerCount(@Param("todoId") Long todoId);
+
+    /**
+     * 카운터 재계산 (관리자 배치용)
+     * id 구간 단위로 실제 managers, comments 개수를 다시 집계해서 덮어씀
+     */
+    @Modifying
+    @Query(value = "UPDATE todos t SET " +
+            "manager_count = (SELECT COUNT(*) FROM managers m WHERE m.todo_id = t.id), " +
+            "comment_count = (SELECT COUNT(*) FROM comments c WHERE c.todo_id = t.id) " +
+            "WHERE t.id BETWEEN :fromId AND :toId", nativeQuery = true)
+    int rebuildCounters(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("SELECT MIN(t.id) FROM Todo t")
+    Long findMinId();
+
+    @Query("SELECT MAX(t.id) FROM Todo t")
+    Long findMaxId();
 }
@@ -1,11 +1,17 @@
 package org.example.expert.domain.todo.repository;
 
+import org.example.expert.domain.common.dto.Cursor;
 import org.example.expert.domain.todo.dto.request.TodoSearchRequest;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.dto.response.TodoSuggestResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -18,10 +24,45 @@ import java.util.Optional;
 public interface TodoRepositoryCustom {
     Optional<Todo> findByIdWithUser(Long todoId);
 
+    /**
+     * 일정 목록 조회 (수정일 내림차순)
+     * 조건은 모두 선택, 엔티티 없이 TodoResponse로 바로 조회
+     * @param weather 날씨 부분 일치 (대소문자 무시)
+     * @param startDate 수정일 시작 (endDate와 함께 있을 때만 적용)
+     * @param endDate 수정일 끝
+     */
+    Page<TodoResponse> findTodos(String weather, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
+
     /**
      * 일정 검색 (QueryDSL Projections 사용)
      * @param request 검색 조건
      * @return 검색 결과 (제목, 담당자 수, 댓글 개수)
      */
     Page<TodoSearchResponse> searchTodos(TodoSearchRequest request, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * 일정 검색 (count 쿼리 없는 Slice)
+     * @return 검색 결과 + 다음 페이지 존재 여부
+     */
+    Slice<TodoSearchResponse> searchTodosSlice(TodoSearchRequest request, Pageable pageable);
+
+    /**
+     * 일정 목록 키셋 페이지네이션 (modifiedAt, id 내림차순)
+     * @param cursor 이전 페이지 마지막 행의 (modifiedAt, id), 첫 페이지면 null
+     * @param limit 조회할 최대 건수 (다음 페이지 판단을 위해 호출부에서 size + 1 전달)
+     */
+    List<Todo> findTodosByCursor(String weather, LocalDateTime startDate, LocalDateTime endDate, Cursor cursor, int limit);
+
+    /**
+     * 일정 검색 키셋 페이지네이션 (createdAt, id 내림차순)
+     * @param cursor 이전 페이지 마지막 행의 (createdAt, id), 첫 페이지면 null
+     * @param limit 조회할 최대 건수 (다음 페이지 판단을 위해 호출부에서 size + 1 전달)
+     */
+    List<TodoSearchResponse> searchTodosByCursor(TodoSearchRequest request, Cursor cursor, int limit);
+
+    /**
+     * 제목 접두어 자동완성 (인덱스가 준비되지 않았을 때 사용)
+     * 같은 제목은 가장 최근 일정 하나로 묶어 최근 순 정렬
+     */
+    List<TodoSuggestResponse> suggestTitles(String prefix, int limit);
+}
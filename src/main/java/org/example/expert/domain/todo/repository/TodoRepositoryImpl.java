@@ -1,18 +1,33 @@
 package org.example.expert.domain.todo.repository;
 
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.dto.Cursor;
 import org.example.expert.domain.todo.dto.request.TodoSearchRequest;
+import org.example.expert.domain.todo.dto.response.QTodoResponse;
 import org.example.expert.domain.todo.dto.response.QTodoSearchResponse;
+import org.example.expert.domain.todo.dto.response.QTodoSuggestResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.dto.response.TodoSuggestResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.search.IdPage;
+import org.example.expert.domain.todo.search.TodoSearchIndex;
+import org.example.expert.domain.user.dto.response.QUserResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import static org.example.expert.domain.manager.entity.QManager.manager;
@@ -32,6 +47,8 @@ import static org.springframework.util.StringUtils.hasText;
 public class TodoRepositoryImpl implements TodoRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final TodoSearchIndex todoSearchIndex;
+    private final ParallelQueryExecutor parallelQueryExecutor;
 
     // findByIdWithUser는 QueryDSL로 구현
     @Override
@@ -46,52 +63,238 @@ public class TodoRepositoryImpl implements TodoRepositoryCustom {
     }
 
     /**
-     * QueryDSL Projections를 활용한 일정 검색
-     * 필요한 필드만 선택적으로 조회하여 성능 최적화
+     * 일정 목록 조회 - 조건별 JPQL 4개를 동적 조건 하나로 통합
+     * 필요한 컬럼만 TodoResponse / UserResponse로 바로 조회 -> 엔티티 생성, 영속성 컨텍스트 등록, 스냅샷 없음
      */
     @Override
-    public Page<TodoSearchResponse> searchTodos(TodoSearchRequest request, Pageable pageable) {
-
-        // Projections: 필요한 필드만 조회 (제목, 담당자 수, 댓글 개수)
-        List<TodoSearchResponse> content = queryFactory
-                .select(new QTodoSearchResponse(
+    public Page<TodoResponse> findTodos(String weather, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
+        List<TodoResponse> content = queryFactory
+                .select(new QTodoResponse(
+                        todo.id,
                         todo.title,
-                        todo.managers.size().longValue(),  // 담당자 수
-                        todo.comments.size().longValue()   // 댓글 개수
+                        todo.contents,
+                        todo.weather,
+                        new QUserResponse(user.id, user.email, user.nickname),
+                        todo.createdAt,
+                        todo.modifiedAt
                 ))
                 .from(todo)
-                .leftJoin(todo.managers, manager)
-                .leftJoin(manager.user, user)  // 담당자 닉네임 검색을 위한 조인
+                .leftJoin(todo.user, user)
                 .where(
-                        titleContains(request.getTitle()),
-                        createdBetween(request.getStartDate(), request.getEndDate()),
-                        managerNicknameContains(request.getManagerNickname())
+                        weatherContains(weather),
+                        modifiedBetween(startDate, endDate)
                 )
-                .groupBy(todo.id)  // 중복 제거 (manager, comment 조인으로 인한)
-                .orderBy(todo.createdAt.desc())  // 생성일 최신순
+                .orderBy(todo.modifiedAt.desc(), todo.id.desc())  // 수정일 최신순 (같은 시각이면 id 순으로 고정)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
+        // 작성자 조인 없이 todos만 count
+        JPAQuery<Long> countQuery = queryFactory
+                .select(todo.count())
+                .from(todo)
+                .where(
+                        weatherContains(weather),
+                        modifiedBetween(startDate, endDate)
+                );
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            Long total = countQuery.fetchOne();
+            return total != null ? total : 0L;
+        });
+    }
+
+    /**
+     * QueryDSL Projections를 활용한 일정 검색
+     * 필요한 필드만 선택적으로 조회하여 성능 최적화
+     */
+    @Override
+    public Page<TodoSearchResponse> searchTodos(TodoSearchRequest request, Pageable pageable) {
+        // 제목/키워드 검색은 인덱스가 정렬 순서대로 고른 한 페이지만 조회 (결과가 많은 검색어도 전체 스캔 없음)
+        Optional<IdPage> idPage = searchPageByIndex(request, pageable.getOffset(), pageable.getPageSize());
+        if (idPage.isPresent()) {
+            return new PageImpl<>(fetchSearchRows(idPage.get().getIds()), pageable, idPage.get().getTotal());
+        }
+
+        Predicate[] conditions = searchConditions(request);
+
+        // 동시 실행 모드: content / count 쿼리를 각자의 커넥션에서 동시에 실행 (풀이 가득 차면 아래 순차 실행)
+        if (parallelQueryExecutor.isEnabled()) {
+            ParallelQueryExecutor.Results<List<TodoSearchResponse>, Long> results = parallelQueryExecutor.execute(
+                    factory -> fetchSearchPage(factory, conditions, pageable),
+                    factory -> searchCountQuery(factory, conditions).fetchOne()
+            );
+            if (results != null) {
+                Long total = results.getSecond();
+                return new PageImpl<>(results.getFirst(), pageable, total != null ? total : 0L);
+            }
+        }
+
+        // Projections: 필요한 필드만 조회 (제목, 담당자 수, 댓글 개수)
+        List<TodoSearchResponse> content = fetchSearchPage(queryFactory, conditions, pageable);
+
         // 전체 개수 조회
-        Long total = queryFactory
-                .select(todo.countDistinct())
+        // 첫 페이지인데 size보다 적게 나왔거나 마지막 페이지면 content만으로 total 계산 가능 -> count 쿼리 생략
+        JPAQuery<Long> countQuery = searchCountQuery(queryFactory, conditions);
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            Long total = countQuery.fetchOne();
+            return total != null ? total : 0L;
+        });
+    }
+
+    private List<TodoSearchResponse> fetchSearchPage(JPAQueryFactory factory, Predicate[] conditions, Pageable pageable) {
+        return searchContentQuery(factory, conditions)
+                .orderBy(todo.createdAt.desc(), todo.id.desc())  // 생성일 최신순 (같은 시각이면 id 순으로 고정)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+    }
+
+    /**
+     * count 쿼리 없는 Slice 검색
+     * size + 1건을 조회해서 다음 페이지 존재 여부만 판단
+     */
+    @Override
+    public Slice<TodoSearchResponse> searchTodosSlice(TodoSearchRequest request, Pageable pageable) {
+        Optional<IdPage> idPage = searchPageByIndex(request, pageable.getOffset(), pageable.getPageSize());
+        if (idPage.isPresent()) {
+            boolean hasNext = idPage.get().getTotal() > pageable.getOffset() + pageable.getPageSize();
+            return new SliceImpl<>(fetchSearchRows(idPage.get().getIds()), pageable, hasNext);
+        }
+
+        List<TodoSearchResponse> content = searchContentQuery(queryFactory, searchConditions(request))
+                .orderBy(todo.createdAt.desc(), todo.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = new ArrayList<>(content.subList(0, pageable.getPageSize()));
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    public List<TodoSuggestResponse> suggestTitles(String prefix, int limit) {
+        return queryFactory
+                .select(new QTodoSuggestResponse(todo.id.max(), todo.title))
                 .from(todo)
-                .leftJoin(todo.managers, manager)
-                .leftJoin(manager.user, user)
+                .where(todo.title.startsWithIgnoreCase(prefix))
+                .groupBy(todo.title)
+                .orderBy(todo.id.max().desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 일정 목록 키셋 페이지네이션
+     * offset 대신 (modifiedAt, id) < 커서 조건으로 idx_todos_modified_at_id 인덱스를 바로 탐색
+     */
+    @Override
+    public List<Todo> findTodosByCursor(String weather, LocalDateTime startDate, LocalDateTime endDate, Cursor cursor, int limit) {
+        return queryFactory
+                .selectFrom(todo)
+                .leftJoin(todo.user, user).fetchJoin()  // N+1 방지
                 .where(
-                        titleContains(request.getTitle()),
-                        createdBetween(request.getStartDate(), request.getEndDate()),
-                        managerNicknameContains(request.getManagerNickname())
+                        weatherContains(weather),
+                        modifiedBetween(startDate, endDate),
+                        modifiedBefore(cursor)
                 )
-                .fetchOne();
+                .orderBy(todo.modifiedAt.desc(), todo.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 일정 검색 키셋 페이지네이션
+     * offset 대신 (createdAt, id) < 커서 조건으로 idx_todos_created_at_id 인덱스를 바로 탐색
+     */
+    @Override
+    public List<TodoSearchResponse> searchTodosByCursor(TodoSearchRequest request, Cursor cursor, int limit) {
+        return searchContentQuery(queryFactory, searchConditions(request))
+                .where(createdBefore(cursor))
+                .orderBy(todo.createdAt.desc(), todo.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 담당자 닉네임 조건은 인덱스에 없으므로 제목/키워드(+ 생성일) 검색만 인덱스 페이지로 처리
+    private Optional<IdPage> searchPageByIndex(TodoSearchRequest request, long offset, int size) {
+        if (hasText(request.getManagerNickname())) {
+            return Optional.empty();
+        }
+        return todoSearchIndex.searchPage(request.getTitle(), request.getKeyword(),
+                request.getStartDate(), request.getEndDate(), offset, size);
+    }
+
+    // 인덱스가 고른 id 한 페이지를 같은 정렬로 조회
+    private List<TodoSearchResponse> fetchSearchRows(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return searchContentQuery(queryFactory, new Predicate[]{todo.id.in(ids)})
+                .orderBy(todo.createdAt.desc(), todo.id.desc())
+                .fetch();
+    }
+
+    /**
+     * 검색 content 쿼리 (정렬/페이징 제외)
+     * 담당자 수, 댓글 수는 todos의 비정규화 컬럼을 그대로 읽음 -> 조인, groupBy, size() 서브쿼리 없음
+     */
+    private JPAQuery<TodoSearchResponse> searchContentQuery(JPAQueryFactory factory, Predicate[] conditions) {
+        return factory
+                .select(new QTodoSearchResponse(
+                        todo.id,
+                        todo.title,
+                        todo.managerCount,  // 담당자 수
+                        todo.commentCount,  // 댓글 개수
+                        todo.createdAt
+                ))
+                .from(todo)
+                .where(conditions);
+    }
+
+    /**
+     * 검색 count 쿼리
+     * 담당자 닉네임 조건도 EXISTS 세미조인이라 중복이 생기지 않으므로 countDistinct 불필요
+     */
+    private JPAQuery<Long> searchCountQuery(JPAQueryFactory factory, Predicate[] conditions) {
+        return factory
+                .select(todo.count())
+                .from(todo)
+                .where(conditions);
+    }
 
-        return new PageImpl<>(content, pageable, total != null ? total : 0L);
+    private Predicate[] searchConditions(TodoSearchRequest request) {
+        return new Predicate[]{
+                titleContains(request.getTitle()),
+                keywordContains(request.getKeyword()),
+                createdBetween(request.getStartDate(), request.getEndDate()),
+                managerNicknameContains(request.getManagerNickname())
+        };
     }
 
     //제목 부분 일치 검색
+    //검색 인덱스가 후보 id를 주면 id IN (...)으로 범위를 좁히고, LIKE는 후보에 대해서만 최종 확인
     private BooleanExpression titleContains(String title) {
-        return hasText(title) ? todo.title.containsIgnoreCase(title) : null;
+        if (!hasText(title)) {
+            return null;
+        }
+        BooleanExpression like = todo.title.containsIgnoreCase(title);
+        return todoSearchIndex.searchIds(title, TodoSearchIndex.FIELD_TITLE)
+                .map(ids -> todo.id.in(ids).and(like))
+                .orElse(like);
+    }
+
+    //제목 또는 내용 부분 일치 검색
+    private BooleanExpression keywordContains(String keyword) {
+        if (!hasText(keyword)) {
+            return null;
+        }
+        BooleanExpression like = todo.title.containsIgnoreCase(keyword).or(todo.contents.containsIgnoreCase(keyword));
+        return todoSearchIndex.searchIds(keyword, TodoSearchIndex.FIELD_TITLE, TodoSearchIndex.FIELD_CONTENTS)
+                .map(ids -> todo.id.in(ids).and(like))
+                .orElse(like);
     }
 
    //생성일 범위 검색
@@ -106,8 +309,56 @@ public class TodoRepositoryImpl implements TodoRepositoryCustom {
         return null;
     }
 
-    //담당자 닉네임 부분 일치 검색
+    //담당자 닉네임 부분 일치 검색 (EXISTS 서브쿼리라 일정 행이 중복되지 않음)
     private BooleanExpression managerNicknameContains(String nickname) {
-        return hasText(nickname) ? user.nickname.containsIgnoreCase(nickname) : null;
+        if (!hasText(nickname)) {
+            return null;
+        }
+        return JPAExpressions
+                .selectOne()
+                .from(manager)
+                .join(manager.user, user)
+                .where(
+                        manager.todo.id.eq(todo.id),
+                        user.nickname.containsIgnoreCase(nickname)
+                )
+                .exists();
+    }
+
+    //날씨 부분 일치 검색
+    private BooleanExpression weatherContains(String weather) {
+        return hasText(weather) ? todo.weather.containsIgnoreCase(weather) : null;
+    }
+
+    //수정일 범위 검색
+    private BooleanExpression modifiedBetween(LocalDateTime startDate, LocalDateTime endDate) {
+        if (startDate != null && endDate != null) {
+            return todo.modifiedAt.between(startDate, endDate);
+        }
+        return null;
+    }
+
+    //키셋 조건: (modifiedAt, id) < (커서 시각, 커서 id)
+    private BooleanExpression modifiedBefore(Cursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        if (cursor.getTimestamp() == null) {
+            return todo.id.lt(cursor.getId());
+        }
+        return todo.modifiedAt.lt(cursor.getTimestamp())
+                .or(todo.modifiedAt.eq(cursor.getTimestamp()).and(todo.id.lt(cursor.getId())));
+    }
+
+    //키셋 조건: (createdAt, id) < (커서 시각, 커서 id)
+    private BooleanExpression createdBefore(Cursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        if (cursor.getTimestamp() == null) {
+            return todo.id.lt(cursor.getId());
+        }
+        return todo.createdAt.lt(cursor.getTimestamp())
+                .or(todo.createdAt.eq(cursor.getTimestamp()).and(todo.id.lt(cursor.getId())));
     }
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.todo.entity.TodoSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TodoSummaryRepository extends JpaRepository<TodoSummary, Long>, TodoSummaryRepositoryCustom {
+}
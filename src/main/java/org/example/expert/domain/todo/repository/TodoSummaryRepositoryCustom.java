@@ -0,0 +1,32 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.todo.dto.request.TodoSearchRequest;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일정 읽기 모델(todo_summary) 조회 / 갱신
+ */
+public interface TodoSummaryRepositoryCustom {
+
+    /**
+     * 일정 목록 조회 (TodoRepositoryCustom.findTodos와 같은 조건/정렬)
+     */
+    Page<TodoResponse> findTodos(String weather, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
+
+    /**
+     * 일정 검색 (TodoRepositoryCustom.searchTodos와 같은 조건/정렬)
+     */
+    Page<TodoSearchResponse> searchTodos(TodoSearchRequest request, Pageable pageable);
+
+    /**
+     * id 구간의 읽기 모델을 원본 테이블 기준으로 다시 만듦 (원본 일정 행을 잠근 뒤 삭제 후 다시 저장)
+     * 호출부 트랜잭션 안에서 실행
+     * @return 저장한 행 수
+     */
+    int replaceRange(Long fromId, Long toId);
+}
@@ -0,0 +1,235 @@
+package org.example.expert.domain.todo.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.request.TodoSearchRequest;
+import org.example.expert.domain.todo.dto.response.QTodoResponse;
+import org.example.expert.domain.todo.dto.response.QTodoSearchResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.entity.TodoSummary;
+import org.example.expert.domain.user.dto.response.QUserResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.example.expert.domain.comment.entity.QComment.comment;
+import static org.example.expert.domain.manager.entity.QManager.manager;
+import static org.example.expert.domain.todo.entity.QTodo.todo;
+import static org.example.expert.domain.todo.entity.QTodoSummary.todoSummary;
+import static org.example.expert.domain.user.entity.QUser.user;
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * 읽기 모델 조회는 todo_summary 한 테이블만 읽음 (조인, 서브쿼리 없음)
+ * 갱신은 원본 테이블(todos, users, managers, comments)을 id 구간 단위로 읽어서 다시 저장
+ */
+@Repository
+@RequiredArgsConstructor
+public class TodoSummaryRepositoryImpl implements TodoSummaryRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<TodoResponse> findTodos(String weather, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
+        Predicate[] conditions = {
+                hasText(weather) ? todoSummary.weather.containsIgnoreCase(weather) : null,
+                startDate != null && endDate != null ? todoSummary.modifiedAt.between(startDate, endDate) : null
+        };
+
+        List<TodoResponse> content = queryFactory
+                .select(new QTodoResponse(
+                        todoSummary.id,
+                        todoSummary.title,
+                        todoSummary.contents,
+                        todoSummary.weather,
+                        new QUserResponse(todoSummary.userId, todoSummary.authorEmail, todoSummary.authorNickname),
+                        todoSummary.createdAt,
+                        todoSummary.modifiedAt
+                ))
+                .from(todoSummary)
+                .where(conditions)
+                .orderBy(todoSummary.modifiedAt.desc(), todoSummary.id.desc())  // 수정일 최신순 (같은 시각이면 id 순으로 고정)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(conditions));
+    }
+
+    @Override
+    public Page<TodoSearchResponse> searchTodos(TodoSearchRequest request, Pageable pageable) {
+        Predicate[] conditions = {
+                hasText(request.getTitle()) ? todoSummary.title.containsIgnoreCase(request.getTitle()) : null,
+                keywordContains(request.getKeyword()),
+                createdBetween(request.getStartDate(), request.getEndDate()),
+                hasText(request.getManagerNickname()) ? todoSummary.managerNicknames.containsIgnoreCase(request.getManagerNickname()) : null
+        };
+
+        List<TodoSearchResponse> content = queryFactory
+                .select(new QTodoSearchResponse(
+                        todoSummary.id,
+                        todoSummary.title,
+                        todoSummary.managerCount,
+                        todoSummary.commentCount,
+                        todoSummary.createdAt
+                ))
+                .from(todoSummary)
+                .where(conditions)
+                .orderBy(todoSummary.createdAt.desc(), todoSummary.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(conditions));
+    }
+
+    @Override
+    public int replaceRange(Long fromId, Long toId) {
+        // 같은 일정을 동시에 다시 만들면 삭제/저장이 겹쳐 중복 키나 이전 값 덮어쓰기가 생기므로 원본 일정 행을 먼저 잠금
+        // (id 순서로 잠가서 여러 구간이 겹쳐도 교착이 생기지 않음, 잠금 이후 읽기는 먼저 끝난 갱신을 봄)
+        queryFactory
+                .select(todo.id)
+                .from(todo)
+                .where(todo.id.between(fromId, toId))
+                .orderBy(todo.id.asc())
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch();
+
+        queryFactory
+                .delete(todoSummary)
+                .where(todoSummary.id.between(fromId, toId))
+                .execute();
+
+        List<Tuple> todoRows = queryFactory
+                .select(todo.id, todo.title, todo.contents, todo.weather,
+                        user.id, user.nickname, user.email,
+                        todo.createdAt, todo.modifiedAt)
+                .from(todo)
+                .join(todo.user, user)
+                .where(todo.id.between(fromId, toId))
+                .fetch();
+        if (todoRows.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, List<String>> nicknamesByTodo = managerNicknames(fromId, toId);
+        Map<Long, Long> commentCounts = commentCounts(fromId, toId);
+
+        for (Tuple row : todoRows) {
+            Long todoId = row.get(todo.id);
+            List<String> nicknames = nicknamesByTodo.getOrDefault(todoId, List.of());
+            entityManager.persist(new TodoSummary(
+                    todoId,
+                    row.get(todo.title),
+                    row.get(todo.contents),
+                    row.get(todo.weather),
+                    row.get(user.id),
+                    row.get(user.nickname),
+                    row.get(user.email),
+                    nicknames.size(),
+                    commentCounts.getOrDefault(todoId, 0L),
+                    joinNicknames(nicknames),
+                    row.get(todo.createdAt),
+                    row.get(todo.modifiedAt)
+            ));
+        }
+
+        // 큰 구간을 재구축할 때 영속성 컨텍스트가 계속 커지지 않도록 비움
+        entityManager.flush();
+        entityManager.clear();
+        return todoRows.size();
+    }
+
+    private long count(Predicate[] conditions) {
+        Long total = queryFactory
+                .select(todoSummary.count())
+                .from(todoSummary)
+                .where(conditions)
+                .fetchOne();
+        return total != null ? total : 0L;
+    }
+
+    private BooleanExpression keywordContains(String keyword) {
+        if (!hasText(keyword)) {
+            return null;
+        }
+        return todoSummary.title.containsIgnoreCase(keyword).or(todoSummary.contents.containsIgnoreCase(keyword));
+    }
+
+    private BooleanExpression createdBetween(LocalDateTime startDate, LocalDateTime endDate) {
+        if (startDate != null && endDate != null) {
+            return todoSummary.createdAt.between(startDate, endDate);
+        } else if (startDate != null) {
+            return todoSummary.createdAt.goe(startDate);
+        } else if (endDate != null) {
+            return todoSummary.createdAt.loe(endDate);
+        }
+        return null;
+    }
+
+    private Map<Long, List<String>> managerNicknames(Long fromId, Long toId) {
+        JPAQuery<Tuple> query = queryFactory
+                .select(manager.todo.id, user.nickname)
+                .from(manager)
+                .join(manager.user, user)
+                .where(manager.todo.id.between(fromId, toId))
+                .orderBy(manager.id.asc());
+
+        Map<Long, List<String>> nicknamesByTodo = new HashMap<>();
+        for (Tuple row : query.fetch()) {
+            nicknamesByTodo.computeIfAbsent(row.get(manager.todo.id), key -> new ArrayList<>()).add(row.get(user.nickname));
+        }
+        return nicknamesByTodo;
+    }
+
+    private Map<Long, Long> commentCounts(Long fromId, Long toId) {
+        NumberExpression<Long> commentCount = comment.count();
+        List<Tuple> rows = queryFactory
+                .select(comment.todo.id, commentCount)
+                .from(comment)
+                .where(comment.todo.id.between(fromId, toId))
+                .groupBy(comment.todo.id)
+                .fetch();
+
+        Map<Long, Long> counts = new HashMap<>();
+        for (Tuple row : rows) {
+            counts.put(row.get(comment.todo.id), row.get(commentCount));
+        }
+        return counts;
+    }
+
+    // 컬럼 길이를 넘으면 뒤쪽 닉네임은 생략 (검색 대상에서 빠짐)
+    private String joinNicknames(List<String> nicknames) {
+        StringBuilder joined = new StringBuilder();
+        for (String nickname : nicknames) {
+            if (nickname == null) {
+                continue;
+            }
+            int extra = (joined.length() > 0 ? TodoSummary.NICKNAME_SEPARATOR.length() : 0) + nickname.length();
+            if (joined.length() + extra > TodoSummary.MAX_NICKNAMES_LENGTH) {
+                break;
+            }
+            if (joined.length() > 0) {
+                joined.append(TodoSummary.NICKNAME_SEPARATOR);
+            }
+            joined.append(nickname);
+        }
+        return joined.toString();
+    }
+}
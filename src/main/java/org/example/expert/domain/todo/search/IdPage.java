@@ -0,0 +1,21 @@
+package org.example.expert.domain.todo.search;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 인덱스 조회 결과 (한 페이지 id + 전체 건수)
+ * TodoBitmapIndex, TodoSearchIndex가 고른 id로 DB에서는 해당 행만 조회
+ */
+@Getter
+public class IdPage {
+
+    private final List<Long> ids;
+    private final long total;
+
+    public IdPage(List<Long> ids, long total) {
+        this.ids = ids;
+        this.total = total;
+    }
+}
@@ -0,0 +1,321 @@
+package org.example.expert.domain.todo.search;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 제목 자동완성용 불변 세그먼트
+ * 정규화한 제목(UTF-8)을 바이트 순으로 정렬해 한 byte[]에 이어 붙이고, 같은 순서로 최신 일정 id를 보관
+ *
+ * - 접두어 검색: 이진 탐색으로 [lo, hi) 구간을 찾음 (UTF-8 바이트 순서 = 코드포인트 순서라 접두어 구간이 연속)
+ * - 최신순 top-k: 64개 단위 블록 최대 id 계층(block-max)을 두고 최대 id가 큰 블록부터 펼침
+ *   -> 구간이 수백만 건이어도 k * 계층 수 * 64 정도만 확인
+ * - 같은 제목은 한 행으로 합치고 가장 최근 일정 id / 원래 제목을 유지
+ * - 원래 제목이 정규화 결과와 같으면 제목 바이트를 따로 저장하지 않음
+ */
+final class TitleSuggestSegment {
+
+    static final TitleSuggestSegment EMPTY = new Writer(0, 0).finish();
+
+    private static final int BRANCH = 64;
+    private static final int MAX_BLOB_SIZE = Integer.MAX_VALUE - 8;
+
+    private final byte[] blob;
+    private final int[] offsets;   // 행 시작 위치 (size + 1개)
+    private final int[] keyEnds;   // 정규화 제목 끝 위치, 이후 다음 행 시작까지는 원래 제목
+    private final long[] ids;
+    private final long[][] blockMax;  // blockMax[0]: 64행 단위 최대 id, blockMax[1]: 64블록 단위 ...
+
+    private TitleSuggestSegment(byte[] blob, int[] offsets, int[] keyEnds, long[] ids) {
+        this.blob = blob;
+        this.offsets = offsets;
+        this.keyEnds = keyEnds;
+        this.ids = ids;
+        this.blockMax = buildBlockMax(ids);
+    }
+
+    /**
+     * 정렬되지 않은 항목으로 세그먼트 생성 (같은 제목은 최신 id만 남김)
+     */
+    static TitleSuggestSegment build(List<Entry> entries) {
+        List<Entry> sorted = new ArrayList<>(entries);
+        sorted.sort(Entry.ORDER);
+
+        Writer writer = new Writer(sorted.size(), 0);
+        Entry previous = null;
+        for (Entry entry : sorted) {
+            if (previous == null || !Arrays.equals(previous.keyBytes, entry.keyBytes)) {
+                writer.append(entry);
+                previous = entry;
+            }
+        }
+        return writer.finish();
+    }
+
+    /**
+     * 현재 세그먼트와 새 항목을 합친 세그먼트 생성 (정렬 병합, 전체 O(n))
+     */
+    TitleSuggestSegment merge(Collection<Entry> additions) {
+        List<Entry> sorted = new ArrayList<>(additions);
+        sorted.sort(Entry.ORDER);
+
+        Writer writer = new Writer(size() + sorted.size(), blob.length);
+        int i = 0;
+        int j = 0;
+        while (i < size() || j < sorted.size()) {
+            if (j == sorted.size()) {
+                writer.append(this, i++);
+                continue;
+            }
+            Entry entry = sorted.get(j);
+            int cmp = i < size()
+                    ? Arrays.compareUnsigned(blob, offsets[i], keyEnds[i], entry.keyBytes, 0, entry.keyBytes.length)
+                    : 1;
+            if (cmp < 0) {
+                writer.append(this, i++);
+            } else {
+                // 같은 제목이면 id가 큰 쪽 하나만 남김
+                if (cmp == 0 && ids[i] > entry.id) {
+                    writer.append(this, i);
+                } else {
+                    writer.append(entry);
+                }
+                if (cmp == 0) {
+                    i++;
+                }
+                j++;
+                // 새 항목끼리 같은 제목은 정렬상 id가 큰 것이 먼저 옴
+                while (j < sorted.size() && Arrays.equals(sorted.get(j).keyBytes, entry.keyBytes)) {
+                    j++;
+                }
+            }
+        }
+        return writer.finish();
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    long id(int index) {
+        return ids[index];
+    }
+
+    String key(int index) {
+        return new String(blob, offsets[index], keyEnds[index] - offsets[index], StandardCharsets.UTF_8);
+    }
+
+    String title(int index) {
+        if (keyEnds[index] == offsets[index + 1]) {
+            return key(index);
+        }
+        return new String(blob, keyEnds[index], offsets[index + 1] - keyEnds[index], StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 배열 크기 기준 메모리 사용량 (객체 헤더 제외)
+     */
+    long sizeInBytes() {
+        long bytes = blob.length + 4L * offsets.length + 4L * keyEnds.length + 8L * ids.length;
+        for (long[] level : blockMax) {
+            bytes += 8L * level.length;
+        }
+        return bytes;
+    }
+
+    /**
+     * 접두어에 해당하는 행을 id 내림차순으로 하나씩 꺼내는 커서
+     */
+    Cursor cursor(byte[] prefix) {
+        int lo = bound(prefix, false);
+        int hi = bound(prefix, true);
+        return new Cursor(lo, hi);
+    }
+
+    // strict=false: 접두어 이상인 첫 위치, strict=true: 접두어로 시작하는 구간 바로 다음 위치
+    private int bound(byte[] prefix, boolean strict) {
+        int lo = 0;
+        int hi = size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            int keyLength = Math.min(keyEnds[mid] - offsets[mid], prefix.length);
+            int cmp = Arrays.compareUnsigned(blob, offsets[mid], offsets[mid] + keyLength, prefix, 0, prefix.length);
+            if (cmp < 0 || (strict && cmp == 0)) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private long maxAt(int level, int index) {
+        return level == 0 ? ids[index] : blockMax[level - 1][index];
+    }
+
+    private int levelLength(int level) {
+        return level == 0 ? ids.length : blockMax[level - 1].length;
+    }
+
+    private static long[][] buildBlockMax(long[] ids) {
+        List<long[]> levels = new ArrayList<>();
+        long[] current = ids;
+        while (current.length > BRANCH) {
+            long[] next = new long[(current.length + BRANCH - 1) / BRANCH];
+            Arrays.fill(next, Long.MIN_VALUE);
+            for (int i = 0; i < current.length; i++) {
+                next[i / BRANCH] = Math.max(next[i / BRANCH], current[i]);
+            }
+            levels.add(next);
+            current = next;
+        }
+        return levels.toArray(new long[0][]);
+    }
+
+    final class Cursor {
+
+        // {최대 id, 계층, 위치}
+        private final PriorityQueue<long[]> queue = new PriorityQueue<>(Comparator.comparingLong((long[] node) -> node[0]).reversed());
+
+        private Cursor(int lo, int hi) {
+            // [lo, hi)를 계층별로 완전히 포함되는 블록들로 나눔 (세그먼트 트리 구간 분할과 같은 방식)
+            int level = 0;
+            int from = lo;
+            int to = hi;
+            while (from < to) {
+                if (level == blockMax.length) {
+                    for (int i = from; i < to; i++) {
+                        push(level, i);
+                    }
+                    break;
+                }
+                while (from < to && from % BRANCH != 0) {
+                    push(level, from++);
+                }
+                while (from < to && to % BRANCH != 0) {
+                    push(level, --to);
+                }
+                from /= BRANCH;
+                to /= BRANCH;
+                level++;
+            }
+        }
+
+        /**
+         * 다음으로 최신인 행 위치, 없으면 -1
+         */
+        int next() {
+            long[] node;
+            while ((node = queue.poll()) != null) {
+                int level = (int) node[1];
+                int index = (int) node[2];
+                if (level == 0) {
+                    return index;
+                }
+                int childFrom = index * BRANCH;
+                int childTo = Math.min(childFrom + BRANCH, levelLength(level - 1));
+                for (int child = childFrom; child < childTo; child++) {
+                    push(level - 1, child);
+                }
+            }
+            return -1;
+        }
+
+        private void push(int level, int index) {
+            queue.add(new long[]{maxAt(level, index), level, index});
+        }
+    }
+
+    /**
+     * 세그먼트에 넣을 항목 (정규화 제목 + 원래 제목 + 일정 id)
+     */
+    @Getter
+    static final class Entry {
+
+        // 정규화 제목 바이트 오름차순, 같으면 id 내림차순
+        private static final Comparator<Entry> ORDER = (a, b) -> {
+            int cmp = Arrays.compareUnsigned(a.keyBytes, b.keyBytes);
+            return cmp != 0 ? cmp : Long.compare(b.id, a.id);
+        };
+
+        private final String key;
+        private final byte[] keyBytes;
+        private final String title;
+        private final long id;
+
+        Entry(String key, String title, long id) {
+            this.key = key;
+            this.keyBytes = key.getBytes(StandardCharsets.UTF_8);
+            this.title = title;
+            this.id = id;
+        }
+    }
+
+    private static final class Writer {
+
+        private byte[] blob;
+        private int[] offsets;
+        private int[] keyEnds;
+        private long[] ids;
+        private int size = 0;
+        private int position = 0;
+
+        private Writer(int expectedSize, int expectedBytes) {
+            this.blob = new byte[Math.max(expectedBytes, 16)];
+            this.offsets = new int[expectedSize + 1];
+            this.keyEnds = new int[expectedSize];
+            this.ids = new long[expectedSize];
+        }
+
+        private void append(Entry entry) {
+            byte[] titleBytes = entry.title.equals(entry.key) ? new byte[0] : entry.title.getBytes(StandardCharsets.UTF_8);
+            append(entry.keyBytes, 0, entry.keyBytes.length, titleBytes, 0, titleBytes.length, entry.id);
+        }
+
+        private void append(TitleSuggestSegment source, int index) {
+            append(source.blob, source.offsets[index], source.keyEnds[index],
+                    source.blob, source.keyEnds[index], source.offsets[index + 1], source.ids[index]);
+        }
+
+        private void append(byte[] keySource, int keyFrom, int keyTo, byte[] titleSource, int titleFrom, int titleTo, long id) {
+            int keyLength = keyTo - keyFrom;
+            int titleLength = titleTo - titleFrom;
+            ensureCapacity((long) position + keyLength + titleLength);
+
+            offsets[size] = position;
+            System.arraycopy(keySource, keyFrom, blob, position, keyLength);
+            position += keyLength;
+            keyEnds[size] = position;
+            System.arraycopy(titleSource, titleFrom, blob, position, titleLength);
+            position += titleLength;
+            ids[size] = id;
+            size++;
+        }
+
+        private void ensureCapacity(long required) {
+            if (required > MAX_BLOB_SIZE) {
+                throw new IllegalStateException("제목 자동완성 세그먼트가 최대 크기(2GB)를 초과했습니다.");
+            }
+            if (required > blob.length) {
+                blob = Arrays.copyOf(blob, (int) Math.min(Math.max(required, blob.length * 2L), MAX_BLOB_SIZE));
+            }
+        }
+
+        private TitleSuggestSegment finish() {
+            offsets[size] = position;
+            return new TitleSuggestSegment(
+                    Arrays.copyOf(blob, position),
+                    Arrays.copyOf(offsets, size + 1),
+                    Arrays.copyOf(keyEnds, size),
+                    Arrays.copyOf(ids, size)
+            );
+        }
+    }
+}
@@ -0,0 +1,363 @@
+package org.example.expert.domain.todo.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.event.TodoBatchSavedEvent;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 날씨 + 수정일(일 단위) 비트맵 인덱스
+ * weather는 값 종류가 적은데도 LOWER(weather) LIKE '%..%'로 전체 스캔하고 있어서,
+ * 날씨 id별 / 날짜별 일정 id 비트맵(Roaring)을 메모리에 두고 교집합으로 대상 id를 구한 뒤 id로 조회
+ *
+ * - 결과 순서는 기존 쿼리와 같은 수정일 내림차순 (같은 시각이면 id 내림차순)
+ *   대량 등록처럼 id 순서와 수정일 순서가 다를 수 있어서, 날짜 비트맵으로 페이지가 걸친 날짜만 고르고
+ *   그 날짜 안의 순서는 DB 인덱스(modified_at, id)로 읽음
+ * - 시작 시 DB에서 전체 구축, 이후 saveTodo 커밋 이벤트로 증분 반영
+ * - 재구축은 새 비트맵에 만든 뒤 교체 -> 구축 중에도 기존 비트맵으로 조회/증분 반영 가능
+ * - todo.bitmap-index.enabled=true 일 때만 동작, 준비 전에는 empty를 반환해 기존 쿼리로 처리
+ */
+@Slf4j
+@Component
+public class TodoBitmapIndex {
+
+    private static final int REBUILD_FETCH_SIZE = 1_000;
+    private static final String REBUILD_SQL = "SELECT id, weather, modified_at FROM todos";
+    private static final String EDGE_DAY_SQL = "SELECT id FROM todos WHERE modified_at >= ? AND modified_at <= ? AND modified_at < ?";
+    private static final String DAY_ORDERED_SQL =
+            "SELECT id FROM todos WHERE modified_at >= ? AND modified_at < ? ORDER BY modified_at DESC, id DESC";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    // 아래 상태는 lock으로 보호
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Bitmaps bitmaps = new Bitmaps();
+    private List<TodoSavedEvent> savedDuringRebuild = null;  // 재구축 중 들어온 증분, 새 비트맵에 다시 반영
+    private volatile boolean ready = false;
+
+    public TodoBitmapIndex(
+            JdbcTemplate jdbcTemplate,
+            @Value("${todo.bitmap-index.enabled:false}") boolean enabled
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 애플리케이션 시작 후 DB에서 비트맵 구축
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * DB 전체를 다시 읽어 새 비트맵을 만든 뒤 교체
+     * DB를 읽는 동안에는 잠금을 잡지 않고, 그 사이 커밋된 일정은 교체 직전에 새 비트맵에 반영
+     * @return 반영한 일정 수
+     */
+    public long rebuild() {
+        long startTime = System.currentTimeMillis();
+        long[] count = {0};
+
+        lock.writeLock().lock();
+        try {
+            savedDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Bitmaps next = new Bitmaps();
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(REBUILD_SQL,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(REBUILD_FETCH_SIZE);
+                return ps;
+            }, rs -> {
+                Timestamp modifiedAt = rs.getTimestamp("modified_at");
+                next.add(rs.getLong("id"), rs.getString("weather"), modifiedAt != null ? modifiedAt.toLocalDateTime() : null);
+                count[0]++;
+            });
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                savedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            // 비트맵 add는 멱등이라 스캔에 이미 포함된 일정이 다시 들어와도 결과가 같음
+            for (TodoSavedEvent saved : savedDuringRebuild) {
+                next.add(saved.getTodoId(), saved.getWeather(), saved.getModifiedAt());
+            }
+            savedDuringRebuild = null;
+            next.runOptimize();
+            bitmaps = next;
+            ready = !next.overflowed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("일정 비트맵 인덱스 구축 완료 - {} 건, 날씨 {} 종, 날짜 {} 일, 소요 시간: {} ms",
+                count[0], next.weatherDictionary.size(), next.idsByDay.size(), System.currentTimeMillis() - startTime);
+        return count[0];
+    }
+
+    /**
+     * 일정 저장 커밋 후 비트맵에 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTodoSaved(TodoSavedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            add(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 대량 등록 chunk 커밋 후 write lock 한 번으로 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTodoBatchSaved(TodoBatchSavedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            event.getTodos().forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 조건에 맞는 일정 id 한 페이지 조회 (수정일, id 내림차순)
+     * @param weather 날씨 부분 일치 검색어 (비어 있으면 조건 없음, 기존 쿼리와 동일)
+     * @param startDate 수정일 시작 (endDate와 함께 있을 때만 적용)
+     * @param endDate 수정일 끝
+     * @return 인덱스를 쓸 수 없으면 empty
+     */
+    public Optional<IdPage> findIds(String weather, LocalDateTime startDate, LocalDateTime endDate, long offset, int size) {
+        if (!enabled || !ready) {
+            return Optional.empty();
+        }
+
+        boolean hasDateRange = startDate != null && endDate != null;
+        // 경계 날짜의 정확한 id는 인덱스(modified_at, id)로 DB에서 조회 (락 밖에서)
+        RoaringBitmap edgeIds = hasDateRange ? findEdgeDayIds(startDate, endDate) : null;
+
+        RoaringBitmap result;
+        List<DaySlice> slices;
+        lock.readLock().lock();
+        try {
+            result = StringUtils.hasText(weather) ? bitmaps.weatherIds(weather) : null;
+            if (hasDateRange) {
+                RoaringBitmap dayIds = RoaringBitmap.or(bitmaps.interiorDayIds(startDate, endDate), edgeIds);
+                result = result != null ? RoaringBitmap.and(result, dayIds) : dayIds;
+            }
+            slices = result != null ? bitmaps.pageSlices(result, offset, size) : List.of();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (result == null) {
+            return Optional.empty();
+        }
+
+        // 페이지가 걸친 날짜만 DB에서 (수정일, id) 순으로 읽으며 결과 비트맵에 있는 id를 고름
+        List<Long> ids = new ArrayList<>(size);
+        for (DaySlice slice : slices) {
+            addOrderedIds(ids, slice, size);
+        }
+        return Optional.of(new IdPage(ids, result.getLongCardinality()));
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    // 호출부에서 write lock을 잡은 상태
+    private void add(TodoSavedEvent event) {
+        bitmaps.add(event.getTodoId(), event.getWeather(), event.getModifiedAt());
+        if (bitmaps.overflowed) {
+            ready = false;
+        }
+        if (savedDuringRebuild != null) {
+            savedDuringRebuild.add(event);
+        }
+    }
+
+    private void addOrderedIds(List<Long> ids, DaySlice slice, int size) {
+        LocalDateTime dayStart = LocalDate.ofEpochDay(slice.epochDay).atStartOfDay();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(DAY_ORDERED_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(REBUILD_FETCH_SIZE);
+            ps.setTimestamp(1, Timestamp.valueOf(dayStart));
+            ps.setTimestamp(2, Timestamp.valueOf(dayStart.plusDays(1)));
+            return ps;
+        }, (ResultSet rs) -> {
+            long skipped = 0;
+            while (ids.size() < size && rs.next()) {
+                long id = rs.getLong(1);
+                if (id > Integer.MAX_VALUE || !slice.ids.contains((int) id)) {
+                    continue;
+                }
+                if (skipped < slice.skip) {
+                    skipped++;
+                } else {
+                    ids.add(id);
+                }
+            }
+            return null;
+        });
+    }
+
+    // 시작일/종료일은 하루 중 일부만 범위에 들어가므로 DB에서 정확히 조회
+    private RoaringBitmap findEdgeDayIds(LocalDateTime startDate, LocalDateTime endDate) {
+        RoaringBitmap ids = new RoaringBitmap();
+        LocalDate startDay = startDate.toLocalDate();
+        LocalDate endDay = endDate.toLocalDate();
+
+        addEdgeIds(ids, startDate, endDate, startDay.plusDays(1).atStartOfDay());
+        if (endDay.isAfter(startDay)) {
+            addEdgeIds(ids, endDay.atStartOfDay(), endDate, endDay.plusDays(1).atStartOfDay());
+        }
+        return ids;
+    }
+
+    private void addEdgeIds(RoaringBitmap ids, LocalDateTime from, LocalDateTime to, LocalDateTime before) {
+        jdbcTemplate.query(EDGE_DAY_SQL,
+                rs -> {
+                    ids.add((int) rs.getLong(1));
+                },
+                Timestamp.valueOf(from), Timestamp.valueOf(to), Timestamp.valueOf(before));
+    }
+
+    /**
+     * 비트맵 한 벌 (재구축 시 새로 만들어 통째로 교체)
+     */
+    private static final class Bitmaps {
+
+        private final WeatherDictionary weatherDictionary = new WeatherDictionary();
+        private final Map<Integer, RoaringBitmap> idsByWeather = new HashMap<>();
+        private final NavigableMap<Long, RoaringBitmap> idsByDay = new TreeMap<>();  // key: epochDay
+        private boolean overflowed = false;  // 32비트 범위를 넘는 id가 들어온 적 있는지
+
+        private void add(long id, String weather, LocalDateTime modifiedAt) {
+            if (id > Integer.MAX_VALUE) {
+                // 32비트 비트맵 범위를 넘으면 인덱스를 끄고 기존 쿼리로 처리
+                if (!overflowed) {
+                    log.warn("일정 id가 비트맵 범위를 초과하여 비트맵 인덱스를 사용하지 않습니다. - id: {}", id);
+                }
+                overflowed = true;
+                return;
+            }
+            if (weather != null) {
+                idsByWeather.computeIfAbsent(weatherDictionary.idOf(weather), key -> new RoaringBitmap()).add((int) id);
+            }
+            if (modifiedAt != null) {
+                idsByDay.computeIfAbsent(modifiedAt.toLocalDate().toEpochDay(), key -> new RoaringBitmap()).add((int) id);
+            }
+        }
+
+        // 연속 구간이 많은 id 집합은 run 컨테이너로 압축
+        private void runOptimize() {
+            idsByWeather.values().forEach(RoaringBitmap::runOptimize);
+            idsByDay.values().forEach(RoaringBitmap::runOptimize);
+        }
+
+        private RoaringBitmap weatherIds(String weather) {
+            List<RoaringBitmap> bitmaps = new ArrayList<>();
+            for (Integer weatherId : weatherDictionary.idsContaining(weather)) {
+                RoaringBitmap bitmap = idsByWeather.get(weatherId);
+                if (bitmap != null) {
+                    bitmaps.add(bitmap);
+                }
+            }
+            return RoaringBitmap.or(bitmaps.iterator());
+        }
+
+        // 시작일 다음날 ~ 종료일 전날은 하루 전체가 범위 안이므로 날짜 비트맵을 그대로 사용
+        private RoaringBitmap interiorDayIds(LocalDateTime startDate, LocalDateTime endDate) {
+            long fromDay = startDate.toLocalDate().toEpochDay() + 1;
+            long toDay = endDate.toLocalDate().toEpochDay() - 1;
+            if (fromDay > toDay) {
+                return new RoaringBitmap();
+            }
+            return RoaringBitmap.or(idsByDay.subMap(fromDay, true, toDay, true).values().iterator());
+        }
+
+        /**
+         * 최신 날짜부터 날짜별 결과 건수(andCardinality)로 offset을 건너뛰고, 페이지가 걸친 날짜만 반환
+         */
+        private List<DaySlice> pageSlices(RoaringBitmap result, long offset, int size) {
+            List<DaySlice> slices = new ArrayList<>();
+            long skip = offset;
+            long needed = size;
+            for (Map.Entry<Long, RoaringBitmap> day : idsByDay.descendingMap().entrySet()) {
+                if (needed <= 0) {
+                    break;
+                }
+                long count = RoaringBitmap.andCardinality(result, day.getValue());
+                if (count <= skip) {
+                    skip -= count;
+                    continue;
+                }
+                slices.add(new DaySlice(day.getKey(), RoaringBitmap.and(result, day.getValue()), skip));
+                needed -= count - skip;
+                skip = 0;
+            }
+            return slices;
+        }
+    }
+
+    private static final class DaySlice {
+
+        private final long epochDay;
+        private final RoaringBitmap ids;  // 이 날짜에서 결과에 포함된 id
+        private final long skip;          // 이 날짜 안에서 건너뛸 건수
+
+        private DaySlice(long epochDay, RoaringBitmap ids, long skip) {
+            this.epochDay = epochDay;
+            this.ids = ids;
+            this.skip = skip;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.expert.domain.todo.search;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.ngram.NGramTokenizer;
+
+/**
+ * 1~2글자 n-gram 분석기
+ * 형태소 분석 없이 부분 문자열 검색(LIKE '%x%')과 같은 의미를 내기 위해 사용
+ * 검색어의 연속된 2-gram이 위치까지 맞는 문서(phrase) = 부분 문자열을 포함하는 문서
+ */
+class TodoNGramAnalyzer extends Analyzer {
+
+    static final int MIN_GRAM = 1;
+    static final int MAX_GRAM = 2;
+    // 글자 하나당 토큰 수 (1-gram, 2-gram 각각 위치 1 증가) -> 연속된 2-gram의 위치 차이
+    static final int POSITIONS_PER_CHAR = MAX_GRAM - MIN_GRAM + 1;
+
+    @Override
+    protected TokenStreamComponents createComponents(String fieldName) {
+        Tokenizer tokenizer = new NGramTokenizer(MIN_GRAM, MAX_GRAM);
+        TokenStream stream = new LowerCaseFilter(tokenizer);
+        return new TokenStreamComponents(tokenizer, stream);
+    }
+}
@@ -0,0 +1,373 @@
+package org.example.expert.domain.todo.search;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.ConstantScoreQuery;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PhraseQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.event.TodoBatchSavedEvent;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * 일정 제목/내용 전문 검색 인덱스 (프로세스 내장 Lucene)
+ * LIKE '%x%'는 인덱스를 못 타서 todos 전체를 스캔하므로,
+ * n-gram 인덱스로 대상 id를 먼저 뽑고 DB에서는 id IN (...)으로 해당 행만 조회
+ *
+ * - 검색어의 연속된 2-gram을 위치까지 맞춰(phrase) 찾으므로 결과가 LIKE '%x%'(대소문자 무시)와 같음
+ * - searchPage: 생성일, id 내림차순으로 필요한 한 페이지만 꺼내고 전체 건수도 인덱스에서 계산
+ *   -> 흔한 검색어(결과 수십만 건)도 전체 스캔 없이 처리
+ * - searchIds: 다른 조건(담당자 닉네임, 커서)과 함께 쓸 후보 id 전체, MAX_CANDIDATES를 넘으면 empty
+ * - 시작 시 DB에서 전체 재구축, 이후 saveTodo 커밋 후 이벤트로 증분 반영 (약 1초 내 검색 가능)
+ * - 재구축 중이면 empty를 반환 -> 호출부는 기존 LIKE 경로 사용
+ * - todo.search-index.enabled=true 일 때만 동작
+ */
+@Slf4j
+@Component
+public class TodoSearchIndex {
+
+    public static final String FIELD_TITLE = "title";
+    public static final String FIELD_CONTENTS = "contents";
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_ID_SORT = "id_sort";
+    private static final String FIELD_CREATED_AT = "created_at";
+
+    private static final int MAX_CANDIDATES = 10_000;  // 이보다 많으면 IN 절이 오히려 느려서 LIKE로 처리
+    private static final int MAX_PAGE_WINDOW = 10_000;  // offset + size 상한 (더 깊은 페이지는 LIKE로 처리)
+    private static final int REBUILD_FETCH_SIZE = 1_000;
+    private static final String REBUILD_SQL = "SELECT id, title, contents, created_at FROM todos";
+    // 검색 결과 정렬 (TodoRepositoryImpl 검색과 같은 생성일, id 내림차순)
+    private static final Sort SORT = new Sort(
+            new SortField(FIELD_CREATED_AT, SortField.Type.LONG, true),
+            new SortField(FIELD_ID_SORT, SortField.Type.LONG, true));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final String indexPath;
+
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+    private volatile boolean ready = false;
+
+    public TodoSearchIndex(
+            JdbcTemplate jdbcTemplate,
+            @Value("${todo.search-index.enabled:false}") boolean enabled,
+            @Value("${todo.search-index.path:}") String indexPath   // 비어 있으면 메모리 인덱스
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.indexPath = indexPath;
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        directory = hasText(indexPath) ? FSDirectory.open(Path.of(indexPath)) : new ByteBuffersDirectory();
+        writer = new IndexWriter(directory, new IndexWriterConfig(new TodoNGramAnalyzer())
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE));
+        searcherManager = new SearcherManager(writer, null);
+
+        // 최대 1초 안에 새 문서가 검색되도록 백그라운드에서 주기적으로 searcher 갱신 (near-real-time)
+        reopenThread = new ControlledRealTimeReopenThread<>(writer, searcherManager, 1.0, 0.1);
+        reopenThread.setName("todo-search-index-reopen");
+        reopenThread.setDaemon(true);
+        reopenThread.start();
+    }
+
+    /**
+     * 애플리케이션 시작 후 DB에서 인덱스 구축
+     * 구축이 끝나기 전 검색 요청은 LIKE 경로로 처리됨
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * DB 전체를 다시 읽어 인덱스 재구축
+     * @return 인덱싱한 일정 수
+     */
+    public synchronized long rebuild() {
+        if (!enabled) {
+            throw new ServerException("일정 검색 인덱스가 비활성화되어 있습니다.");
+        }
+
+        long startTime = System.currentTimeMillis();
+        ready = false;
+        long[] count = {0};
+        try {
+            writer.deleteAll();
+
+            // 전체를 메모리에 올리지 않도록 forward-only 커서로 한 행씩 읽음
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(REBUILD_SQL,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(REBUILD_FETCH_SIZE);
+                return ps;
+            }, rs -> {
+                index(rs.getLong("id"), rs.getString("title"), rs.getString("contents"),
+                        rs.getTimestamp("created_at").toLocalDateTime());
+                count[0]++;
+            });
+
+            writer.commit();
+            searcherManager.maybeRefreshBlocking();
+            ready = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        log.info("일정 검색 인덱스 재구축 완료 - {} 건, 소요 시간: {} ms", count[0], System.currentTimeMillis() - startTime);
+        return count[0];
+    }
+
+    /**
+     * 일정 저장 커밋 후 인덱스에 반영
+     * 롤백된 일정이 인덱스에 들어가지 않도록 AFTER_COMMIT에서 처리
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTodoSaved(TodoSavedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            index(event.getTodoId(), event.getTitle(), event.getContents(), event.getCreatedAt());
+        } catch (UncheckedIOException e) {
+            // 인덱스 반영 실패가 저장 요청을 실패시키지 않도록 로그만 남김 (재구축으로 복구)
+            log.warn("일정 검색 인덱스 반영 실패 - todoId: {}", event.getTodoId(), e);
+        }
+    }
+
+    /**
+     * 대량 등록 chunk 커밋 후 한 번에 인덱스에 반영 (다음 주기 reopen 때 함께 보임)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTodoBatchSaved(TodoBatchSavedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            for (TodoSavedEvent todo : event.getTodos()) {
+                index(todo.getTodoId(), todo.getTitle(), todo.getContents(), todo.getCreatedAt());
+            }
+        } catch (UncheckedIOException e) {
+            log.warn("일정 검색 인덱스 반영 실패 - {} 건", event.getTodos().size(), e);
+        }
+    }
+
+    /**
+     * 검색어를 포함할 수 있는 일정 id 후보 조회
+     * @param text 검색어
+     * @param fields 검색할 필드 (FIELD_TITLE, FIELD_CONTENTS), 하나라도 일치하면 후보
+     * @return 후보 id 목록, 인덱스를 쓸 수 없으면 empty (호출부에서 LIKE 경로로 처리)
+     */
+    public Optional<List<Long>> searchIds(String text, String... fields) {
+        if (!enabled || !ready || !hasText(text)) {
+            return Optional.empty();
+        }
+
+        Query query = new ConstantScoreQuery(buildQuery(text.toLowerCase(Locale.ROOT), fields));
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query, MAX_CANDIDATES + 1);
+                if (topDocs.scoreDocs.length > MAX_CANDIDATES) {
+                    return Optional.empty();
+                }
+
+                StoredFields storedFields = searcher.storedFields();
+                List<Long> ids = new ArrayList<>(topDocs.scoreDocs.length);
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                    ids.add(Long.parseLong(storedFields.document(scoreDoc.doc, Set.of(FIELD_ID)).get(FIELD_ID)));
+                }
+                return Optional.of(ids);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            log.warn("일정 검색 인덱스 조회 실패 - 검색어: '{}'", text, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 검색어가 들어간 일정 한 페이지 (생성일, id 내림차순) + 전체 건수
+     * 정렬 순서대로 offset + size개만 꺼내므로 후보 수와 상관없이 인덱스로 처리
+     * @param title 제목 검색어 (null이면 조건 없음)
+     * @param keyword 제목 또는 내용 검색어 (null이면 조건 없음)
+     * @param startDate 생성일 시작 (null이면 조건 없음)
+     * @param endDate 생성일 끝 (null이면 조건 없음)
+     * @return 인덱스를 쓸 수 없거나 검색어가 없거나 offset + size가 MAX_PAGE_WINDOW를 넘으면 empty
+     */
+    public Optional<IdPage> searchPage(String title, String keyword, LocalDateTime startDate, LocalDateTime endDate,
+                                       long offset, int size) {
+        if (!enabled || !ready || (!hasText(title) && !hasText(keyword)) || offset + size > MAX_PAGE_WINDOW) {
+            return Optional.empty();
+        }
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        if (hasText(title)) {
+            builder.add(buildQuery(title.toLowerCase(Locale.ROOT), FIELD_TITLE), BooleanClause.Occur.FILTER);
+        }
+        if (hasText(keyword)) {
+            builder.add(buildQuery(keyword.toLowerCase(Locale.ROOT), FIELD_TITLE, FIELD_CONTENTS), BooleanClause.Occur.FILTER);
+        }
+        if (startDate != null || endDate != null) {
+            builder.add(LongPoint.newRangeQuery(FIELD_CREATED_AT,
+                    startDate != null ? toMicros(startDate) : Long.MIN_VALUE,
+                    endDate != null ? toMicros(endDate) : Long.MAX_VALUE), BooleanClause.Occur.FILTER);
+        }
+        Query query = builder.build();
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                int total = searcher.count(query);
+                if (offset >= total) {
+                    return Optional.of(new IdPage(List.of(), total));
+                }
+
+                // 정렬 값(생성일, id)은 doc values에서 바로 읽음 -> 저장 필드 조회 없음
+                TopFieldDocs topDocs = searcher.search(query, (int) (offset + size), SORT);
+                List<Long> ids = new ArrayList<>(size);
+                for (int i = (int) offset; i < topDocs.scoreDocs.length; i++) {
+                    ids.add((Long) ((FieldDoc) topDocs.scoreDocs[i]).fields[1]);
+                }
+                return Optional.of(new IdPage(ids, total));
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            log.warn("일정 검색 인덱스 페이지 조회 실패 - title: '{}', keyword: '{}'", title, keyword, e);
+            return Optional.empty();
+        }
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        reopenThread.close();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private void index(Long id, String title, String contents, LocalDateTime createdAt) {
+        long createdAtMicros = createdAt != null ? toMicros(createdAt) : 0L;
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, String.valueOf(id), Field.Store.YES));
+        document.add(new NumericDocValuesField(FIELD_ID_SORT, id));
+        document.add(new LongPoint(FIELD_CREATED_AT, createdAtMicros));
+        document.add(new NumericDocValuesField(FIELD_CREATED_AT, createdAtMicros));
+        document.add(new TextField(FIELD_TITLE, title != null ? title : "", Field.Store.NO));
+        document.add(new TextField(FIELD_CONTENTS, contents != null ? contents : "", Field.Store.NO));
+        try {
+            // id 기준 upsert -> 재구축과 증분 반영이 겹쳐도 중복 문서가 생기지 않음
+            writer.updateDocument(new Term(FIELD_ID, String.valueOf(id)), document);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 필드별로 검색어 전체가 연속으로 들어간 문서(phrase), 필드끼리는 OR(SHOULD)
+     * NGramTokenizer는 글자 위치마다 1-gram, 2-gram 순으로 위치를 1씩 올리므로
+     * 연속된 2-gram은 위치가 2씩 차이남 (TodoNGramAnalyzer.POSITIONS_PER_CHAR)
+     */
+    private Query buildQuery(String normalized, String... fields) {
+        List<String> grams = grams(normalized);
+
+        BooleanQuery.Builder anyField = new BooleanQuery.Builder();
+        for (String field : fields) {
+            if (grams.size() == 1) {
+                anyField.add(new TermQuery(new Term(field, grams.get(0))), BooleanClause.Occur.SHOULD);
+                continue;
+            }
+            PhraseQuery.Builder phrase = new PhraseQuery.Builder();
+            for (int i = 0; i < grams.size(); i++) {
+                phrase.add(new Term(field, grams.get(i)), i * TodoNGramAnalyzer.POSITIONS_PER_CHAR);
+            }
+            anyField.add(phrase.build(), BooleanClause.Occur.SHOULD);
+        }
+        return anyField.build();
+    }
+
+    // 한 글자면 1-gram, 그 이상이면 연속된 2-gram 전부 (분석기와 같은 code point 단위, 순서 유지)
+    private List<String> grams(String text) {
+        int[] codePoints = text.codePoints().toArray();
+        if (codePoints.length < TodoNGramAnalyzer.MAX_GRAM) {
+            return List.of(text);
+        }
+
+        List<String> grams = new ArrayList<>(codePoints.length - 1);
+        for (int i = 0; i + TodoNGramAnalyzer.MAX_GRAM <= codePoints.length; i++) {
+            grams.add(new String(codePoints, i, TodoNGramAnalyzer.MAX_GRAM));
+        }
+        return grams;
+    }
+
+    // 정렬/범위 검색용 생성일 (DB 컬럼과 같은 마이크로초 단위)
+    private static long toMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + dateTime.getNano() / 1_000;
+    }
+}
@@ -0,0 +1,276 @@
+package org.example.expert.domain.todo.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.dto.response.TodoSuggestResponse;
+import org.example.expert.domain.todo.event.TodoBatchSavedEvent;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+/**
+ * 일정 제목 자동완성 인덱스 (GET /todos/suggest)
+ * 검색창 입력마다 /todos/search?title= 로 LIKE 전체 스캔을 하던 것을 메모리 접두어 인덱스로 처리
+ *
+ * - 정렬된 불변 세그먼트(TitleSuggestSegment) + 최근 저장분을 담는 작은 정렬 맵(delta)
+ *   delta가 todo.suggest-index.merge-threshold 건을 넘으면 백그라운드에서 세그먼트와 병합 후 교체
+ * - 조회는 락 없이 세그먼트/ delta를 함께 보고 같은 제목은 delta(더 최신) 쪽을 사용
+ * - 결과는 제목 중복 없이 최근 일정 순 (일정 수정 API가 없어 id 순서 = 생성 순서)
+ * - 시작 시 DB에서 전체 구축, 이후 saveTodo 커밋 이벤트로 증분 반영
+ * - todo.suggest-index.enabled=true 일 때만 동작, 준비 전에는 empty를 반환해 DB 조회로 처리
+ */
+@Slf4j
+@Component
+public class TodoTitleSuggestIndex {
+
+    private static final int REBUILD_FETCH_SIZE = 1_000;
+    private static final String REBUILD_SQL = "SELECT id, title FROM todos";
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int mergeThreshold;
+
+    private final ConcurrentSkipListMap<String, TitleSuggestSegment.Entry> delta = new ConcurrentSkipListMap<>();
+    private final ExecutorService mergeExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "todo-suggest-merge");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean mergeScheduled = new AtomicBoolean(false);
+    private volatile TitleSuggestSegment segment = TitleSuggestSegment.EMPTY;
+    private volatile boolean ready = false;
+
+    public TodoTitleSuggestIndex(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${todo.suggest-index.enabled:false}") boolean enabled,
+            @Value("${todo.suggest-index.merge-threshold:10000}") int mergeThreshold
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.mergeThreshold = mergeThreshold;
+
+        Gauge.builder("todo.suggest.index.bytes", this, index -> index.segment.sizeInBytes())
+                .description("제목 자동완성 세그먼트 배열 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("todo.suggest.index.titles", this, index -> index.segment.size() + index.delta.size())
+                .description("제목 자동완성 인덱스 제목 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 시작 후 DB에서 인덱스 구축
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * DB 전체를 다시 읽어 세그먼트 재구축
+     * 재구축 중 저장된 일정은 delta에 쌓이고 조회 시 함께 반영됨
+     * @return 반영한 일정 수
+     */
+    public synchronized long rebuild() {
+        long startTime = System.currentTimeMillis();
+        List<TitleSuggestSegment.Entry> entries = new ArrayList<>();
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(REBUILD_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(REBUILD_FETCH_SIZE);
+            return ps;
+        }, rs -> {
+            TitleSuggestSegment.Entry entry = toEntry(rs.getLong("id"), rs.getString("title"));
+            if (entry != null) {
+                entries.add(entry);
+            }
+        });
+
+        try {
+            segment = TitleSuggestSegment.build(entries);
+            ready = true;
+        } catch (IllegalStateException e) {
+            // 세그먼트 최대 크기를 넘으면 인덱스를 끄고 DB 조회로 처리
+            ready = false;
+            log.warn("제목 자동완성 인덱스를 사용하지 않습니다. - {}", e.getMessage());
+            return 0;
+        }
+
+        log.info("제목 자동완성 인덱스 구축 완료 - 일정 {} 건, 제목 {} 개, {} KB, 소요 시간: {} ms",
+                entries.size(), segment.size(), segment.sizeInBytes() / 1024, System.currentTimeMillis() - startTime);
+        return entries.size();
+    }
+
+    /**
+     * 일정 저장 커밋 후 delta에 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTodoSaved(TodoSavedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        addToDelta(event);
+        scheduleMergeIfNeeded();
+    }
+
+    /**
+     * 대량 등록 chunk 커밋 후 delta에 한 번에 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTodoBatchSaved(TodoBatchSavedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        event.getTodos().forEach(this::addToDelta);
+        scheduleMergeIfNeeded();
+    }
+
+    private void addToDelta(TodoSavedEvent event) {
+        TitleSuggestSegment.Entry entry = toEntry(event.getTodoId(), event.getTitle());
+        if (entry != null) {
+            delta.merge(entry.getKey(), entry, (current, added) -> added.getId() > current.getId() ? added : current);
+        }
+    }
+
+    private void scheduleMergeIfNeeded() {
+        if (delta.size() >= mergeThreshold && mergeScheduled.compareAndSet(false, true)) {
+            mergeExecutor.execute(this::mergeDelta);
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 제목을 최근 일정 순으로 조회
+     * @param prefix 입력 중인 검색어 (대소문자, 연속 공백 무시)
+     * @return 인덱스를 쓸 수 없으면 empty
+     */
+    public Optional<List<TodoSuggestResponse>> suggest(String prefix, int limit) {
+        if (!enabled || !ready) {
+            return Optional.empty();
+        }
+        String normalized = normalizePrefix(prefix);
+        TitleSuggestSegment current = segment;
+
+        // delta는 작아서 접두어 구간을 모두 읽고 id 내림차순 정렬
+        List<TitleSuggestSegment.Entry> recent = new ArrayList<>();
+        for (Map.Entry<String, TitleSuggestSegment.Entry> entry : delta.tailMap(normalized).entrySet()) {
+            if (!entry.getKey().startsWith(normalized)) {
+                break;
+            }
+            recent.add(entry.getValue());
+        }
+        recent.sort(Comparator.comparingLong(TitleSuggestSegment.Entry::getId).reversed());
+
+        // 세그먼트 커서와 delta 목록을 id 내림차순으로 병합
+        List<TodoSuggestResponse> result = new ArrayList<>(limit);
+        TitleSuggestSegment.Cursor cursor = current.cursor(normalized.getBytes(StandardCharsets.UTF_8));
+        int next = nextFromSegment(current, cursor);
+        int recentIndex = 0;
+        // 조회 도중 병합이 끝나면 같은 제목이 양쪽에서 나올 수 있어 한 번 더 걸러냄
+        Set<String> seen = new HashSet<>();
+        while (result.size() < limit && (next >= 0 || recentIndex < recent.size())) {
+            TitleSuggestSegment.Entry fromDelta = recentIndex < recent.size() ? recent.get(recentIndex) : null;
+            if (next >= 0 && (fromDelta == null || current.id(next) > fromDelta.getId())) {
+                if (seen.add(current.key(next))) {
+                    result.add(new TodoSuggestResponse(current.id(next), current.title(next)));
+                }
+                next = nextFromSegment(current, cursor);
+            } else {
+                if (seen.add(fromDelta.getKey())) {
+                    result.add(new TodoSuggestResponse(fromDelta.getId(), fromDelta.getTitle()));
+                }
+                recentIndex++;
+            }
+        }
+        return Optional.of(result);
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    /**
+     * 입력값 정규화 (NFC, 소문자, 연속 공백 하나로)
+     * 접두어는 끝 공백을 유지해야 "회의 "가 "회의록"과 구분됨
+     */
+    public static String normalizePrefix(String text) {
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).stripLeading().toLowerCase(Locale.ROOT);
+        return WHITESPACES.matcher(normalized).replaceAll(" ");
+    }
+
+    static String normalizeTitle(String title) {
+        return normalizePrefix(title).stripTrailing();
+    }
+
+    @PreDestroy
+    public void close() {
+        mergeExecutor.shutdownNow();
+    }
+
+    // delta에 같은 제목이 있으면 delta 쪽이 같거나 더 최신이므로 세그먼트 행은 건너뜀
+    private int nextFromSegment(TitleSuggestSegment current, TitleSuggestSegment.Cursor cursor) {
+        int index;
+        while ((index = cursor.next()) >= 0) {
+            if (delta.isEmpty() || !delta.containsKey(current.key(index))) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private synchronized void mergeDelta() {
+        mergeScheduled.set(false);
+        long startTime = System.currentTimeMillis();
+        List<TitleSuggestSegment.Entry> pending = new ArrayList<>(delta.values());
+
+        try {
+            segment = segment.merge(pending);
+        } catch (IllegalStateException e) {
+            ready = false;
+            log.warn("제목 자동완성 인덱스를 사용하지 않습니다. - {}", e.getMessage());
+            return;
+        }
+
+        // 병합 중 더 최신 항목으로 바뀐 제목은 delta에 남김
+        for (TitleSuggestSegment.Entry entry : pending) {
+            delta.remove(entry.getKey(), entry);
+        }
+        log.debug("제목 자동완성 delta 병합 - {} 건, 소요 시간: {} ms", pending.size(), System.currentTimeMillis() - startTime);
+    }
+
+    private TitleSuggestSegment.Entry toEntry(long id, String title) {
+        if (title == null || title.isBlank()) {
+            return null;
+        }
+        return new TitleSuggestSegment.Entry(normalizeTitle(title), title, id);
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.expert.domain.todo.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 날씨 문자열 사전
+ * weather 컬럼은 값의 종류가 몇십 개 수준이라 문자열 대신 작은 정수 id로 정규화해서 비트맵 키로 사용
+ * 대소문자/앞뒤 공백은 구분하지 않음
+ */
+class WeatherDictionary {
+
+    private final Map<String, Integer> idsByWeather = new ConcurrentHashMap<>();
+    private final List<String> weathers = new CopyOnWriteArrayList<>();
+
+    /**
+     * 날씨 id 조회, 처음 보는 날씨면 새 id 발급
+     */
+    synchronized int idOf(String weather) {
+        return idsByWeather.computeIfAbsent(normalize(weather), key -> {
+            weathers.add(key);
+            return weathers.size() - 1;
+        });
+    }
+
+    /**
+     * 검색어를 부분 문자열로 포함하는 날씨 id 목록 (기존 LIKE '%x%'와 같은 의미)
+     * 사전 크기가 작아서 매번 전체를 훑어도 충분히 빠름
+     */
+    List<Integer> idsContaining(String keyword) {
+        String normalized = normalize(keyword);
+        List<Integer> ids = new ArrayList<>();
+        for (int id = 0; id < weathers.size(); id++) {
+            if (weathers.get(id).contains(normalized)) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    int size() {
+        return weathers.size();
+    }
+
+    private static String normalize(String weather) {
+        return weather.trim().toLowerCase(Locale.ROOT);
+    }
+}
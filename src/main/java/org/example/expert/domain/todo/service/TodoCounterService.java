@@ -0,0 +1,59 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.response.TodoCounterRebuildResponse;
+import org.example.expert.domain.todo.event.TodoCountersRebuiltEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 일정 비정규화 카운터(managerCount, commentCount) 재계산
+ * 카운터가 실제 managers, comments 개수와 어긋났을 때 관리자가 실행
+ * 전체를 한 트랜잭션으로 돌리면 todos 전체에 락이 오래 걸리므로 id 구간(chunk)마다 따로 커밋
+ * chunk가 커밋될 때마다 이벤트를 발행해 카운터를 담고 있는 검색 결과 캐시를 무효화
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TodoCounterService {
+
+    private static final int MAX_CHUNK_SIZE = 10_000;
+
+    private final TodoRepository todoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TodoCounterRebuildResponse rebuildCounters(int chunkSize) {
+        if (chunkSize < 1 || chunkSize > MAX_CHUNK_SIZE) {
+            throw new InvalidRequestException("chunkSize는 1 이상 " + MAX_CHUNK_SIZE + " 이하여야 합니다.");
+        }
+
+        Long minId = todoRepository.findMinId();
+        Long maxId = todoRepository.findMaxId();
+        if (minId == null || maxId == null) {
+            return new TodoCounterRebuildResponse(0, 0);
+        }
+
+        long chunks = 0;
+        long updatedRows = 0;
+        for (long start = minId; start <= maxId; start += chunkSize) {
+            long fromId = start;
+            long toId = Math.min(start + chunkSize - 1, maxId);
+
+            // chunk 단위로 짧은 트랜잭션 커밋
+            Integer updated = transactionTemplate.execute(status -> todoRepository.rebuildCounters(fromId, toId));
+            updatedRows += updated != null ? updated : 0;
+            chunks++;
+            eventPublisher.publishEvent(new TodoCountersRebuiltEvent(fromId, toId));
+
+            log.info("일정 카운터 재계산 진행 - id {} ~ {} / {}", fromId, toId, maxId);
+        }
+
+        log.info("일정 카운터 재계산 완료 - chunk: {} 개, 갱신: {} 건", chunks, updatedRows);
+        return new TodoCounterRebuildResponse(chunks, updatedRows);
+    }
+}
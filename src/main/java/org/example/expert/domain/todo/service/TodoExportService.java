@@ -0,0 +1,135 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 일정 NDJSON 내보내기
+ * 페이지 단위 조회를 반복하지 않고 forward-only JDBC 커서 하나로 전체를 읽으면서 한 행씩 바로 써 내려감
+ * 엔티티/영속성 컨텍스트를 거치지 않으므로 행 수와 관계없이 힙 사용량이 일정
+ *
+ * MySQL은 JDBC URL에 useCursorFetch=true가 있어야 fetch size 단위로 나눠 읽음 (없으면 드라이버가 결과 전체를 메모리에 올림)
+ */
+@Slf4j
+@Service
+public class TodoExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String SELECT_SQL =
+            "SELECT t.id, t.title, t.contents, t.weather, t.created_at, t.modified_at, " +
+            "u.id AS user_id, u.email, u.nickname " +
+            "FROM todos t JOIN users u ON u.id = t.user_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectWriter objectWriter;
+    private final int fetchSize;
+
+    public TodoExportService(
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            @Value("${todo.export.fetch-size:1000}") int fetchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectWriter = objectMapper.writerFor(TodoResponse.class);
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * getTodos와 같은 조건으로 일정을 NDJSON(한 줄에 TodoResponse 하나)으로 출력
+     * @param gzip true면 gzip 압축해서 출력
+     * @return 출력한 행 수
+     */
+    public long exportTodos(OutputStream outputStream, boolean gzip, String weather, String startDateStr, String endDateStr) throws IOException {
+        LocalDateTime startDate = startDateStr != null ? LocalDateTime.parse(startDateStr) : null;
+        LocalDateTime endDate = endDateStr != null ? LocalDateTime.parse(endDateStr) : null;
+
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+        List<Object> params = new ArrayList<>();
+        List<String> conditions = new ArrayList<>();
+        if (weather != null) {
+            conditions.add("LOWER(t.weather) LIKE ?");
+            params.add("%" + weather.toLowerCase(Locale.ROOT) + "%");
+        }
+        if (startDate != null && endDate != null) {
+            conditions.add("t.modified_at BETWEEN ? AND ?");
+            params.add(Timestamp.valueOf(startDate));
+            params.add(Timestamp.valueOf(endDate));
+        }
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        sql.append(" ORDER BY t.modified_at DESC, t.id DESC");
+
+        long startTime = System.currentTimeMillis();
+        long[] count = {0};
+
+        OutputStream out = gzip
+                ? new GZIPOutputStream(outputStream, BUFFER_SIZE)
+                : new BufferedOutputStream(outputStream, BUFFER_SIZE);
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(sql.toString(),
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                for (int i = 0; i < params.size(); i++) {
+                    ps.setObject(i + 1, params.get(i));
+                }
+                return ps;
+            }, rs -> {
+                writeLine(out, toTodoResponse(rs));
+                count[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 끊김 등 출력 실패 -> 커서를 닫고 중단
+            throw e.getCause();
+        } finally {
+            out.close();
+        }
+
+        log.info("일정 내보내기 완료 - {} 건, 소요 시간: {} ms", count[0], System.currentTimeMillis() - startTime);
+        return count[0];
+    }
+
+    private void writeLine(OutputStream out, TodoResponse todo) {
+        try {
+            out.write(objectWriter.writeValueAsBytes(todo));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private TodoResponse toTodoResponse(ResultSet rs) throws SQLException {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        Timestamp modifiedAt = rs.getTimestamp("modified_at");
+        return new TodoResponse(
+                rs.getLong("id"),
+                rs.getString("title"),
+                rs.getString("contents"),
+                rs.getString("weather"),
+                new UserResponse(rs.getLong("user_id"), rs.getString("email"), rs.getString("nickname")),
+                createdAt != null ? createdAt.toLocalDateTime() : null,
+                modifiedAt != null ? modifiedAt.toLocalDateTime() : null
+        );
+    }
+}
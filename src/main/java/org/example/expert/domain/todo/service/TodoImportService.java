@@ -0,0 +1,346 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.dto.request.TodoImportRow;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
+import org.example.expert.domain.todo.event.TodoBatchSavedEvent;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * 일정 대량 등록 (CSV / NDJSON 스트리밍 업로드)
+ * POST /todos 를 행마다 호출하면 날씨 API 호출 + IDENTITY insert + 담당자 insert가 건마다 일어나므로,
+ * - 날씨는 날짜별로 한 번만 조회
+ * - todos, managers는 JDBC batch insert (UserBulkInsertTest와 같은 방식)
+ * - chunk 단위로 커밋하고 chunk별 결과를 기록, 커넥션은 chunk를 저장할 때만 빌림 (업로드가 느려도 풀을 잡고 있지 않음)
+ * - 커밋된 chunk마다 TodoBatchSavedEvent 한 번 발행
+ * - 요청 본문을 한 줄씩 읽고 chunk를 저장한 뒤에 다음 줄을 읽음 -> 업로드 전체를 메모리에 올리지 않고,
+ *   저장이 느리면 읽기도 멈추므로 TCP 흐름 제어로 클라이언트에 자연스럽게 backpressure가 걸림
+ */
+@Slf4j
+@Service
+public class TodoImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final String INSERT_TODO_SQL =
+            "INSERT INTO todos (title, contents, weather, user_id, manager_count, comment_count, created_at, modified_at) " +
+            "VALUES (?, ?, ?, ?, 1, 0, ?, ?)";
+    private static final String INSERT_MANAGER_SQL = "INSERT INTO managers (user_id, todo_id) VALUES (?, ?)";
+
+    private final DataSource dataSource;
+    private final WeatherClient weatherClient;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    public TodoImportService(
+            DataSource dataSource,
+            WeatherClient weatherClient,
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${todo.import.chunk-size:1000}") int chunkSize
+    ) {
+        this.dataSource = dataSource;
+        this.weatherClient = weatherClient;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * @param ndjson true면 NDJSON, false면 CSV (title,contents[,createdAt], 첫 줄 헤더는 생략 가능)
+     */
+    public TodoImportResponse importTodos(AuthUser authUser, InputStream inputStream, boolean ndjson) throws IOException {
+        long startTime = System.currentTimeMillis();
+        ImportContext context = new ImportContext(authUser.getId());
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            List<PendingTodo> chunk = new ArrayList<>(chunkSize);
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (!ndjson && lineNumber == 1 && isCsvHeader(line))) {
+                    continue;
+                }
+                context.totalRows++;
+
+                PendingTodo pending = toPendingTodo(context, lineNumber, line, ndjson);
+                if (pending == null) {
+                    continue;
+                }
+                chunk.add(pending);
+
+                if (chunk.size() == chunkSize) {
+                    flushChunk(context, chunk);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            flushChunk(context, chunk);
+        } catch (SQLException e) {
+            log.error("일정 대량 등록 실패 - DB 연결 오류 (커밋된 chunk: {} 건)", context.insertedRows, e);
+            throw new ServerException("일정 대량 등록 중 DB 오류가 발생했습니다.");
+        }
+
+        log.info("일정 대량 등록 완료 - 전체: {} 건, 등록: {} 건, 실패: {} 건, 소요 시간: {} ms",
+                context.totalRows, context.insertedRows, context.failedRows, System.currentTimeMillis() - startTime);
+
+        return new TodoImportResponse(context.totalRows, context.insertedRows, context.failedRows, context.chunks, context.errors);
+    }
+
+    // 한 줄을 파싱/검증하고 날씨까지 채움, 실패하면 오류 기록 후 null
+    private PendingTodo toPendingTodo(ImportContext context, long lineNumber, String line, boolean ndjson) {
+        TodoImportRow row;
+        try {
+            row = ndjson ? objectMapper.readValue(line, TodoImportRow.class) : parseCsvRow(line);
+        } catch (JsonProcessingException | DateTimeParseException | IllegalArgumentException e) {
+            context.addError(lineNumber, "형식 오류: " + e.getMessage());
+            return null;
+        }
+
+        if (!hasText(row.getTitle()) || !hasText(row.getContents())) {
+            context.addError(lineNumber, "title, contents는 필수입니다.");
+            return null;
+        }
+
+        LocalDateTime createdAt = row.getCreatedAt() != null ? row.getCreatedAt() : LocalDateTime.now();
+        String weather = context.weatherOf(createdAt.toLocalDate());
+        if (weather == null) {
+            context.addError(lineNumber, "날씨 조회 실패: " + context.weatherErrors.get(createdAt.toLocalDate()));
+            return null;
+        }
+
+        return new PendingTodo(lineNumber, row.getTitle(), row.getContents(), weather, createdAt);
+    }
+
+    /**
+     * chunk 하나를 커넥션 하나로 batch insert 후 커밋
+     * 저장이 실패하면 chunk 전체를 롤백하고 다음 chunk로 진행, 커넥션을 못 얻으면 등록 중단
+     */
+    private void flushChunk(ImportContext context, List<PendingTodo> chunk) throws SQLException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<Long> todoIds;
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            todoIds = saveChunk(connection, context, chunk);
+        }
+        // 커넥션을 돌려준 뒤 검색 인덱스 등 부가 저장소 반영
+        if (!todoIds.isEmpty()) {
+            publishSavedEvents(context.userId, chunk, todoIds);
+        }
+    }
+
+    // 커밋된 일정 id 목록, 롤백했으면 빈 목록
+    private List<Long> saveChunk(Connection connection, ImportContext context, List<PendingTodo> chunk) throws SQLException {
+        int chunkNumber = context.chunks.size() + 1;
+        long startTime = System.currentTimeMillis();
+
+        try {
+            List<Long> todoIds = insertTodos(connection, context.userId, chunk);
+            insertManagers(connection, context.userId, todoIds);
+            connection.commit();
+
+            context.insertedRows += chunk.size();
+            context.chunks.add(new TodoImportResponse.ChunkResult(chunkNumber, chunk.size(), chunk.size(),
+                    System.currentTimeMillis() - startTime, null));
+
+            log.info("일정 대량 등록 진행 - chunk {}: {} 건 커밋 (누적 {} 건)", chunkNumber, chunk.size(), context.insertedRows);
+            return todoIds;
+        } catch (SQLException e) {
+            connection.rollback();
+            for (PendingTodo pending : chunk) {
+                context.addError(pending.line, "chunk " + chunkNumber + " 롤백: " + e.getMessage());
+            }
+            context.chunks.add(new TodoImportResponse.ChunkResult(chunkNumber, chunk.size(), 0,
+                    System.currentTimeMillis() - startTime, e.getMessage()));
+
+            log.warn("일정 대량 등록 chunk {} 실패 - {} 건 롤백", chunkNumber, chunk.size(), e);
+            return List.of();
+        }
+    }
+
+    private List<Long> insertTodos(Connection connection, Long userId, List<PendingTodo> chunk) throws SQLException {
+        List<Long> todoIds = new ArrayList<>(chunk.size());
+        try (PreparedStatement pstmt = connection.prepareStatement(INSERT_TODO_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            for (PendingTodo pending : chunk) {
+                Timestamp createdAt = Timestamp.valueOf(pending.createdAt);
+                pstmt.setString(1, pending.title);
+                pstmt.setString(2, pending.contents);
+                pstmt.setString(3, pending.weather);
+                pstmt.setLong(4, userId);
+                pstmt.setTimestamp(5, createdAt);
+                pstmt.setTimestamp(6, createdAt);
+                pstmt.addBatch();
+            }
+            pstmt.executeBatch();
+
+            try (ResultSet keys = pstmt.getGeneratedKeys()) {
+                while (keys.next()) {
+                    todoIds.add(keys.getLong(1));
+                }
+            }
+        }
+
+        if (todoIds.size() != chunk.size()) {
+            throw new SQLException("생성된 일정 id 수가 일치하지 않습니다. (" + todoIds.size() + " / " + chunk.size() + ")");
+        }
+        return todoIds;
+    }
+
+    // 작성자를 기본 담당자로 등록 (Todo 생성자와 같은 동작)
+    private void insertManagers(Connection connection, Long userId, List<Long> todoIds) throws SQLException {
+        try (PreparedStatement pstmt = connection.prepareStatement(INSERT_MANAGER_SQL)) {
+            for (Long todoId : todoIds) {
+                pstmt.setLong(1, userId);
+                pstmt.setLong(2, todoId);
+                pstmt.addBatch();
+            }
+            pstmt.executeBatch();
+        }
+    }
+
+    // 커밋된 chunk를 검색 인덱스 등에 한 번에 반영
+    private void publishSavedEvents(Long userId, List<PendingTodo> chunk, List<Long> todoIds) {
+        List<TodoSavedEvent> todos = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            PendingTodo pending = chunk.get(i);
+            todos.add(new TodoSavedEvent(
+                    todoIds.get(i), pending.title, pending.contents, pending.weather, userId, pending.createdAt, pending.createdAt));
+        }
+        eventPublisher.publishEvent(new TodoBatchSavedEvent(todos));
+    }
+
+    static boolean isCsvHeader(String line) {
+        return line.trim().toLowerCase(Locale.ROOT).startsWith("title,");
+    }
+
+    /**
+     * CSV 한 줄 파싱 (RFC 4180 따옴표 규칙, 필드 안 줄바꿈은 미지원)
+     */
+    static TodoImportRow parseCsvRow(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("닫히지 않은 따옴표가 있습니다.");
+        }
+        fields.add(field.toString());
+
+        if (fields.size() < 2 || fields.size() > 3) {
+            throw new IllegalArgumentException("컬럼 수는 2개 또는 3개여야 합니다. (title,contents[,createdAt])");
+        }
+        LocalDateTime createdAt = fields.size() == 3 && hasText(fields.get(2)) ? LocalDateTime.parse(fields.get(2).trim()) : null;
+        return new TodoImportRow(fields.get(0), fields.get(1), createdAt);
+    }
+
+    /**
+     * 등록 한 번 동안의 진행 상태
+     */
+    private class ImportContext {
+
+        private final Long userId;
+        private final Map<LocalDate, String> weatherByDate = new HashMap<>();
+        private final Map<LocalDate, String> weatherErrors = new HashMap<>();
+        private final List<TodoImportResponse.ChunkResult> chunks = new ArrayList<>();
+        private final List<TodoImportResponse.RowError> errors = new ArrayList<>();
+        private long totalRows;
+        private long insertedRows;
+        private long failedRows;
+
+        private ImportContext(Long userId) {
+            this.userId = userId;
+        }
+
+        // 날짜별로 한 번만 날씨 API 호출 (실패도 기억해서 같은 날짜로 재호출하지 않음)
+        private String weatherOf(LocalDate date) {
+            if (weatherByDate.containsKey(date)) {
+                return weatherByDate.get(date);
+            }
+            String weather = null;
+            try {
+                weather = weatherClient.getWeather(date);
+            } catch (RuntimeException e) {
+                weatherErrors.put(date, e.getMessage());
+            }
+            weatherByDate.put(date, weather);
+            return weather;
+        }
+
+        private void addError(long line, String message) {
+            failedRows++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new TodoImportResponse.RowError(line, message));
+            }
+        }
+    }
+
+    private static class PendingTodo {
+
+        private final long line;
+        private final String title;
+        private final String contents;
+        private final String weather;
+        private final LocalDateTime createdAt;
+
+        private PendingTodo(long line, String title, String contents, String weather, LocalDateTime createdAt) {
+            this.line = line;
+            this.title = title;
+            this.contents = contents;
+            this.weather = weather;
+            this.createdAt = createdAt;
+        }
+    }
+}
@@ -3,45 +3,96 @@ package org.example.expert.domain.todo.service;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.common.dto.CursorPageResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.cache.TodoResponseCache;
+import org.example.expert.domain.todo.cache.TodoSearchResultCache;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSearchRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.dto.response.TodoSuggestResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoSummaryRepository;
+import org.example.expert.domain.todo.search.IdPage;
+import org.example.expert.domain.todo.search.TodoBitmapIndex;
+import org.example.expert.domain.todo.search.TodoTitleSuggestIndex;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TodoService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_SUGGEST_SIZE = 20;
+
     private final TodoRepository todoRepository;
     private final WeatherClient weatherClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TodoBitmapIndex todoBitmapIndex;
+    private final TodoResponseCache todoResponseCache;
+    private final TodoSearchResultCache todoSearchResultCache;
+    private final TransactionTemplate transactionTemplate;
+    private final TodoSummaryRepository todoSummaryRepository;
+    private final TodoSummaryService todoSummaryService;
+    private final TodoTitleSuggestIndex todoTitleSuggestIndex;
 
-    @Transactional
+    /**
+     * 날씨 조회는 트랜잭션을 열기 전에 끝내고, 저장만 트랜잭션 안에서 처리
+     * (날씨 API가 느려도 DB 커넥션을 잡고 기다리지 않음)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
+        CompletableFuture<String> weatherFuture = weatherClient.getTodayWeatherAsync();
         User user = User.fromAuthUser(authUser);
 
-        String weather = weatherClient.getTodayWeather();
+        String weather = joinWeather(weatherFuture);
 
-        Todo newTodo = new Todo(
-                todoSaveRequest.getTitle(),
-                todoSaveRequest.getContents(),
-                weather,
-                user
-        );
-        Todo savedTodo = todoRepository.save(newTodo);
+        Todo savedTodo = transactionTemplate.execute(status -> {
+            Todo newTodo = new Todo(
+                    todoSaveRequest.getTitle(),
+                    todoSaveRequest.getContents(),
+                    weather,
+                    user
+            );
+            Todo saved = todoRepository.save(newTodo);
+
+            // 커밋 이후 검색 인덱스 등에 반영
+            eventPublisher.publishEvent(new TodoSavedEvent(
+                    saved.getId(),
+                    saved.getTitle(),
+                    saved.getContents(),
+                    weather,
+                    user.getId(),
+                    saved.getCreatedAt(),
+                    saved.getModifiedAt()
+            ));
+            return saved;
+        });
 
         return new TodoSaveResponse(
                 savedTodo.getId(),
@@ -52,6 +103,17 @@ public class TodoService {
         );
     }
 
+    private String joinWeather(CompletableFuture<String> weatherFuture) {
+        try {
+            return weatherFuture.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다.");
+        }
+    }
+
     /**
      * weather + 날짜 범위 모두 있는 경우
      * weather만 있는 경우
@@ -65,40 +127,135 @@ public class TodoService {
         LocalDateTime startDate = startDateStr != null ? LocalDateTime.parse(startDateStr) : null;
         LocalDateTime endDate = endDateStr != null ? LocalDateTime.parse(endDateStr) : null;
 
-        Page<Todo> todos;
-
-        // 조건에 따라 적절한 쿼리 메소드 호출
-        if (weather != null && startDate != null && endDate != null) {
-            // weather + 날짜 범위
-            todos = todoRepository.findByWeatherAndDateRange(weather, startDate, endDate, pageable);
-        } else if (weather != null) {
-            // weather만
-            todos = todoRepository.findByWeather(weather, pageable);
-        } else if (startDate != null && endDate != null) {
-            // 날짜 범위만
-            todos = todoRepository.findByModifiedAtBetween(startDate, endDate, pageable);
-        } else {
-            // 조건 없음
-            todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
+        // 날씨/기간 조건이 있고 비트맵 인덱스가 준비됐으면 비트맵 교집합 + id 조회로 처리
+        if (weather != null || (startDate != null && endDate != null)) {
+            Optional<IdPage> idPage =
+                    todoBitmapIndex.findIds(weather, startDate, endDate, pageable.getOffset(), pageable.getPageSize());
+            if (idPage.isPresent()) {
+                return getTodosByIds(idPage.get(), pageable);
+            }
         }
 
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail(), todo.getUser().getNickname()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+        // 읽기 모델이 켜져 있으면 todo_summary 한 테이블만 조회
+        if (todoSummaryService.isEnabled()) {
+            return todoSummaryRepository.findTodos(weather, startDate, endDate, pageable);
+        }
+
+        // 조건이 없거나 일부만 있어도 동적 쿼리 하나로 처리
+        return todoRepository.findTodos(weather, startDate, endDate, pageable);
+    }
+
+    // 비트맵 인덱스가 고른 id 한 페이지를 한 번의 IN 쿼리로 조회 (수정일, id 내림차순 유지)
+    private Page<TodoResponse> getTodosByIds(IdPage idPage, Pageable pageable) {
+        List<Todo> todos = idPage.getIds().isEmpty() ? List.of() : todoRepository.findAllByIdInWithUser(idPage.getIds());
+        return toTodoPage(todos, pageable, idPage.getTotal());
     }
 
+    // 조회한 일정 한 페이지 -> 응답 DTO (findTodos와 같은 수정일, id 내림차순), JMH 벤치마크에서도 사용
+    static Page<TodoResponse> toTodoPage(List<Todo> todos, Pageable pageable, long total) {
+        List<TodoResponse> content = todos.stream()
+                .sorted(Comparator.comparing(Todo::getModifiedAt, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+                        .thenComparing(Todo::getId)
+                        .reversed())
+                .map(TodoService::toTodoResponse)
+                .toList();
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * 일정 단건 조회 (로컬 캐시 read-through)
+     */
     public TodoResponse getTodo(long todoId) {
-        Todo todo = todoRepository.findByIdWithUser(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+        return todoResponseCache.get(todoId, id -> {
+            Todo todo = todoRepository.findByIdWithUser(id)
+                    .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
-        User user = todo.getUser();
+            return toTodoResponse(todo);
+        });
+    }
+
+    /**
+     * QueryDSL Projections를 활용한 일정 검색
+     * @param request 검색 조건 (제목, 생성일 범위, 담당자 닉네임)
+     * 결과는 TodoSearchResultCache에 짧게 보관 (쓰기가 있으면 바로 새로 조회)
+     * 읽기 모델이 켜져 있으면 조인/서브쿼리 없이 todo_summary에서 조회
+     * content/count를 병렬로 실행하면 쿼리마다 커넥션을 따로 빌리므로, 트랜잭션 없이 실행해 요청 스레드가 커넥션을 잡고 있지 않게 함
+     * (DTO projection만 조회해서 지연 로딩이 없음)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Page<TodoSearchResponse> searchTodos(TodoSearchRequest request, Pageable pageable) {
+        return todoSearchResultCache.get(request, pageable, () -> todoSummaryService.isEnabled()
+                ? todoSummaryRepository.searchTodos(request, pageable)
+                : todoRepository.searchTodos(request, pageable));
+    }
 
+    /**
+     * 일정 제목 자동완성 (검색창 입력 중 호출)
+     * 메모리 접두어 인덱스가 준비됐으면 인덱스로, 아니면 DB LIKE 'prefix%'로 조회
+     * @param prefix 입력 중인 제목 앞부분
+     */
+    public List<TodoSuggestResponse> suggestTodos(String prefix, int size) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new InvalidRequestException("prefix는 비어 있을 수 없습니다.");
+        }
+        if (size < 1 || size > MAX_SUGGEST_SIZE) {
+            throw new InvalidRequestException("size는 1 이상 " + MAX_SUGGEST_SIZE + " 이하여야 합니다.");
+        }
+
+        return todoTitleSuggestIndex.suggest(prefix, size)
+                .orElseGet(() -> todoRepository.suggestTitles(prefix.strip(), size));
+    }
+
+    /**
+     * count 쿼리 없이 다음 페이지 존재 여부만 반환하는 일정 검색
+     * @param request 검색 조건 (제목, 생성일 범위, 담당자 닉네임)
+     */
+    public Slice<TodoSearchResponse> searchTodosSlice(TodoSearchRequest request, Pageable pageable) {
+        return todoRepository.searchTodosSlice(request, pageable);
+    }
+
+    /**
+     * 일정 목록 커서 페이지네이션 (getTodos와 같은 조건, modifiedAt 내림차순)
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지면 null
+     */
+    public CursorPageResponse<TodoResponse> getTodosByCursor(String cursor, int size, String weather, String startDateStr, String endDateStr) {
+        int limit = validateCursorPageSize(size);
+
+        LocalDateTime startDate = startDateStr != null ? LocalDateTime.parse(startDateStr) : null;
+        LocalDateTime endDate = endDateStr != null ? LocalDateTime.parse(endDateStr) : null;
+
+        // 다음 페이지 존재 여부 판단을 위해 limit + 1건 조회
+        List<TodoResponse> rows = todoRepository
+                .findTodosByCursor(weather, startDate, endDate, Cursor.decode(cursor), limit + 1)
+                .stream()
+                .map(TodoService::toTodoResponse)
+                .toList();
+
+        return CursorPageResponse.of(rows, limit, last -> Cursor.encode(last.getModifiedAt(), last.getId()));
+    }
+
+    /**
+     * 일정 검색 커서 페이지네이션 (searchTodos와 같은 조건, createdAt 내림차순)
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지면 null
+     */
+    public CursorPageResponse<TodoSearchResponse> searchTodosByCursor(TodoSearchRequest request, String cursor, int size) {
+        int limit = validateCursorPageSize(size);
+
+        List<TodoSearchResponse> rows = todoRepository.searchTodosByCursor(request, Cursor.decode(cursor), limit + 1);
+
+        return CursorPageResponse.of(rows, limit, last -> Cursor.encode(last.getCreatedAt(), last.getId()));
+    }
+
+    private int validateCursorPageSize(int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new InvalidRequestException("size는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        return size;
+    }
+
+    private static TodoResponse toTodoResponse(Todo todo) {
+        User user = todo.getUser();
         return new TodoResponse(
                 todo.getId(),
                 todo.getTitle(),
@@ -109,12 +266,4 @@ public class TodoService {
                 todo.getModifiedAt()
         );
     }
-
-    /**
-     * QueryDSL Projections를 활용한 일정 검색
-     * @param request 검색 조건 (제목, 생성일 범위, 담당자 닉네임)
-     */
-    public Page<TodoSearchResponse> searchTodos(TodoSearchRequest request, Pageable pageable) {
-        return todoRepository.searchTodos(request, pageable);
-    }
 }
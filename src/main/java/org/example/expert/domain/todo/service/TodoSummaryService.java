@@ -0,0 +1,214 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.event.CommentBatchSavedEvent;
+import org.example.expert.domain.comment.event.CommentSavedEvent;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.event.ManagerChangedEvent;
+import org.example.expert.domain.todo.dto.response.TodoSummaryRebuildResponse;
+import org.example.expert.domain.todo.event.TodoBatchSavedEvent;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoSummaryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일정 읽기 모델(todo_summary) 갱신
+ * 일정/댓글/담당자 쓰기가 커밋되면 해당 일정 1행을 원본 테이블 기준으로 다시 만듦
+ * 작성자/담당자 닉네임, 이메일을 펼쳐 두고 있어서 닉네임/이메일 변경 API가 생기면 그 유저의 일정도 다시 만들어야 함
+ * 읽기 모델 반영이 실패해도 쓰기 요청은 성공으로 두고 로그만 남김 -> 관리자 재구축으로 복구
+ *
+ * - todo.read-model.enabled=true 일 때만 갱신하고, 목록/검색 조회도 읽기 모델로 전환 (TodoService)
+ * - 켠 상태로 시작했는데 읽기 모델이 비어 있으면 시작 시 한 번 전체 재구축
+ */
+@Slf4j
+@Service
+public class TodoSummaryService {
+
+    private static final int STARTUP_CHUNK_SIZE = 1_000;
+    private static final int MAX_CHUNK_SIZE = 10_000;
+    // 한 트랜잭션에서 잠그는 원본 일정 행 수 (잠금 동안 카운터 UPDATE, 댓글 묶음 저장이 기다리므로 작게 유지)
+    private static final int LOCK_RANGE_SIZE = 100;
+
+    private final TodoRepository todoRepository;
+    private final TodoSummaryRepository todoSummaryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+
+    public TodoSummaryService(
+            TodoRepository todoRepository,
+            TodoSummaryRepository todoSummaryRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${todo.read-model.enabled:false}") boolean enabled
+    ) {
+        this.todoRepository = todoRepository;
+        this.todoSummaryRepository = todoSummaryRepository;
+        this.enabled = enabled;
+
+        // AFTER_COMMIT 시점에는 원래 트랜잭션 자원이 아직 묶여 있어서 새 트랜잭션으로 실행해야 커밋됨
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (enabled && todoSummaryRepository.count() == 0 && todoRepository.findMaxId() != null) {
+            rebuild(STARTUP_CHUNK_SIZE);
+        }
+    }
+
+    // 검색 캐시 버전(TodoSearchResultCache)보다 먼저 반영해야 새 버전 키에 이전 행이 담기지 않음
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTodoSaved(TodoSavedEvent event) {
+        refresh(event.getTodoId());
+    }
+
+    // 대량 등록 chunk는 id가 거의 연속이라 구간 한 번으로 다시 만듦 (구간 안의 다른 일정도 원본 기준이라 결과는 같음)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTodoBatchSaved(TodoBatchSavedEvent event) {
+        List<Long> todoIds = event.getTodoIds();
+        if (!enabled || todoIds.isEmpty()) {
+            return;
+        }
+        long fromId = todoIds.stream().mapToLong(Long::longValue).min().getAsLong();
+        long toId = todoIds.stream().mapToLong(Long::longValue).max().getAsLong();
+        try {
+            replaceInLockRanges(fromId, toId);
+        } catch (RuntimeException e) {
+            log.warn("일정 읽기 모델 반영 실패 - todoId: {} ~ {}", fromId, toId, e);
+        }
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentSaved(CommentSavedEvent event) {
+        refresh(event.getTodoId());
+    }
+
+    // 묶음 저장은 writer 스레드에서 발행되므로 묶음 안의 일정들을 한 트랜잭션으로 한 번씩만 갱신
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentBatchSaved(CommentBatchSavedEvent event) {
+        refreshAll(event.getTodoIds());
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onManagerChanged(ManagerChangedEvent event) {
+        refresh(event.getTodoId());
+    }
+
+    /**
+     * 일정 1건의 읽기 모델 갱신
+     */
+    public void refresh(Long todoId) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            transactionTemplate.execute(status -> todoSummaryRepository.replaceRange(todoId, todoId));
+        } catch (RuntimeException e) {
+            log.warn("일정 읽기 모델 반영 실패 - todoId: {}", todoId, e);
+        }
+    }
+
+    /**
+     * 일정 여러 건의 읽기 모델을 LOCK_RANGE_SIZE 건씩 한 트랜잭션으로 갱신
+     * id 오름차순으로 처리해서 다른 갱신과 원본 행 잠금 순서가 같음
+     */
+    public void refreshAll(List<Long> todoIds) {
+        if (!enabled || todoIds.isEmpty()) {
+            return;
+        }
+        List<Long> sorted = new ArrayList<>(todoIds);
+        sorted.sort(null);
+        for (int from = 0; from < sorted.size(); from += LOCK_RANGE_SIZE) {
+            List<Long> chunk = sorted.subList(from, Math.min(from + LOCK_RANGE_SIZE, sorted.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    for (Long todoId : chunk) {
+                        todoSummaryRepository.replaceRange(todoId, todoId);
+                    }
+                });
+            } catch (RuntimeException e) {
+                log.warn("일정 읽기 모델 반영 실패 - todoId: {} ~ {}", chunk.get(0), chunk.get(chunk.size() - 1), e);
+            }
+        }
+    }
+
+    /**
+     * 전체 재구축 (관리자용)
+     * id 구간(chunk)마다 삭제 후 다시 저장 -> 재구축 중에도 다른 구간은 계속 조회 가능
+     * chunk 안에서도 LOCK_RANGE_SIZE 건씩 나눠 커밋해서 원본 일정 행을 chunk 전체만큼 오래 잠그지 않음
+     */
+    public TodoSummaryRebuildResponse rebuild(int chunkSize) {
+        if (!enabled) {
+            throw new InvalidRequestException("일정 읽기 모델이 비활성화되어 있습니다. (todo.read-model.enabled)");
+        }
+        if (chunkSize < 1 || chunkSize > MAX_CHUNK_SIZE) {
+            throw new InvalidRequestException("chunkSize는 1 이상 " + MAX_CHUNK_SIZE + " 이하여야 합니다.");
+        }
+
+        long startTime = System.currentTimeMillis();
+        Long minId = todoRepository.findMinId();
+        Long maxId = todoRepository.findMaxId();
+        if (minId == null || maxId == null) {
+            // 일정이 하나도 없으면 남은 읽기 모델만 정리
+            transactionTemplate.executeWithoutResult(status -> todoSummaryRepository.deleteAllInBatch());
+            return new TodoSummaryRebuildResponse(0, 0, System.currentTimeMillis() - startTime);
+        }
+
+        // 삭제된 일정이 남지 않도록 범위 밖 행도 정리
+        transactionTemplate.executeWithoutResult(status -> {
+            todoSummaryRepository.replaceRange(Long.MIN_VALUE, minId - 1);
+            todoSummaryRepository.replaceRange(maxId + 1, Long.MAX_VALUE);
+        });
+
+        long chunks = 0;
+        long rebuiltRows = 0;
+        for (long start = minId; start <= maxId; start += chunkSize) {
+            long fromId = start;
+            long toId = Math.min(start + chunkSize - 1, maxId);
+
+            rebuiltRows += replaceInLockRanges(fromId, toId);
+            chunks++;
+
+            log.info("일정 읽기 모델 재구축 진행 - id {} ~ {} / {}", fromId, toId, maxId);
+        }
+
+        long elapsed = System.currentTimeMillis() - startTime;
+        log.info("일정 읽기 모델 재구축 완료 - chunk: {} 개, {} 건, 소요 시간: {} ms", chunks, rebuiltRows, elapsed);
+        return new TodoSummaryRebuildResponse(chunks, rebuiltRows, elapsed);
+    }
+
+    // 구간을 LOCK_RANGE_SIZE 건씩 나눠 각각 새 트랜잭션으로 다시 만듦
+    private int replaceInLockRanges(long fromId, long toId) {
+        int replaced = 0;
+        for (long start = fromId; start <= toId; start += LOCK_RANGE_SIZE) {
+            long rangeFrom = start;
+            long rangeTo = Math.min(start + LOCK_RANGE_SIZE - 1, toId);
+            Integer rows = transactionTemplate.execute(status -> todoSummaryRepository.replaceRange(rangeFrom, rangeTo));
+            replaced += rows != null ? rows : 0;
+        }
+        return replaced;
+    }
+}
@@ -2,10 +2,17 @@ package org.example.expert.domain.user.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.NicknameHashIndexRebuildResponse;
+import org.example.expert.domain.user.dto.response.UserNicknameIndexRebuildResponse;
+import org.example.expert.domain.user.search.NicknameHashIndex;
 import org.example.expert.domain.user.service.UserAdminService;
+import org.example.expert.domain.user.service.UserNicknameIndexService;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -13,9 +20,33 @@ import org.springframework.web.bind.annotation.RestController;
 public class UserAdminController {
 
     private final UserAdminService userAdminService;
+    private final UserNicknameIndexService userNicknameIndexService;
+    private final NicknameHashIndex nicknameHashIndex;
 
     @PatchMapping("/admin/users/{userId}")
     public void changeUserRole(@PathVariable long userId, @RequestBody UserRoleChangeRequest userRoleChangeRequest) {
         userAdminService.changeUserRole(userId, userRoleChangeRequest);
     }
+
+    /**
+     * 닉네임 trigram 색인 users 기준 재구축 (ADMIN 전용)
+     * POST /admin/users/nickname-index/rebuild?chunkSize=1000
+     */
+    @PostMapping("/admin/users/nickname-index/rebuild")
+    public ResponseEntity<UserNicknameIndexRebuildResponse> rebuildNicknameIndex(
+            @RequestParam(defaultValue = "1000") int chunkSize
+    ) {
+        return ResponseEntity.ok(userNicknameIndexService.rebuild(chunkSize));
+    }
+
+    /**
+     * 닉네임 조회 인덱스(메모리 매핑 파일) DB 기준 재구축 (ADMIN 전용)
+     * POST /admin/users/nickname-hash-index/rebuild
+     */
+    @PostMapping("/admin/users/nickname-hash-index/rebuild")
+    public ResponseEntity<NicknameHashIndexRebuildResponse> rebuildNicknameHashIndex() {
+        long startTime = System.currentTimeMillis();
+        long indexedCount = nicknameHashIndex.rebuild();
+        return ResponseEntity.ok(new NicknameHashIndexRebuildResponse(indexedCount, System.currentTimeMillis() - startTime));
+    }
 }
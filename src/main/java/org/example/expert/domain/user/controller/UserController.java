@@ -5,6 +5,7 @@ import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.enums.NicknameSearchMode;
 import org.example.expert.domain.user.service.UserService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -28,11 +29,20 @@ public class UserController {
     }
 
     /**
-     * 닉네임으로 유저 검색 (정확히 일치)
-     * GET /users/search?nickname=검색할닉네임
+     * 닉네임으로 유저 검색
+     * GET /users/search?nickname=검색할닉네임 (정확히 일치, 대소문자 구분)
+     * GET /users/search?nickname=user_&mode=prefix&size=20 (~로 시작, 대소문자 무시)
+     * GET /users/search?nickname=88b5&mode=contains&size=20 (~를 포함, 3글자 이상, 대소문자 무시)
      */
     @GetMapping("/users/search")
-    public ResponseEntity<List<UserResponse>> searchUsers(@RequestParam String nickname) {
-        return ResponseEntity.ok(userService.searchUsersByNickname(nickname));
+    public ResponseEntity<List<UserResponse>> searchUsers(
+            @RequestParam String nickname,
+            @RequestParam(required = false) String mode,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        if (mode == null) {
+            return ResponseEntity.ok(userService.searchUsersByNickname(nickname));
+        }
+        return ResponseEntity.ok(userService.searchUsers(nickname, NicknameSearchMode.of(mode), size));
     }
 }
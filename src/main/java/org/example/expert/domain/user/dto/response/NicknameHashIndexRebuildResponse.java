@@ -0,0 +1,15 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class NicknameHashIndexRebuildResponse {
+
+    private final long indexedCount;    // 색인한 유저 수
+    private final long elapsedMillis;   // 소요 시간 (ms)
+
+    public NicknameHashIndexRebuildResponse(long indexedCount, long elapsedMillis) {
+        this.indexedCount = indexedCount;
+        this.elapsedMillis = elapsedMillis;
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class UserNicknameIndexRebuildResponse {
+
+    private final long chunks;         // 처리한 chunk 수
+    private final long indexedUsers;   // 색인한 유저 수
+    private final long elapsedMillis;  // 소요 시간
+
+    public UserNicknameIndexRebuildResponse(long chunks, long indexedUsers, long elapsedMillis) {
+        this.chunks = chunks;
+        this.indexedUsers = indexedUsers;
+        this.elapsedMillis = elapsedMillis;
+    }
+}
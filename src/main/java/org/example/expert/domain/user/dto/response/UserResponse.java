@@ -1,5 +1,6 @@
 package org.example.expert.domain.user.dto.response;
 
+import com.querydsl.core.annotations.QueryProjection;
 import lombok.Getter;
 
 @Getter
@@ -9,6 +10,7 @@ public class UserResponse {
     private final String email;
     private final String nickname;
 
+    @QueryProjection
     public UserResponse(Long id, String email, String nickname) {
         this.id = id;
         this.email = email;
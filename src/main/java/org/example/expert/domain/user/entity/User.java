@@ -11,7 +11,8 @@ import org.example.expert.domain.user.enums.UserRole;
 @Entity
 @NoArgsConstructor
 @Table(name = "users", indexes = {
-        @Index(name = "idx_nickname", columnList = "nickname")
+        @Index(name = "idx_nickname", columnList = "nickname"),
+        @Index(name = "idx_nickname_lower", columnList = "nickname_lower")  // 대소문자 구분 없는 접두어 검색
 })
 public class User extends Timestamped {
 
@@ -21,6 +22,9 @@ public class User extends Timestamped {
     private String email;
     private String password;
     private String nickname;
+    // 소문자 닉네임, DB가 nickname에서 계산하는 생성 컬럼 (H2 / MySQL 모두 같은 문법, 직접 쓰지 않음)
+    @Column(columnDefinition = "varchar(255) generated always as (lower(nickname))", insertable = false, updatable = false)
+    private String nicknameLower;
     @Enumerated(EnumType.STRING)
     private UserRole userRole;
     private String profileImageUrl;
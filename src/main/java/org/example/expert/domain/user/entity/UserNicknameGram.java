@@ -0,0 +1,39 @@
+package org.example.expert.domain.user.entity;
+
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 닉네임 부분 검색용 trigram 색인 (닉네임 3글자 조각 -> 유저 id)
+ * PK (gram, user_id) 순서라 조각별 유저 id 목록(posting list)을 id 순으로 범위 조회
+ * 내용은 UserNicknameIndexService가 JDBC로 관리하고, 엔티티는 테이블 정의용
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@IdClass(UserNicknameGram.Key.class)
+@Table(name = "user_nickname_gram", indexes = {
+        @Index(name = "idx_user_nickname_gram_user_id", columnList = "user_id")  // 닉네임 변경/재구축 시 유저별 삭제
+})
+public class UserNicknameGram {
+
+    @Id
+    @Column(length = 8)
+    private String gram;
+
+    @Id
+    private Long userId;
+
+    @Getter
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        private String gram;
+        private Long userId;
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.expert.domain.user.enums;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.util.Arrays;
+
+public enum NicknameSearchMode {
+    EXACT,     // 정확히 일치, 대소문자 구분 (닉네임 조회 인덱스 또는 idx_nickname)
+    PREFIX,    // ~로 시작, 대소문자 구분 없음 (idx_nickname_lower 범위 조회)
+    CONTAINS;  // ~를 포함, 대소문자 구분 없음 (user_nickname_gram)
+
+    public static NicknameSearchMode of(String mode) {
+        return Arrays.stream(NicknameSearchMode.values())
+                .filter(m -> m.name().equalsIgnoreCase(mode))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("유효하지 않은 검색 모드입니다. (exact, prefix, contains)"));
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.expert.domain.user.event;
+
+import lombok.Getter;
+
+/**
+ * 유저 가입 이벤트
+ * 트랜잭션 커밋 이후(@TransactionalEventListener AFTER_COMMIT) 닉네임 색인 등 부가 저장소 갱신에 사용
+ */
+@Getter
+public class UserSavedEvent {
+
+    private final Long userId;
+    private final String nickname;
+
+    public UserSavedEvent(Long userId, String nickname) {
+        this.userId = userId;
+        this.nickname = nickname;
+    }
+}
@@ -1,6 +1,7 @@
 package org.example.expert.domain.user.repository;
 
 import org.example.expert.domain.user.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
@@ -15,4 +16,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * 대용량 데이터 조회를 위해 나중에 인덱스 최적화 필요
      */
     List<User> findByNickname(String nickname);
+
+    /**
+     * 닉네임 접두어 검색 (LIKE '접두어%', idx_nickname_lower 범위 조회)
+     * 소문자로 저장된 nickname_lower에 소문자 접두어로 비교해 DB collation과 관계없이 대소문자를 구분하지 않음
+     * %, _ 는 Spring Data가 escape 처리
+     */
+    List<User> findByNicknameLowerStartingWithOrderByNicknameLowerAsc(String lowerCasePrefix, Limit limit);
 }
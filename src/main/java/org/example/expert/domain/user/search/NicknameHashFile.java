@@ -0,0 +1,522 @@
+package org.example.expert.domain.user.search;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 닉네임 해시 -> 유저 id 정렬 파일 (메모리 매핑, 불변)
+ * (hash64(닉네임), 유저 id) 16바이트 항목을 (hash, id) 오름차순으로 저장하고 이진 탐색으로 조회
+ *
+ * - 헤더 32바이트: magic, version, 항목 수, watermark(반영된 최대 유저 id), 예약
+ * - 힙 밖(mmap)에 있어 5천만 건(800MB)이어도 GC 대상이 아니고, 재시작 시 파일만 다시 매핑
+ * - 1GB 단위로 나눠 매핑 (MappedByteBuffer 하나는 2GB 미만만 가능)
+ * - 새 파일은 .tmp에 쓰고 fsync 후 원자적 이동으로 교체
+ * - 교체된 파일은 close()로 매핑을 바로 해제 (GC를 기다리면 지워진 파일이 디스크를 계속 차지)
+ *   조회 중 해제되지 않도록 retain() / release() 참조 수로 보호
+ */
+final class NicknameHashFile {
+
+    static final int MAGIC = 0x4E4B4831;  // "NKH1"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 32;
+    static final int ENTRY_BYTES = 16;
+
+    private static final int SEGMENT_SHIFT = 26;  // 세그먼트당 2^26 항목 = 1GB
+    private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+    private static final int WRITE_BUFFER_SIZE = 1 << 20;
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // 해제할 수 없으면 GC가 매핑을 정리
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    private final MappedByteBuffer[] segments;
+    private final long count;
+    private final long watermark;
+    // 소유자 1 + 조회 중인 스레드 수, 0이 되면 매핑 해제
+    private final AtomicInteger references = new AtomicInteger(1);
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    private NicknameHashFile(MappedByteBuffer[] segments, long count, long watermark) {
+        this.segments = segments;
+        this.count = count;
+        this.watermark = watermark;
+    }
+
+    /**
+     * 파일을 읽기 전용으로 매핑 (채널을 닫아도 매핑은 유지됨)
+     */
+    static NicknameHashFile open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_BYTES) {
+                throw new IOException("닉네임 색인 파일 헤더가 없습니다. - " + path);
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) {
+                    throw new EOFException("닉네임 색인 파일 헤더를 읽을 수 없습니다. - " + path);
+                }
+            }
+            header.flip();
+            if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+                throw new IOException("닉네임 색인 파일 형식이 다릅니다. - " + path);
+            }
+            long count = header.getLong();
+            long watermark = header.getLong();
+            if (count < 0 || HEADER_BYTES + count * ENTRY_BYTES != fileSize) {
+                throw new IOException("닉네임 색인 파일 크기가 헤더와 다릅니다. - " + path);
+            }
+
+            int segmentCount = (int) ((count + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+            MappedByteBuffer[] segments = new MappedByteBuffer[segmentCount];
+            for (int i = 0; i < segmentCount; i++) {
+                long first = (long) i << SEGMENT_SHIFT;
+                long entries = Math.min(count - first, 1L << SEGMENT_SHIFT);
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES + first * ENTRY_BYTES, entries * ENTRY_BYTES);
+            }
+            return new NicknameHashFile(segments, count, watermark);
+        }
+    }
+
+    /**
+     * 정렬된 항목을 파일로 기록 (같은 항목은 하나만)
+     */
+    static void write(Path target, EntryIterator entries, long watermark) throws IOException {
+        Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+            channel.position(HEADER_BYTES);
+
+            long count = 0;
+            boolean first = true;
+            long previousHash = 0;
+            long previousId = 0;
+            while (entries.next()) {
+                long hash = entries.hash();
+                long id = entries.id();
+                if (!first && hash == previousHash && id == previousId) {
+                    continue;
+                }
+                if (!first && compare(previousHash, previousId, hash, id) > 0) {
+                    throw new IllegalStateException("닉네임 색인 항목이 정렬되어 있지 않습니다.");
+                }
+                if (buffer.remaining() < ENTRY_BYTES) {
+                    writeFully(channel, buffer);
+                }
+                buffer.putLong(hash).putLong(id);
+                previousHash = hash;
+                previousId = id;
+                first = false;
+                count++;
+            }
+            writeFully(channel, buffer);
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(MAGIC).putInt(VERSION).putLong(count).putLong(watermark).putLong(0L);
+            header.flip();
+            channel.position(0);
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            channel.force(true);
+        }
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    long count() {
+        return count;
+    }
+
+    long watermark() {
+        return watermark;
+    }
+
+    long sizeInBytes() {
+        return HEADER_BYTES + count * ENTRY_BYTES;
+    }
+
+    /**
+     * 조회 전 참조 획득, 이미 닫힌 파일이면 false (호출 측에서 교체된 파일로 다시 시도)
+     */
+    boolean retain() {
+        while (true) {
+            int current = references.get();
+            if (current == 0) {
+                return false;
+            }
+            if (references.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    void release() {
+        if (references.decrementAndGet() == 0) {
+            for (MappedByteBuffer segment : segments) {
+                unmap(segment);
+            }
+        }
+    }
+
+    /**
+     * 소유자 참조 반환, 조회 중인 스레드가 없으면 바로 매핑 해제 (여러 번 호출해도 한 번만 반영)
+     */
+    void close() {
+        if (closed.compareAndSet(false, true)) {
+            release();
+        }
+    }
+
+    /**
+     * 해시가 같은 항목의 유저 id를 out에 추가
+     */
+    void lookup(long hash, List<Long> out) {
+        long lo = 0;
+        long hi = count;
+        while (lo < hi) {
+            long mid = (lo + hi) >>> 1;
+            if (hashAt(mid) < hash) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        for (long i = lo; i < count && hashAt(i) == hash; i++) {
+            out.add(idAt(i));
+        }
+    }
+
+    EntryIterator iterator() {
+        return new EntryIterator() {
+            private long index = -1;
+
+            @Override
+            public boolean next() {
+                return ++index < count;
+            }
+
+            @Override
+            public long hash() {
+                return hashAt(index);
+            }
+
+            @Override
+            public long id() {
+                return idAt(index);
+            }
+        };
+    }
+
+    private long hashAt(long index) {
+        return segments[(int) (index >>> SEGMENT_SHIFT)].getLong((int) ((index & SEGMENT_MASK) * ENTRY_BYTES));
+    }
+
+    private long idAt(long index) {
+        return segments[(int) (index >>> SEGMENT_SHIFT)].getLong((int) ((index & SEGMENT_MASK) * ENTRY_BYTES + 8));
+    }
+
+    /**
+     * 닉네임 64비트 해시 (UTF-8 바이트 FNV-1a + murmur3 finalizer)
+     */
+    static long hash64(String nickname) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : nickname.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    static int compare(long hashA, long idA, long hashB, long idB) {
+        int cmp = Long.compare(hashA, hashB);
+        return cmp != 0 ? cmp : Long.compare(idA, idB);
+    }
+
+    /**
+     * 정렬된 여러 항목 목록을 하나로 병합
+     */
+    static EntryIterator merge(List<EntryIterator> sources) {
+        PriorityQueue<EntryIterator> queue = new PriorityQueue<>(Math.max(1, sources.size()),
+                (a, b) -> compare(a.hash(), a.id(), b.hash(), b.id()));
+        for (EntryIterator source : sources) {
+            if (source.next()) {
+                queue.add(source);
+            }
+        }
+        return new EntryIterator() {
+            private long hash;
+            private long id;
+
+            @Override
+            public boolean next() {
+                EntryIterator head = queue.poll();
+                if (head == null) {
+                    return false;
+                }
+                hash = head.hash();
+                id = head.id();
+                if (head.next()) {
+                    queue.add(head);
+                }
+                return true;
+            }
+
+            @Override
+            public long hash() {
+                return hash;
+            }
+
+            @Override
+            public long id() {
+                return id;
+            }
+        };
+    }
+
+    /**
+     * (hash, id) 배열 앞 size개를 정렬한 뒤 순회
+     */
+    static EntryIterator sorted(long[] hashes, long[] ids, int size) {
+        sort(hashes, ids, 0, size - 1);
+        return new EntryIterator() {
+            private int index = -1;
+
+            @Override
+            public boolean next() {
+                return ++index < size;
+            }
+
+            @Override
+            public long hash() {
+                return hashes[index];
+            }
+
+            @Override
+            public long id() {
+                return ids[index];
+            }
+        };
+    }
+
+    // 두 배열을 함께 정렬하는 quicksort (해시는 고르게 퍼져 있어 중앙값 피벗으로 충분)
+    private static void sort(long[] hashes, long[] ids, int lo, int hi) {
+        while (hi - lo > 16) {
+            int mid = (lo + hi) >>> 1;
+            long pivotHash = hashes[mid];
+            long pivotId = ids[mid];
+            int i = lo;
+            int j = hi;
+            while (i <= j) {
+                while (compare(hashes[i], ids[i], pivotHash, pivotId) < 0) {
+                    i++;
+                }
+                while (compare(hashes[j], ids[j], pivotHash, pivotId) > 0) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(hashes, ids, i++, j--);
+                }
+            }
+            // 작은 쪽만 재귀해서 스택 깊이를 log n으로 제한
+            if (j - lo < hi - i) {
+                sort(hashes, ids, lo, j);
+                lo = i;
+            } else {
+                sort(hashes, ids, i, hi);
+                hi = j;
+            }
+        }
+        for (int i = lo + 1; i <= hi; i++) {
+            for (int k = i; k > lo && compare(hashes[k - 1], ids[k - 1], hashes[k], ids[k]) > 0; k--) {
+                swap(hashes, ids, k - 1, k);
+            }
+        }
+    }
+
+    private static void swap(long[] hashes, long[] ids, int a, int b) {
+        long hash = hashes[a];
+        hashes[a] = hashes[b];
+        hashes[b] = hash;
+        long id = ids[a];
+        ids[a] = ids[b];
+        ids[b] = id;
+    }
+
+    private static void unmap(MappedByteBuffer buffer) {
+        if (INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        } catch (ReflectiveOperationException e) {
+            // 해제에 실패하면 GC가 매핑을 정리
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * (hash, id) 순회, next()가 true를 반환한 뒤에 hash()/id() 사용
+     */
+    interface EntryIterator {
+
+        boolean next();
+
+        long hash();
+
+        long id();
+    }
+
+    /**
+     * 정렬되지 않은 항목으로 파일 생성 (외부 정렬)
+     * runSize개씩 메모리에서 정렬해 임시 파일로 내리고 마지막에 k-way 병합 -> 힙은 runSize * 16바이트만 사용
+     */
+    static final class Builder implements Closeable {
+
+        private final Path target;
+        private final long[] hashes;
+        private final long[] ids;
+        private final List<Path> runs = new ArrayList<>();
+        private final List<DataInputStream> openRuns = new ArrayList<>();
+        private int size = 0;
+        private long watermark = 0;
+
+        Builder(Path target, int runSize) {
+            this.target = target;
+            this.hashes = new long[runSize];
+            this.ids = new long[runSize];
+        }
+
+        void add(long hash, long id) throws IOException {
+            if (size == hashes.length) {
+                flushRun();
+            }
+            hashes[size] = hash;
+            ids[size] = id;
+            size++;
+            watermark = Math.max(watermark, id);
+        }
+
+        NicknameHashFile finish() throws IOException {
+            if (runs.isEmpty()) {
+                write(target, sorted(hashes, ids, size), watermark);
+            } else {
+                if (size > 0) {
+                    flushRun();
+                }
+                List<EntryIterator> sources = new ArrayList<>(runs.size());
+                for (Path run : runs) {
+                    sources.add(readRun(run));
+                }
+                write(target, merge(sources), watermark);
+            }
+            return open(target);
+        }
+
+        @Override
+        public void close() throws IOException {
+            for (DataInputStream in : openRuns) {
+                in.close();
+            }
+            for (Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+        }
+
+        private void flushRun() throws IOException {
+            Path run = Files.createTempFile(target.toAbsolutePath().getParent(), "nickname-index-run-", ".bin");
+            runs.add(run);
+            EntryIterator entries = sorted(hashes, ids, size);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(run), WRITE_BUFFER_SIZE))) {
+                out.writeInt(size);
+                while (entries.next()) {
+                    out.writeLong(entries.hash());
+                    out.writeLong(entries.id());
+                }
+            }
+            size = 0;
+        }
+
+        private EntryIterator readRun(Path run) throws IOException {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(run), WRITE_BUFFER_SIZE));
+            openRuns.add(in);
+            int entries = in.readInt();
+            return new EntryIterator() {
+                private int remaining = entries;
+                private long hash;
+                private long id;
+
+                @Override
+                public boolean next() {
+                    if (remaining == 0) {
+                        return false;
+                    }
+                    try {
+                        hash = in.readLong();
+                        id = in.readLong();
+                    } catch (IOException e) {
+                        throw new IllegalStateException("닉네임 색인 임시 파일을 읽을 수 없습니다.", e);
+                    }
+                    remaining--;
+                    return true;
+                }
+
+                @Override
+                public long hash() {
+                    return hash;
+                }
+
+                @Override
+                public long id() {
+                    return id;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package org.example.expert.domain.user.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.event.UserSavedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 닉네임 -> 유저 id 조회 인덱스 (GET /users/search 정확히 일치)
+ * 검색마다 DB 인덱스를 타던 것을 메모리 매핑 파일(NicknameHashFile) 이진 탐색으로 처리하고 DB는 찾은 id로만 조회
+ *
+ * - 정렬 파일 + 최근 가입분을 담는 작은 힙 맵(delta)
+ *   delta가 user.nickname-index.merge-threshold 건을 넘으면 백그라운드에서 파일과 병합해 새 파일로 교체
+ * - 재시작 시 파일을 다시 매핑하고 watermark 이후 가입한 유저만 DB에서 읽어 delta에 채움 (전체 재구축 없음)
+ *   id 순서와 커밋 순서가 다를 수 있어 watermark보다 CATCH_UP_OVERLAP 만큼 앞부터 다시 읽음
+ * - 파일을 교체하면 이전 파일은 조회가 끝나는 대로 매핑 해제 (NicknameHashFile.close)
+ * - 해시 충돌은 DB에서 가져온 닉네임을 비교해 걸러냄 (UserService)
+ * - 가입 커밋 이벤트로 증분 반영 (닉네임 변경 API가 생기면 같은 방식으로 반영 필요)
+ * - user.nickname-index.enabled=true 일 때만 동작, 준비 전에는 empty를 반환해 DB 조회로 처리
+ */
+@Slf4j
+@Component
+public class NicknameHashIndex {
+
+    private static final int REBUILD_FETCH_SIZE = 1_000;
+    private static final int RUN_SIZE = 4_000_000;  // 외부 정렬 run 크기 (64MB)
+    private static final long CATCH_UP_OVERLAP = 1_000;
+    private static final String REBUILD_SQL = "SELECT id, nickname FROM users";
+    private static final String CATCH_UP_SQL = "SELECT id, nickname FROM users WHERE id > ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final Path path;
+    private final int mergeThreshold;
+
+    // hash -> 유저 id 목록
+    private final Map<Long, Set<Long>> delta = new ConcurrentHashMap<>();
+    private final AtomicInteger deltaSize = new AtomicInteger();
+    private final ExecutorService mergeExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "nickname-index-merge");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean mergeScheduled = new AtomicBoolean(false);
+    private volatile NicknameHashFile file;
+    private volatile boolean ready = false;
+
+    public NicknameHashIndex(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${user.nickname-index.enabled:false}") boolean enabled,
+            @Value("${user.nickname-index.path:./data/nickname-index.bin}") String path,
+            @Value("${user.nickname-index.merge-threshold:10000}") int mergeThreshold
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.path = Path.of(path);
+        this.mergeThreshold = mergeThreshold;
+
+        Gauge.builder("user.nickname.index.bytes", this, index -> index.file != null ? index.file.sizeInBytes() : 0)
+                .description("닉네임 색인 매핑 파일 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("user.nickname.index.delta", deltaSize, AtomicInteger::get)
+                .description("닉네임 색인 delta 항목 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 시작 시 기존 파일을 매핑하고 이후 가입분만 반영, 파일이 없거나 깨졌으면 전체 구축
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            NicknameHashFile opened = NicknameHashFile.open(path);
+            long caughtUp = catchUp(opened.watermark());
+            swap(opened);
+            ready = true;
+            log.info("닉네임 색인 로드 완료 - 항목 {} 건, watermark: {}, 이후 가입 {} 건",
+                    opened.count(), opened.watermark(), caughtUp);
+        } catch (NoSuchFileException e) {
+            rebuild();
+        } catch (IOException e) {
+            log.warn("닉네임 색인 파일을 읽을 수 없어 다시 만듭니다. - {}", e.getMessage());
+            rebuild();
+        }
+    }
+
+    /**
+     * DB 전체를 다시 읽어 파일 재구축
+     * 재구축 중 가입한 유저는 delta에 쌓이고 조회 시 함께 반영됨
+     * @return 반영한 유저 수
+     */
+    public synchronized long rebuild() {
+        long startTime = System.currentTimeMillis();
+        long[] rows = {0};
+
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            try (NicknameHashFile.Builder builder = new NicknameHashFile.Builder(path, RUN_SIZE)) {
+                jdbcTemplate.query(connection -> {
+                    PreparedStatement ps = connection.prepareStatement(REBUILD_SQL,
+                            ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    ps.setFetchSize(REBUILD_FETCH_SIZE);
+                    return ps;
+                }, rs -> {
+                    String nickname = rs.getString("nickname");
+                    if (nickname != null) {
+                        try {
+                            builder.add(NicknameHashFile.hash64(nickname), rs.getLong("id"));
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                        rows[0]++;
+                    }
+                });
+                swap(builder.finish());
+                ready = true;
+            }
+        } catch (IOException | UncheckedIOException e) {
+            // 파일을 쓸 수 없으면 인덱스를 끄고 DB 조회로 처리
+            ready = false;
+            log.warn("닉네임 색인을 사용하지 않습니다. - {}", e.getMessage());
+            return 0;
+        }
+
+        log.info("닉네임 색인 구축 완료 - 유저 {} 명, {} MB, 소요 시간: {} ms",
+                rows[0], file.sizeInBytes() / (1024 * 1024), System.currentTimeMillis() - startTime);
+        return rows[0];
+    }
+
+    /**
+     * 가입 커밋 후 delta에 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserSaved(UserSavedEvent event) {
+        if (!enabled || event.getNickname() == null) {
+            return;
+        }
+        addToDelta(NicknameHashFile.hash64(event.getNickname()), event.getUserId());
+
+        if (deltaSize.get() >= mergeThreshold && mergeScheduled.compareAndSet(false, true)) {
+            mergeExecutor.execute(this::mergeDelta);
+        }
+    }
+
+    /**
+     * 닉네임이 같을 수 있는 유저 id 목록 (해시 충돌 가능, 호출 측에서 닉네임 비교 필요)
+     * @return 인덱스를 쓸 수 없으면 empty
+     */
+    public Optional<List<Long>> lookup(String nickname) {
+        if (!enabled || !ready) {
+            return Optional.empty();
+        }
+        long hash = NicknameHashFile.hash64(nickname);
+        List<Long> ids = new ArrayList<>();
+
+        // 읽은 직후 교체되어 닫혔으면 새 파일로 다시 시도
+        NicknameHashFile current = file;
+        while (!current.retain()) {
+            if (!ready) {
+                return Optional.empty();
+            }
+            current = file;
+        }
+        try {
+            current.lookup(hash, ids);
+        } finally {
+            current.release();
+        }
+
+        Set<Long> recent = delta.get(hash);
+        if (recent != null) {
+            for (Long id : recent) {
+                if (!ids.contains(id)) {
+                    ids.add(id);
+                }
+            }
+        }
+        return Optional.of(ids);
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    @PreDestroy
+    public void close() {
+        mergeExecutor.shutdownNow();
+        ready = false;
+        if (file != null) {
+            file.close();
+        }
+    }
+
+    // 새 파일로 교체하고 이전 파일의 매핑 해제 (채널은 open에서 이미 닫힘)
+    private synchronized void swap(NicknameHashFile next) {
+        NicknameHashFile previous = file;
+        file = next;
+        if (previous != null && previous != next) {
+            previous.close();
+        }
+    }
+
+    private long catchUp(long watermark) {
+        long[] rows = {0};
+        jdbcTemplate.query(CATCH_UP_SQL, rs -> {
+            String nickname = rs.getString("nickname");
+            if (nickname != null) {
+                addToDelta(NicknameHashFile.hash64(nickname), rs.getLong("id"));
+                rows[0]++;
+            }
+        }, Math.max(0, watermark - CATCH_UP_OVERLAP));
+        return rows[0];
+    }
+
+    private void addToDelta(long hash, long userId) {
+        // 병합 후 빈 목록 제거(computeIfPresent)와 겹치지 않도록 키 단위로 원자적으로 추가
+        delta.compute(hash, (key, ids) -> {
+            Set<Long> target = ids != null ? ids : ConcurrentHashMap.newKeySet();
+            if (target.add(userId)) {
+                deltaSize.incrementAndGet();
+            }
+            return target;
+        });
+    }
+
+    private synchronized void mergeDelta() {
+        mergeScheduled.set(false);
+        if (!ready) {
+            return;
+        }
+        long startTime = System.currentTimeMillis();
+
+        // delta 스냅샷
+        List<long[]> pending = new ArrayList<>();
+        delta.forEach((hash, ids) -> ids.forEach(id -> pending.add(new long[]{hash, id})));
+        if (pending.isEmpty()) {
+            return;
+        }
+        long[] hashes = new long[pending.size()];
+        long[] ids = new long[pending.size()];
+        long watermark = file.watermark();
+        for (int i = 0; i < pending.size(); i++) {
+            hashes[i] = pending.get(i)[0];
+            ids[i] = pending.get(i)[1];
+            watermark = Math.max(watermark, ids[i]);
+        }
+
+        // 종료(close) 중에도 순회가 끝날 때까지 매핑 유지
+        NicknameHashFile current = file;
+        if (!current.retain()) {
+            return;
+        }
+        try {
+            NicknameHashFile.write(path, NicknameHashFile.merge(List.of(
+                    current.iterator(), NicknameHashFile.sorted(hashes, ids, hashes.length))), watermark);
+            swap(NicknameHashFile.open(path));
+        } catch (IOException e) {
+            // 병합에 실패하면 기존 파일 + delta로 계속 조회
+            log.warn("닉네임 색인 delta 병합 실패 - {}", e.getMessage());
+            return;
+        } finally {
+            current.release();
+        }
+
+        // 병합 중 새로 들어온 항목은 delta에 남김
+        for (long[] entry : pending) {
+            delta.computeIfPresent(entry[0], (hash, set) -> {
+                if (set.remove(entry[1])) {
+                    deltaSize.decrementAndGet();
+                }
+                return set.isEmpty() ? null : set;
+            });
+        }
+        log.debug("닉네임 색인 delta 병합 - {} 건, 소요 시간: {} ms", pending.size(), System.currentTimeMillis() - startTime);
+    }
+}
@@ -0,0 +1,242 @@
+package org.example.expert.domain.user.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.response.UserNicknameIndexRebuildResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 닉네임 trigram 색인 (user_nickname_gram) 관리 / 부분 검색
+ * LIKE '%검색어%'는 users 전체를 읽으므로 닉네임을 3글자 조각으로 나눠 조각 -> 유저 id 목록을 따로 저장
+ *
+ * - 저장: 가입 시 같은 트랜잭션에서 조각을 batch insert (닉네임이 바뀌면 index를 다시 호출해 교체)
+ * - 검색: 검색어의 조각 중 유저가 가장 적은 조각 목록을 id 순으로 조금씩 읽고,
+ *         나머지 조각을 모두 가진 유저만 남긴 뒤 실제 닉네임으로 한 번 더 확인
+ * - 기존 유저(대량 insert 등)는 관리자 재구축으로 색인
+ *   재구축 chunk가 지운 뒤 다시 읽는 사이에 가입이 커밋되면 같은 조각을 두 번 넣게 되므로 insert는 중복을 무시 (H2 MERGE / MySQL INSERT IGNORE)
+ */
+@Slf4j
+@Service
+public class UserNicknameIndexService {
+
+    public static final int GRAM_LENGTH = 3;
+
+    private static final int MAX_CHUNK_SIZE = 10_000;
+    private static final int POSTING_BATCH_SIZE = 1_000;   // 조각 목록을 한 번에 읽는 유저 수
+    private static final int SELECTIVITY_PROBE = 10_000;    // 조각별 유저 수는 이 값까지만 셈
+    private static final int MAX_SCANNED_POSTINGS = 200_000;
+
+    // 가입과 재구축이 같은 유저 조각을 동시에 넣어도 PK 충돌 없이 한 행만 남도록 중복은 무시
+    private static final String H2_INSERT_GRAM_SQL =
+            "MERGE INTO user_nickname_gram (gram, user_id) KEY (gram, user_id) VALUES (?, ?)";
+    private static final String MYSQL_INSERT_GRAM_SQL = "INSERT IGNORE INTO user_nickname_gram (gram, user_id) VALUES (?, ?)";
+    private static final String DELETE_USER_GRAMS_SQL = "DELETE FROM user_nickname_gram WHERE user_id = ?";
+    private static final String DELETE_RANGE_GRAMS_SQL = "DELETE FROM user_nickname_gram WHERE user_id BETWEEN ? AND ?";
+    private static final String SELECT_RANGE_USERS_SQL = "SELECT id, nickname FROM users WHERE id BETWEEN ? AND ?";
+    private static final String PROBE_SQL =
+            "SELECT COUNT(*) FROM (SELECT user_id FROM user_nickname_gram WHERE gram = ? LIMIT ?) probe";
+    private static final String POSTINGS_SQL =
+            "SELECT user_id FROM user_nickname_gram WHERE gram = ? AND user_id > ? ORDER BY user_id LIMIT ?";
+    private static final String FILTER_SQL =
+            "SELECT user_id FROM user_nickname_gram WHERE gram IN (:grams) AND user_id IN (:userIds) " +
+            "GROUP BY user_id HAVING COUNT(*) = :gramCount";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String insertGramSql;
+
+    public UserNicknameIndexService(
+            JdbcTemplate jdbcTemplate,
+            UserRepository userRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${spring.datasource.url:}") String datasourceUrl   // 비어 있으면 내장 H2
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.insertGramSql = datasourceUrl.startsWith("jdbc:mysql:") ? MYSQL_INSERT_GRAM_SQL : H2_INSERT_GRAM_SQL;
+    }
+
+    /**
+     * 유저 1명의 닉네임 조각을 교체 (가입 / 닉네임 변경 트랜잭션에 참여)
+     */
+    @Transactional
+    public void index(Long userId, String nickname) {
+        jdbcTemplate.update(DELETE_USER_GRAMS_SQL, userId);
+        List<String> grams = new ArrayList<>(grams(nickname));
+        if (grams.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(insertGramSql, grams, grams.size(), (ps, gram) -> {
+            ps.setString(1, gram);
+            ps.setLong(2, userId);
+        });
+    }
+
+    /**
+     * 닉네임에 검색어가 포함된 유저를 id 순으로 최대 limit 명 조회
+     * 조각 목록을 최대 MAX_SCANNED_POSTINGS 건까지만 읽으므로 아주 흔한 검색어는 결과가 limit보다 적을 수 있음
+     */
+    public List<User> findContaining(String term, int limit) {
+        String normalized = normalize(term);
+        Set<String> grams = grams(normalized);
+        if (grams.isEmpty()) {
+            throw new InvalidRequestException("포함 검색어는 " + GRAM_LENGTH + "글자 이상이어야 합니다.");
+        }
+
+        // 유저가 가장 적은 조각을 기준으로 읽음, 하나라도 0명이면 결과 없음
+        String driver = null;
+        int driverCount = Integer.MAX_VALUE;
+        for (String gram : grams) {
+            Integer count = jdbcTemplate.queryForObject(PROBE_SQL, Integer.class, gram, SELECTIVITY_PROBE);
+            if (count == null || count == 0) {
+                return List.of();
+            }
+            if (count < driverCount) {
+                driver = gram;
+                driverCount = count;
+            }
+        }
+        List<String> others = new ArrayList<>(grams);
+        others.remove(driver);
+
+        List<User> result = new ArrayList<>(limit);
+        long afterId = 0L;
+        long scanned = 0;
+        while (result.size() < limit && scanned < MAX_SCANNED_POSTINGS) {
+            List<Long> postings = jdbcTemplate.queryForList(POSTINGS_SQL, Long.class, driver, afterId, POSTING_BATCH_SIZE);
+            if (postings.isEmpty()) {
+                break;
+            }
+            scanned += postings.size();
+            afterId = postings.get(postings.size() - 1);
+
+            List<Long> candidates = others.isEmpty() ? postings : filter(others, postings);
+            if (!candidates.isEmpty()) {
+                List<User> users = new ArrayList<>(userRepository.findAllById(candidates));
+                users.sort(Comparator.comparing(User::getId));
+                for (User user : users) {
+                    // 조각이 모두 있어도 순서가 다를 수 있어 실제 닉네임으로 확인
+                    if (user.getNickname() != null && normalize(user.getNickname()).contains(normalized)) {
+                        result.add(user);
+                        if (result.size() == limit) {
+                            break;
+                        }
+                    }
+                }
+            }
+
+            if (postings.size() < POSTING_BATCH_SIZE) {
+                break;
+            }
+        }
+
+        if (result.size() < limit && scanned >= MAX_SCANNED_POSTINGS) {
+            log.info("닉네임 포함 검색 조기 종료 - 검색어: '{}', 읽은 조각 목록: {} 건", term, scanned);
+        }
+        return result;
+    }
+
+    /**
+     * 전체 재구축 (관리자용)
+     * users id 구간(chunk)마다 조각을 지우고 다시 만들어 따로 커밋
+     */
+    public UserNicknameIndexRebuildResponse rebuild(int chunkSize) {
+        if (chunkSize < 1 || chunkSize > MAX_CHUNK_SIZE) {
+            throw new InvalidRequestException("chunkSize는 1 이상 " + MAX_CHUNK_SIZE + " 이하여야 합니다.");
+        }
+
+        long startTime = System.currentTimeMillis();
+        Long minId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM users", Long.class);
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM users", Long.class);
+        if (minId == null || maxId == null) {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update("DELETE FROM user_nickname_gram"));
+            return new UserNicknameIndexRebuildResponse(0, 0, System.currentTimeMillis() - startTime);
+        }
+
+        long chunks = 0;
+        long indexedUsers = 0;
+        for (long start = minId; start <= maxId; start += chunkSize) {
+            long fromId = start;
+            long toId = Math.min(start + chunkSize - 1, maxId);
+
+            Integer indexed = transactionTemplate.execute(status -> rebuildRange(fromId, toId));
+            indexedUsers += indexed != null ? indexed : 0;
+            chunks++;
+
+            if (chunks % 100 == 0) {
+                log.info("닉네임 색인 재구축 진행 - id {} ~ {} / {}", fromId, toId, maxId);
+            }
+        }
+
+        long elapsed = System.currentTimeMillis() - startTime;
+        log.info("닉네임 색인 재구축 완료 - chunk: {} 개, 유저 {} 명, 소요 시간: {} ms", chunks, indexedUsers, elapsed);
+        return new UserNicknameIndexRebuildResponse(chunks, indexedUsers, elapsed);
+    }
+
+    /**
+     * 소문자로 바꾼 닉네임을 코드포인트 기준 3글자씩 잘라 중복 없이 반환
+     */
+    public static Set<String> grams(String nickname) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (nickname == null) {
+            return grams;
+        }
+        int[] codePoints = normalize(nickname).codePoints().toArray();
+        for (int i = 0; i + GRAM_LENGTH <= codePoints.length; i++) {
+            grams.add(new String(codePoints, i, GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    // 기준 조각으로 고른 유저 중 나머지 조각도 모두 가진 유저 (PK 조회)
+    private List<Long> filter(List<String> grams, List<Long> userIds) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("grams", grams)
+                .addValue("userIds", userIds)
+                .addValue("gramCount", grams.size());
+        return namedParameterJdbcTemplate.queryForList(FILTER_SQL, params, Long.class);
+    }
+
+    private int rebuildRange(long fromId, long toId) {
+        jdbcTemplate.update(DELETE_RANGE_GRAMS_SQL, fromId, toId);
+
+        List<Object[]> rows = new ArrayList<>();
+        int[] users = {0};
+        jdbcTemplate.query(SELECT_RANGE_USERS_SQL, rs -> {
+            long userId = rs.getLong("id");
+            for (String gram : grams(rs.getString("nickname"))) {
+                rows.add(new Object[]{gram, userId});
+            }
+            users[0]++;
+        }, fromId, toId);
+
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(insertGramSql, rows);
+        }
+        return users[0];
+    }
+}
@@ -7,11 +7,17 @@ import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.NicknameSearchMode;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.search.NicknameHashIndex;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -20,8 +26,12 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class UserService {
 
+    private static final int MAX_SEARCH_SIZE = 100;
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserNicknameIndexService userNicknameIndexService;
+    private final NicknameHashIndex nicknameHashIndex;
 
     public UserResponse getUser(long userId) {
         User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
@@ -53,7 +63,7 @@ public class UserService {
     public List<UserResponse> searchUsersByNickname(String nickname) {
         long startTime = System.currentTimeMillis();
 
-        List<User> users = userRepository.findByNickname(nickname);
+        List<User> users = findByNickname(nickname);
 
         long endTime = System.currentTimeMillis();
         long duration = endTime - startTime;
@@ -66,6 +76,59 @@ public class UserService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 닉네임 검색 (정확히 일치 / 접두어 / 포함)
+     * - exact: idx_nickname 동등 조회
+     * - prefix: idx_nickname 범위 조회, 닉네임 순
+     * - contains: user_nickname_gram 조각 목록 교집합 후 확인, 유저 id 순
+     */
+    public List<UserResponse> searchUsers(String nickname, NicknameSearchMode mode, int size) {
+        if (nickname == null || nickname.isBlank()) {
+            throw new InvalidRequestException("검색어를 입력해주세요.");
+        }
+        if (size < 1 || size > MAX_SEARCH_SIZE) {
+            throw new InvalidRequestException("size는 1 이상 " + MAX_SEARCH_SIZE + " 이하여야 합니다.");
+        }
+
+        long startTime = System.currentTimeMillis();
+
+        List<User> users = switch (mode) {
+            case EXACT -> findByNickname(nickname).stream().limit(size).toList();
+            case PREFIX -> userRepository.findByNicknameLowerStartingWithOrderByNicknameLowerAsc(
+                    nickname.toLowerCase(Locale.ROOT), Limit.of(size));
+            case CONTAINS -> userNicknameIndexService.findContaining(nickname, size);
+        };
+
+        log.info("닉네임 검색 완료 - 모드: {}, 검색어: '{}', 결과: {} 건, 소요 시간: {} ms",
+                mode, nickname, users.size(), System.currentTimeMillis() - startTime);
+
+        return users.stream()
+                .map(user -> new UserResponse(user.getId(), user.getEmail(), user.getNickname()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 닉네임 정확히 일치 조회 (대소문자 구분)
+     * 닉네임 조회 인덱스가 준비되어 있으면 찾은 id로만 DB 조회 (해시 충돌은 닉네임 비교로 제외)
+     * DB 조회는 컬럼 collation을 따르므로(MySQL 기본은 대소문자 무시) 인덱스 경로와 같은 기준으로 한 번 더 비교
+     */
+    private List<User> findByNickname(String nickname) {
+        Optional<List<Long>> ids = nicknameHashIndex.lookup(nickname);
+        if (ids.isEmpty()) {
+            return userRepository.findByNickname(nickname).stream()
+                    .filter(user -> nickname.equals(user.getNickname()))
+                    .sorted(Comparator.comparing(User::getId))
+                    .toList();
+        }
+        if (ids.get().isEmpty()) {
+            return List.of();
+        }
+        return userRepository.findAllById(ids.get()).stream()
+                .filter(user -> nickname.equals(user.getNickname()))
+                .sorted(Comparator.comparing(User::getId))
+                .toList();
+    }
+
     private static void validateNewPassword(UserChangePasswordRequest userChangePasswordRequest) {
         if (userChangePasswordRequest.getNewPassword().length() < 8 ||
                 !userChangePasswordRequest.getNewPassword().matches(".*\\d.*") ||
@@ -0,0 +1,227 @@
+package org.example.expert;
+
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.example.expert.datagen.SyntheticDataGenerator;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.todo.dto.request.TodoSearchRequest;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.user.enums.NicknameSearchMode;
+import org.example.expert.domain.user.service.UserNicknameIndexService;
+import org.example.expert.domain.user.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회 API 지연 시간 분위수 테스트
+ * 파일 모드 H2에 SyntheticDataGenerator로 고정 seed 데이터를 넣고, 서비스 조회마다
+ * 첫 호출(cold) -> 워밍업 -> 반복 측정(HdrHistogram) 후 p50 / p99 / p999 를 기록
+ * p99가 시나리오별 예산을 넘으면 실패
+ *
+ * - 데이터 크기가 같으면 기존 DB 파일을 그대로 재사용 (build/perf-test)
+ * - 요청 파라미터도 고정 seed로 뽑아 실행마다 같은 순서로 호출
+ * - 검색 결과 캐시(todo.search-cache)는 꺼서 매번 DB 조회를 측정
+ *
+ * 실행: ./gradlew perfTest [-Pperf.users=100000 -Pperf.todos=200000 -Pperf.iterations=2000 -Pperf.budget.todo.search.title=300]
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "perf.suite", matches = "true")
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReadLatencyPerformanceTest.URL,
+        "spring.jpa.hibernate.ddl-auto=update",
+        "todo.search-cache.enabled=false",
+        "logging.level.org.example.expert.domain.user.service.UserService=warn"
+})
+class ReadLatencyPerformanceTest {
+
+    static final String URL = "jdbc:h2:file:./build/perf-test/expert;DB_CLOSE_ON_EXIT=FALSE";
+
+    private static final long USERS = Long.getLong("perf.users", 100_000);
+    private static final long TODOS = Long.getLong("perf.todos", 200_000);
+    private static final int WARMUP = Integer.getInteger("perf.warmup", 200);
+    private static final int ITERATIONS = Integer.getInteger("perf.iterations", 2_000);
+    private static final long SEED = 42;
+    private static final String END_DATE = "2024-12-31";
+    private static final int SAMPLE_SIZE = 1_000;
+    private static final int PAGE_SIZE = 10;
+    private static final long HIGHEST_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    // 시나리오별 p99 예산 (ms), -Pperf.budget.<시나리오>=<ms> 로 변경
+    private static final Map<String, Long> DEFAULT_BUDGETS = Map.of(
+            "user.searchUsersByNickname", 20L,
+            "user.searchUsers.prefix", 30L,
+            "user.searchUsers.contains", 200L,
+            "todo.getTodos", 50L,
+            "todo.getTodos.weather", 100L,
+            "todo.getTodos.period", 100L,
+            "todo.getTodosByCursor", 30L,
+            "todo.search.title", 500L,
+            "todo.search.managerNickname", 100L,
+            "comment.getComments", 20L
+    );
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserNicknameIndexService userNicknameIndexService;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Test
+    void 조회_지연_시간이_예산_안에_있다() throws Exception {
+        seedIfNeeded();
+
+        List<String> nicknames = jdbcTemplate.queryForList(
+                "SELECT nickname FROM users WHERE MOD(id, ?) = 0 LIMIT ?", String.class,
+                Math.max(1, USERS / SAMPLE_SIZE), SAMPLE_SIZE);
+        List<String> titleWords = jdbcTemplate.queryForList(
+                "SELECT title FROM todos WHERE MOD(id, ?) = 0 LIMIT ?", String.class,
+                Math.max(1, TODOS / SAMPLE_SIZE), SAMPLE_SIZE).stream()
+                .map(title -> title.split(" ")[0])
+                .toList();
+        List<Long> commentedTodoIds = jdbcTemplate.queryForList(
+                "SELECT id FROM todos WHERE comment_count > 0 AND MOD(id, ?) = 0 LIMIT ?", Long.class,
+                Math.max(1, TODOS / SAMPLE_SIZE), SAMPLE_SIZE);
+        List<String> weathers = jdbcTemplate.queryForList("SELECT DISTINCT weather FROM todos", String.class);
+        LocalDateTime minCreatedAt = jdbcTemplate.queryForObject("SELECT MIN(created_at) FROM todos", LocalDateTime.class);
+        long spanDays = Math.max(31, Duration.between(minCreatedAt, LocalDateTime.parse(END_DATE + "T00:00")).toDays());
+
+        Map<String, Consumer<Random>> scenarios = new LinkedHashMap<>();
+        scenarios.put("user.searchUsersByNickname",
+                random -> userService.searchUsersByNickname(pick(random, nicknames)));
+        scenarios.put("user.searchUsers.prefix",
+                random -> userService.searchUsers(prefix(pick(random, nicknames)), NicknameSearchMode.PREFIX, 20));
+        scenarios.put("user.searchUsers.contains",
+                random -> userService.searchUsers(infix(random, pick(random, nicknames)), NicknameSearchMode.CONTAINS, 20));
+        scenarios.put("todo.getTodos",
+                random -> todoService.getTodos(1 + random.nextInt(10), PAGE_SIZE, null, null, null));
+        scenarios.put("todo.getTodos.weather",
+                random -> todoService.getTodos(1 + random.nextInt(10), PAGE_SIZE, pick(random, weathers), null, null));
+        scenarios.put("todo.getTodos.period", random -> {
+            LocalDateTime start = minCreatedAt.plusDays(random.nextLong(spanDays - 30));
+            todoService.getTodos(1, PAGE_SIZE, null, start.toString(), start.plusDays(30).toString());
+        });
+        scenarios.put("todo.getTodosByCursor",
+                random -> todoService.getTodosByCursor(null, PAGE_SIZE, null, null, null));
+        scenarios.put("todo.search.title", random -> {
+            TodoSearchRequest request = new TodoSearchRequest();
+            request.setTitle(pick(random, titleWords));
+            todoService.searchTodos(request, PageRequest.of(0, PAGE_SIZE));
+        });
+        scenarios.put("todo.search.managerNickname", random -> {
+            TodoSearchRequest request = new TodoSearchRequest();
+            request.setManagerNickname(pick(random, nicknames));
+            todoService.searchTodos(request, PageRequest.of(0, PAGE_SIZE));
+        });
+        scenarios.put("comment.getComments",
+                random -> commentService.getComments(pick(random, commentedTodoIds), null, PAGE_SIZE));
+
+        log.info("===== 조회 지연 시간 테스트 - users: {}, todos: {}, warmup: {}, iterations: {} =====",
+                USERS, TODOS, WARMUP, ITERATIONS);
+        log.info(String.format("%-30s %10s %10s %10s %10s %10s %10s", "scenario", "cold", "p50", "p99", "p999", "max", "budget"));
+
+        List<String> exceeded = new ArrayList<>();
+        scenarios.forEach((name, scenario) -> {
+            Random random = new Random(SEED);
+
+            long coldMicros = measure(scenario, random);
+            for (int i = 0; i < WARMUP; i++) {
+                scenario.accept(random);
+            }
+            Histogram histogram = new Histogram(HIGHEST_MICROS, 3);
+            for (int i = 0; i < ITERATIONS; i++) {
+                histogram.recordValue(Math.min(measure(scenario, random), HIGHEST_MICROS));
+            }
+
+            long budgetMillis = Long.getLong("perf.budget." + name, DEFAULT_BUDGETS.get(name));
+            double p99Millis = histogram.getValueAtPercentile(99.0) / 1000.0;
+            log.info(String.format("%-30s %8.2fms %8.2fms %8.2fms %8.2fms %8.2fms %8dms%s", name,
+                    coldMicros / 1000.0,
+                    histogram.getValueAtPercentile(50.0) / 1000.0,
+                    p99Millis,
+                    histogram.getValueAtPercentile(99.9) / 1000.0,
+                    histogram.getMaxValue() / 1000.0,
+                    budgetMillis,
+                    p99Millis > budgetMillis ? "  << 초과" : ""));
+            if (p99Millis > budgetMillis) {
+                exceeded.add(name + " (p99 " + p99Millis + "ms > " + budgetMillis + "ms)");
+            }
+        });
+        log.info("===== 테스트 종료 =====");
+
+        assertThat(exceeded).as("p99 예산을 넘은 시나리오").isEmpty();
+    }
+
+    // 데이터 크기가 다르면 비우고 다시 생성 (같은 seed + end-date라 항상 같은 데이터)
+    private void seedIfNeeded() throws Exception {
+        Long users = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+        Long todos = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM todos", Long.class);
+        if (users == USERS && todos == TODOS) {
+            log.info("기존 데이터 재사용 - users: {}, todos: {}", users, todos);
+            return;
+        }
+
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        for (String table : List.of("log", "comments", "managers", "todos", "user_nickname_gram", "users")) {
+            jdbcTemplate.execute("TRUNCATE TABLE " + table + " RESTART IDENTITY");
+        }
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+
+        SyntheticDataGenerator.main(new String[]{
+                "--url=" + URL,
+                "--users=" + USERS,
+                "--todos=" + TODOS,
+                "--threads=" + Math.max(1, Runtime.getRuntime().availableProcessors()),
+                "--seed=" + SEED,
+                "--end-date=" + END_DATE
+        });
+        // 포함 검색용 닉네임 조각 색인 (가입 경로를 거치지 않은 유저)
+        userNicknameIndexService.rebuild(10_000);
+    }
+
+    private static long measure(Consumer<Random> scenario, Random random) {
+        long startTime = System.nanoTime();
+        scenario.accept(random);
+        return (System.nanoTime() - startTime) / 1_000;
+    }
+
+    private static <T> T pick(Random random, List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static String prefix(String nickname) {
+        return nickname.substring(0, Math.min(nickname.length(), 4));
+    }
+
+    private static String infix(Random random, String nickname) {
+        if (nickname.length() <= UserNicknameIndexService.GRAM_LENGTH + 1) {
+            return nickname;
+        }
+        int start = random.nextInt(nickname.length() - UserNicknameIndexService.GRAM_LENGTH);
+        return nickname.substring(start, Math.min(nickname.length(), start + UserNicknameIndexService.GRAM_LENGTH + 1));
+    }
+}
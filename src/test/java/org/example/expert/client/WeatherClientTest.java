@@ -0,0 +1,175 @@
+package org.example.expert.client;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WeatherClientTest {
+
+    private static final String WEATHER_JSON = "[{\"date\":\"01-01\",\"weather\":\"Sunny\"},{\"date\":\"01-02\",\"weather\":\"Rainy\"}]";
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneId.of("UTC"));
+
+    @TempDir
+    Path tempDir;
+
+    private SimpleMeterRegistry meterRegistry;
+    private HttpServer stubServer;
+
+    // 스텁 서버 동작: 받은 요청 수, 첫 요청 지연(ms), 응답 상태 코드
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile long firstRequestDelayMillis = 0;
+    private volatile int statusCode = 200;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        meterRegistry = new SimpleMeterRegistry();
+
+        stubServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stubServer.setExecutor(Executors.newCachedThreadPool());
+        stubServer.createContext("/weather.json", exchange -> {
+            int order = requestCount.incrementAndGet();
+            if (order == 1 && firstRequestDelayMillis > 0) {
+                sleep(firstRequestDelayMillis);
+            }
+            byte[] body = WEATHER_JSON.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(statusCode, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            } catch (IOException ignored) {
+                // 취소된 요청은 연결이 끊겨 있음
+            }
+        });
+        stubServer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.stop(0);
+    }
+
+    @Test
+    void 로컬_파일에서_날짜별_날씨를_조회한다() throws IOException {
+        Path weatherFile = tempDir.resolve("weather.json");
+        Files.writeString(weatherFile, WEATHER_JSON);
+        WeatherClient weatherClient = createClient(weatherFile.toUri().toString(), Duration.ZERO, 5);
+
+        assertEquals("Sunny", weatherClient.getTodayWeather());
+        assertEquals("Rainy", weatherClient.getWeather(LocalDate.of(2030, 1, 2)));
+    }
+
+    @Test
+    void 표에_없는_날짜면_예외가_발생한다() {
+        WeatherClient weatherClient = createClient(stubUrl(), Duration.ZERO, 5);
+
+        ServerException exception = assertThrows(ServerException.class,
+                () -> weatherClient.getWeather(LocalDate.of(2024, 3, 1)));
+        assertEquals("해당 날짜(03-01)의 날씨 데이터를 찾을 수 없습니다.", exception.getMessage());
+    }
+
+    @Test
+    void 갱신에_실패하면_마지막으로_받아온_표를_계속_사용한다() {
+        // given
+        WeatherClient weatherClient = createClient(stubUrl(), Duration.ZERO, 5);
+        weatherClient.refresh();
+        statusCode = 500;
+
+        // when
+        weatherClient.refreshOnRollover();
+
+        // then
+        assertEquals("Sunny", weatherClient.getTodayWeather());
+        assertEquals(1.0, meterRegistry.get("weather.table.refresh.failures").counter().count());
+    }
+
+    @Test
+    void 첫_요청이_늦으면_추가_요청의_응답을_사용한다() {
+        // given - 첫 요청만 1.5초 지연 (요청 타임아웃 2초)
+        firstRequestDelayMillis = 1_500;
+        WeatherClient weatherClient = createClient(stubUrl(), Duration.ofMillis(100), 5);
+
+        // when
+        long startTime = System.currentTimeMillis();
+        weatherClient.refresh();
+        long elapsed = System.currentTimeMillis() - startTime;
+
+        // then
+        assertEquals("Sunny", weatherClient.getTodayWeather());
+        assertEquals(2, requestCount.get());
+        assertEquals(1.0, meterRegistry.get("weather.requests.hedged").counter().count());
+        assertTrue(elapsed < 1_500, "추가 요청 응답으로 먼저 끝나야 함: " + elapsed + "ms");
+    }
+
+    @Test
+    void 응답이_타임아웃보다_늦으면_실패한다() {
+        firstRequestDelayMillis = 3_000;
+        WeatherClient weatherClient = createClient(stubUrl(), Duration.ZERO, 5);
+
+        assertThrows(ServerException.class, weatherClient::refresh);
+    }
+
+    @Test
+    void 연속으로_실패하면_서킷이_열리고_호출하지_않는다() {
+        // given
+        statusCode = 500;
+        WeatherClient weatherClient = createClient(stubUrl(), Duration.ZERO, 3);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            assertThrows(ServerException.class, weatherClient::refresh);
+        }
+
+        // then
+        assertEquals(WeatherCircuitBreaker.State.OPEN, weatherClient.getCircuitState());
+        assertEquals(3, requestCount.get());
+    }
+
+    private WeatherClient createClient(String url, Duration hedgeDelay, int failureThreshold) {
+        return new WeatherClient(
+                new DefaultResourceLoader(),
+                Jackson2ObjectMapperBuilder.json().build(),
+                meterRegistry,
+                url,
+                Duration.ofMillis(500),
+                Duration.ofSeconds(2),
+                hedgeDelay,
+                new WeatherCircuitBreaker(failureThreshold, Duration.ofMinutes(1), CLOCK),
+                CLOCK
+        );
+    }
+
+    private String stubUrl() {
+        return "http://127.0.0.1:" + stubServer.getAddress().getPort() + "/weather.json";
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package org.example.expert.domain.comment.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.doReturn;
+
+/**
+ * 댓글 저장 처리량 비교 - 요청마다 트랜잭션 vs 묶음 저장(CommentBatchWriter)
+ * 장애 상황처럼 여러 사용자가 같은 일정 하나에 동시에 댓글을 다는 경우를 재현
+ * 처리량(건/초)과 함께 묶음 저장 시간(comment.batch.write) p50/p99, 묶음 크기를 기록
+ */
+@Slf4j
+@SpringBootTest(properties = "comment.batch-writer.enabled=true")
+class CommentBatchWriterLoadTest {
+
+    private static final int THREADS = 64;
+    private static final int COMMENTS_PER_THREAD = 200;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @SpyBean
+    private CommentBatchWriter commentBatchWriter;
+
+    /**
+     * 실행 시: @Disabled 주석 처리 후 실행
+     */
+    @Test
+    @Disabled("성능 테스트 - 필요 시 주석 해제 후 실행")
+    void comparePerRequestAndBatched() throws Exception {
+        long userId = insertUser();
+        long todoId = insertTodo(userId);
+        AuthUser authUser = new AuthUser(userId, "comment_load@test.com", "commenter", UserRole.USER);
+
+        doReturn(false).when(commentBatchWriter).isEnabled();
+        run("요청마다 트랜잭션", authUser, todoId);
+
+        doReturn(true).when(commentBatchWriter).isEnabled();
+        run("묶음 저장", authUser, todoId);
+
+        HistogramSnapshot snapshot = meterRegistry.get("comment.batch.write").timer().takeSnapshot();
+        for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+            log.info("묶음 저장 시간 p{}: {} ms", percentile.percentile() * 100, String.format("%.2f", percentile.value(TimeUnit.MILLISECONDS)));
+        }
+        log.info("묶음 수: {}, 평균 묶음 크기: {}", snapshot.count(),
+                String.format("%.1f", meterRegistry.get("comment.batch.size").summary().mean()));
+
+        Long commentCount = jdbcTemplate.queryForObject("SELECT comment_count FROM todos WHERE id = ?", Long.class, todoId);
+        log.info("일정 댓글 수: {} (기대값: {})", commentCount, 2L * THREADS * COMMENTS_PER_THREAD);
+    }
+
+    private void run(String label, AuthUser authUser, long todoId) throws Exception {
+        CommentSaveRequest request = new CommentSaveRequest("장애 확인했습니다");
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < COMMENTS_PER_THREAD; i++) {
+                    commentService.saveComment(authUser, todoId, request);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        executor.shutdown();
+
+        int total = THREADS * COMMENTS_PER_THREAD;
+        log.info("[{}] {} 건, 소요 시간: {} ms, 처리량: {} 건/초", label, total, elapsedMillis, total * 1000L / Math.max(elapsedMillis, 1));
+    }
+
+    private long insertUser() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO users (email, password, nickname, user_role, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)",
+                    new String[]{"id"});
+            ps.setString(1, "comment_load_" + System.nanoTime() + "@test.com");
+            ps.setString(2, "password123");
+            ps.setString(3, "commenter");
+            ps.setString(4, UserRole.USER.name());
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    private long insertTodo(long userId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO todos (title, contents, weather, user_id, manager_count, comment_count, created_at, modified_at) " +
+                            "VALUES (?, ?, ?, ?, 0, 0, ?, ?)",
+                    new String[]{"id"});
+            ps.setString(1, "장애 대응");
+            ps.setString(2, "댓글 부하 테스트");
+            ps.setString(3, "Sunny");
+            ps.setLong(4, userId);
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+}
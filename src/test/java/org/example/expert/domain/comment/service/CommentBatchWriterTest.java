@@ -0,0 +1,135 @@
+package org.example.expert.domain.comment.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class CommentBatchWriterTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 저장을_시작한_요청은_응답_대기_시간이_지나도_저장_결과를_돌려준다() throws Exception {
+        long userId = insertUser();
+        long todoId = insertTodo(userId);
+        // 커넥션을 얻는 데 응답 대기 시간보다 오래 걸림 = 저장 도중에 timeout 시점이 지남
+        DataSource slowDataSource = new DelegatingDataSource(dataSource) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                try {
+                    Thread.sleep(500);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.getConnection();
+            }
+        };
+        CommentBatchWriter writer = newWriter(slowDataSource, Duration.ofMillis(1), Duration.ofMillis(100));
+        writer.start();
+        try {
+            CompletableFuture<Long> future = writer.submit(todoId, userId, "저장 중 timeout");
+
+            Long commentId = future.join();
+
+            assertThat(commentId).isNotNull();
+            assertThat(countComments(todoId)).isEqualTo(1);
+        } finally {
+            writer.stop();
+        }
+    }
+
+    @Test
+    void 저장을_시작하기_전에_응답_대기_시간이_지난_요청은_저장하지_않는다() throws Exception {
+        long userId = insertUser();
+        long todoId = insertTodo(userId);
+        // 묶음을 모으는 동안 응답 대기 시간이 지남
+        CommentBatchWriter writer = newWriter(dataSource, Duration.ofMillis(500), Duration.ofMillis(100));
+        writer.start();
+        try {
+            CompletableFuture<Long> future = writer.submit(todoId, userId, "모으는 중 timeout");
+
+            assertThatThrownBy(future::join)
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(TimeoutException.class);
+        } finally {
+            writer.stop();
+        }
+        assertThat(countComments(todoId)).isZero();
+    }
+
+    private CommentBatchWriter newWriter(DataSource dataSource, Duration maxWait, Duration responseTimeout) {
+        return new CommentBatchWriter(
+                dataSource, eventPublisher, new SimpleMeterRegistry(),
+                true, 200, maxWait, 100, Duration.ofMillis(100), responseTimeout);
+    }
+
+    private int countComments(long todoId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM comments WHERE todo_id = ?", Integer.class, todoId);
+    }
+
+    private long insertUser() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO users (email, password, nickname, user_role, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)",
+                    new String[]{"id"});
+            ps.setString(1, "comment_batch_" + System.nanoTime() + "@test.com");
+            ps.setString(2, "password123");
+            ps.setString(3, "commenter");
+            ps.setString(4, UserRole.USER.name());
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    private long insertTodo(long userId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO todos (title, contents, weather, user_id, manager_count, comment_count, created_at, modified_at) " +
+                            "VALUES (?, ?, ?, ?, 0, 0, ?, ?)",
+                    new String[]{"id"});
+            ps.setString(1, "장애 대응");
+            ps.setString(2, "댓글 묶음 저장 테스트");
+            ps.setString(3, "Sunny");
+            ps.setLong(4, userId);
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.expert.domain.log.service;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.log.dto.response.LogPurgeResponse;
+import org.example.expert.domain.log.entity.LogStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "log.retention.chunk-pause=0ms")
+class LogAdminServiceTest {
+
+    private static final String INSERT_LOG_SQL =
+            "INSERT INTO log (todo_id, request_user_id, manager_user_id, status, error_message, created_at) VALUES (?, 1, 2, ?, ?, ?)";
+
+    @Autowired
+    private LogAdminService logAdminService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 보관_기간이_지난_로그만_chunk_단위로_삭제한다() {
+        long todoId = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 5; i++) {
+            insertLog(todoId, LogStatus.SUCCESS, now.minusDays(40 + i));
+        }
+        insertLog(todoId, LogStatus.SUCCESS, now.minusDays(10));
+        insertLog(todoId, LogStatus.FAILURE, now);
+
+        LogPurgeResponse response = logAdminService.purge(30, 2);
+
+        assertThat(response.getDeletedRows()).isGreaterThanOrEqualTo(5);
+        assertThat(response.getChunks()).isGreaterThanOrEqualTo(3);
+        assertThat(response.getCutoff()).isBefore(now.minusDays(29));
+        assertThat(createdAtsOf(todoId)).allMatch(createdAt -> createdAt.isAfter(now.minusDays(30)))
+                .hasSize(2);
+    }
+
+    @Test
+    void 나중에_재처리되어_id가_커도_생성_시각이_지났으면_삭제한다() {
+        long todoId = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        insertLog(todoId, LogStatus.SUCCESS, now.minusDays(1));
+        // 실패 로그 파일에서 재처리된 로그처럼 최근 id에 과거 시각
+        insertLog(todoId, LogStatus.FAILURE, now.minusDays(100));
+
+        logAdminService.purge(30, 1);
+
+        assertThat(createdAtsOf(todoId)).hasSize(1)
+                .allMatch(createdAt -> createdAt.isAfter(now.minusDays(2)));
+    }
+
+    @Test
+    void 삭제할_로그가_없으면_아무것도_지우지_않는다() {
+        long todoId = System.nanoTime();
+        insertLog(todoId, LogStatus.SUCCESS, LocalDateTime.now());
+
+        logAdminService.purge(3650, 100);
+
+        assertThat(createdAtsOf(todoId)).hasSize(1);
+    }
+
+    @Test
+    void 보관_일수와_chunk_크기가_범위를_벗어나면_예외가_발생한다() {
+        assertThatThrownBy(() -> logAdminService.purge(0, 100)).isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> logAdminService.purge(30, 0)).isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> logAdminService.purge(30, 10_001)).isInstanceOf(InvalidRequestException.class);
+    }
+
+    private void insertLog(long todoId, LogStatus status, LocalDateTime createdAt) {
+        jdbcTemplate.update(INSERT_LOG_SQL, todoId, status.name(),
+                status == LogStatus.FAILURE ? "담당자 등록 실패" : null, Timestamp.valueOf(createdAt));
+    }
+
+    private List<LocalDateTime> createdAtsOf(long todoId) {
+        return jdbcTemplate.queryForList("SELECT created_at FROM log WHERE todo_id = ?", Timestamp.class, todoId)
+                .stream()
+                .map(Timestamp::toLocalDateTime)
+                .toList();
+    }
+}
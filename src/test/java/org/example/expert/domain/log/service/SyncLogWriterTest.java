@@ -0,0 +1,36 @@
+package org.example.expert.domain.log.service;
+
+import org.example.expert.domain.log.entity.Log;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class SyncLogWriterTest {
+
+    @Autowired
+    private SyncLogWriter syncLogWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 일괄_저장_시_컬럼_길이를_넘는_오류_메시지는_잘라서_저장한다() {
+        long todoId = System.nanoTime();
+        String longMessage = "x".repeat(LogWriter.MAX_ERROR_MESSAGE_LENGTH + 100);
+
+        syncLogWriter.writeAll(List.of(
+                Log.failure(todoId, 1L, 2L, longMessage),
+                Log.failure(todoId, 1L, 3L, "담당자 등록 실패")
+        ));
+
+        List<String> messages = jdbcTemplate.queryForList(
+                "SELECT error_message FROM log WHERE todo_id = ? ORDER BY manager_user_id", String.class, todoId);
+        assertThat(messages).containsExactly(longMessage.substring(0, LogWriter.MAX_ERROR_MESSAGE_LENGTH), "담당자 등록 실패");
+    }
+}
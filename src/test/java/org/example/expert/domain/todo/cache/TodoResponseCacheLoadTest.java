@@ -0,0 +1,104 @@
+package org.example.expert.domain.todo.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 일정 단건 조회 캐시 부하 테스트
+ * 캐시 miss(DB 조회)와 hit 경로의 지연 시간 분포를 비교
+ */
+@Slf4j
+@SpringBootTest
+class TodoResponseCacheLoadTest {
+
+    private static final int TODO_COUNT = 1_000;
+    private static final int THREADS = 16;
+    private static final int REQUESTS_PER_THREAD = 10_000;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoResponseCache todoResponseCache;
+
+    /**
+     * 실행 시: @Disabled 주석 처리 후 실행
+     */
+    @Test
+    @Disabled("부하 테스트 - 필요 시 주석 해제 후 실행")
+    void measureHitPathLatency() throws Exception {
+        User user = userRepository.save(new User("cache_" + System.nanoTime() + "@test.com", "password", "cache", UserRole.USER));
+        List<Long> todoIds = new ArrayList<>();
+        for (int i = 0; i < TODO_COUNT; i++) {
+            todoIds.add(todoRepository.save(new Todo("title " + i, "contents " + i, "Sunny", user)).getId());
+        }
+
+        // 1. miss 경로: 캐시를 비운 상태에서 한 번씩 조회
+        todoIds.forEach(todoResponseCache::evict);
+        long[] missNanos = new long[TODO_COUNT];
+        for (int i = 0; i < TODO_COUNT; i++) {
+            long start = System.nanoTime();
+            todoService.getTodo(todoIds.get(i));
+            missNanos[i] = System.nanoTime() - start;
+        }
+        report("miss", missNanos);
+
+        // 2. hit 경로: 여러 스레드에서 반복 조회
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int seed = t;
+            futures.add(executor.submit(() -> {
+                long[] nanos = new long[REQUESTS_PER_THREAD];
+                for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                    long todoId = todoIds.get((seed * 31 + i) % TODO_COUNT);
+                    long start = System.nanoTime();
+                    todoService.getTodo(todoId);
+                    nanos[i] = System.nanoTime() - start;
+                }
+                return nanos;
+            }));
+        }
+
+        long[] hitNanos = new long[THREADS * REQUESTS_PER_THREAD];
+        int offset = 0;
+        for (Future<long[]> future : futures) {
+            long[] nanos = future.get();
+            System.arraycopy(nanos, 0, hitNanos, offset, nanos.length);
+            offset += nanos.length;
+        }
+        executor.shutdown();
+        report("hit", hitNanos);
+    }
+
+    private void report(String label, long[] nanos) {
+        Arrays.sort(nanos);
+        log.info("[{}] 요청: {} 건, p50: {} us, p99: {} us, max: {} us",
+                label, nanos.length,
+                nanos[(int) (nanos.length * 0.50)] / 1_000,
+                nanos[(int) (nanos.length * 0.99)] / 1_000,
+                nanos[nanos.length - 1] / 1_000);
+    }
+}
@@ -0,0 +1,129 @@
+package org.example.expert.domain.todo.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.manager.event.ManagerChangedEvent;
+import org.example.expert.domain.todo.dto.request.TodoSearchRequest;
+import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.event.TodoCountersRebuiltEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class TodoSearchResultCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TodoSearchResultCache cache;
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TodoSearchResultCache(meterRegistry, true, 100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void 대소문자와_빈_조건만_다른_요청은_같은_결과를_사용한다() {
+        // given
+        TodoSearchRequest first = request("Report", "  ");
+        TodoSearchRequest second = request("report", null);
+
+        // when
+        Page<TodoSearchResponse> firstResult = cache.get(first, PageRequest.of(0, 10), this::load);
+        Page<TodoSearchResponse> secondResult = cache.get(second, PageRequest.of(0, 10), this::load);
+
+        // then
+        assertSame(firstResult, secondResult);
+        assertEquals(1, loadCount.get());
+        assertEquals(1.0, meterRegistry.get("todo.search.cache.requests")
+                .tag("shape", "title").tag("result", "hit").counter().count());
+    }
+
+    @Test
+    void 쓰기가_있으면_다시_조회한다() {
+        // given
+        TodoSearchRequest request = request("report", null);
+        cache.get(request, PageRequest.of(0, 10), this::load);
+
+        // when
+        cache.onManagerChanged(new ManagerChangedEvent(1L));
+        cache.get(request, PageRequest.of(0, 10), this::load);
+
+        // then
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    void 카운터_재계산이_커밋되면_다시_조회한다() {
+        // given
+        TodoSearchRequest request = request("report", null);
+        cache.get(request, PageRequest.of(0, 10), this::load);
+
+        // when
+        cache.onCountersRebuilt(new TodoCountersRebuiltEvent(1L, 1_000L));
+        cache.get(request, PageRequest.of(0, 10), this::load);
+
+        // then
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    void 같은_키_동시_miss는_한_번만_조회한다() throws Exception {
+        // given
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        List<Future<Page<TodoSearchResponse>>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return cache.get(request("report", "kim"), PageRequest.of(0, 10), this::slowLoad);
+            }));
+        }
+        start.countDown();
+        for (Future<Page<TodoSearchResponse>> future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        assertEquals(1, loadCount.get());
+    }
+
+    private TodoSearchRequest request(String title, String managerNickname) {
+        TodoSearchRequest request = new TodoSearchRequest();
+        request.setTitle(title);
+        request.setManagerNickname(managerNickname);
+        return request;
+    }
+
+    private Page<TodoSearchResponse> load() {
+        loadCount.incrementAndGet();
+        return new PageImpl<>(List.of());
+    }
+
+    private Page<TodoSearchResponse> slowLoad() {
+        try {
+            Thread.sleep(200);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return load();
+    }
+}
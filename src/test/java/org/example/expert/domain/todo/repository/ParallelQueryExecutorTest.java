@@ -0,0 +1,83 @@
+package org.example.expert.domain.todo.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.domain.common.exception.ServerException;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ParallelQueryExecutorTest {
+
+    private ParallelQueryExecutor parallelQueryExecutor;
+
+    @BeforeEach
+    void setUp() {
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        when(entityManagerFactory.createEntityManager()).thenAnswer(invocation -> {
+            EntityManager entityManager = mock(EntityManager.class);
+            when(entityManager.unwrap(Session.class)).thenReturn(mock(Session.class));
+            return entityManager;
+        });
+        parallelQueryExecutor = new ParallelQueryExecutor(
+                entityManagerFactory, new SimpleMeterRegistry(), true, 2, Duration.ofSeconds(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        parallelQueryExecutor.shutdown();
+    }
+
+    @Test
+    void 두_번째_쿼리가_먼저_실패하면_첫_번째_쿼리를_기다리지_않고_취소한다() throws Exception {
+        CountDownLatch firstInterrupted = new CountDownLatch(1);
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> parallelQueryExecutor.execute(
+                queryFactory -> {
+                    try {
+                        Thread.sleep(Duration.ofSeconds(5).toMillis());
+                    } catch (InterruptedException e) {
+                        firstInterrupted.countDown();
+                    }
+                    return "content";
+                },
+                queryFactory -> {
+                    throw new IllegalStateException("count 실패");
+                }
+        )).isInstanceOf(IllegalStateException.class);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        assertThat(elapsedMillis).isLessThan(2_000);
+        assertThat(firstInterrupted.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void 두_쿼리가_모두_끝나면_각자의_결과를_돌려준다() {
+        ParallelQueryExecutor.Results<String, Long> results = parallelQueryExecutor.execute(
+                queryFactory -> {
+                    try {
+                        Thread.sleep(100);
+                    } catch (InterruptedException e) {
+                        throw new ServerException("interrupted");
+                    }
+                    return "content";
+                },
+                queryFactory -> 3L
+        );
+
+        assertThat(results.getFirst()).isEqualTo("content");
+        assertThat(results.getSecond()).isEqualTo(3L);
+    }
+}
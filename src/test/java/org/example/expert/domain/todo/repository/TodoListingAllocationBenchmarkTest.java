@@ -0,0 +1,118 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 일정 목록 조회 할당량 비교
+ * 이전 방식(엔티티 fetch join 후 TodoResponse로 변환)과 QueryDSL DTO 프로젝션(findTodos)의
+ * 페이지당 할당 바이트와 소요 시간을 같은 트랜잭션 조건(readOnly)에서 비교
+ */
+@Slf4j
+@SpringBootTest
+class TodoListingAllocationBenchmarkTest {
+
+    private static final int TODO_COUNT = 10_000;
+    private static final int PAGE_SIZE = 100;
+    private static final int WARMUP = 200;
+    private static final int REPEAT = 1_000;
+
+    // 제거된 findAllByOrderByModifiedAtDesc와 같은 쿼리
+    private static final String ENTITY_JPQL = "SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC";
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * 실행 시: @Disabled 주석 처리 후 실행
+     */
+    @Test
+    @Disabled("성능 테스트 - 필요 시 주석 해제 후 실행")
+    void compareAllocationPerPage() {
+        insertTodos();
+
+        measure("엔티티 + 변환", () -> entityManager.createQuery(ENTITY_JPQL, Todo.class)
+                .setFirstResult(0)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList()
+                .stream()
+                .map(this::toTodoResponse)
+                .toList());
+
+        measure("DTO 프로젝션", () -> todoRepository.findTodos(null, null, null, PageRequest.of(0, PAGE_SIZE)).getContent());
+    }
+
+    private void measure(String label, Supplier<List<TodoResponse>> pageLoader) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        for (int i = 0; i < WARMUP; i++) {
+            transactionTemplate.execute(status -> pageLoader.get());
+        }
+
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long startBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < REPEAT; i++) {
+            // 요청마다 트랜잭션(영속성 컨텍스트)이 새로 열리는 실제 조건과 맞춤
+            transactionTemplate.execute(status -> pageLoader.get());
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId) - startBytes;
+
+        log.info("[{}] 페이지당 할당: {} KB, 페이지당 소요 시간: {} us",
+                label, allocatedBytes / REPEAT / 1024, elapsedNanos / REPEAT / 1_000);
+    }
+
+    private void insertTodos() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            User user = new User("listing_" + System.nanoTime() + "@test.com", "password", "listing", UserRole.USER);
+            entityManager.persist(user);
+            for (int i = 0; i < TODO_COUNT; i++) {
+                entityManager.persist(new Todo("title " + i, "contents " + i, "Sunny", user));
+                if (i % 1_000 == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                    user = entityManager.merge(user);
+                }
+            }
+        });
+    }
+
+    private TodoResponse toTodoResponse(Todo todo) {
+        User user = todo.getUser();
+        return new TodoResponse(
+                todo.getId(),
+                todo.getTitle(),
+                todo.getContents(),
+                todo.getWeather(),
+                new UserResponse(user.getId(), user.getEmail(), user.getNickname()),
+                todo.getCreatedAt(),
+                todo.getModifiedAt()
+        );
+    }
+}
@@ -0,0 +1,152 @@
+package org.example.expert.domain.todo.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.dto.request.TodoSearchRequest;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.data.domain.PageRequest;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.doReturn;
+
+/**
+ * 일정 검색 content / count 쿼리 순차 실행 vs 동시 실행 비교
+ * 키워드 검색(제목 또는 내용 LIKE)은 두 쿼리 모두 전체 스캔이라 비용이 비슷해서 차이가 가장 크게 드러남
+ * 지연 시간(평균, p95)과 함께 Hikari 활성 커넥션 최대치로 추가 커넥션 사용량을 기록
+ */
+@Slf4j
+@SpringBootTest(properties = "todo.search.parallel.enabled=true")
+class TodoSearchParallelBenchmarkTest {
+
+    private static final int TOTAL_SIZE = 500_000;
+    private static final int BATCH_SIZE = 10_000;
+    private static final int WARMUP = 5;
+    private static final int REPEAT = 50;
+    private static final String[] WORDS = {"회의", "보고서", "점검", "배포", "리뷰", "meeting", "report", "deploy", "review", "sprint"};
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @SpyBean
+    private ParallelQueryExecutor parallelQueryExecutor;
+
+    /**
+     * 실행 시: @Disabled 주석 처리 후 실행
+     */
+    @Test
+    @Disabled("성능 테스트 - 필요 시 주석 해제 후 실행")
+    void compareSequentialAndParallel() throws Exception {
+        insertSyntheticTodos();
+
+        TodoSearchRequest request = new TodoSearchRequest();
+        request.setKeyword("report");
+        // 2페이지부터는 content만으로 total을 알 수 없어서 순차 모드도 항상 count 쿼리 실행
+        PageRequest pageable = PageRequest.of(1, 10);
+
+        doReturn(false).when(parallelQueryExecutor).isEnabled();
+        measure("순차 실행", request, pageable);
+
+        doReturn(true).when(parallelQueryExecutor).isEnabled();
+        measure("동시 실행", request, pageable);
+    }
+
+    private void measure(String label, TodoSearchRequest request, PageRequest pageable) throws InterruptedException {
+        for (int i = 0; i < WARMUP; i++) {
+            todoRepository.searchTodos(request, pageable);
+        }
+
+        // 활성 커넥션 수를 1ms 간격으로 샘플링해서 최대치 기록
+        HikariPoolMXBean pool = ((HikariDataSource) dataSource).getHikariPoolMXBean();
+        AtomicInteger peakActive = new AtomicInteger();
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> peakActive.accumulateAndGet(pool.getActiveConnections(), Math::max),
+                0, 1, TimeUnit.MILLISECONDS);
+
+        long[] nanos = new long[REPEAT];
+        long total = 0;
+        for (int i = 0; i < REPEAT; i++) {
+            long start = System.nanoTime();
+            total = todoRepository.searchTodos(request, pageable).getTotalElements();
+            nanos[i] = System.nanoTime() - start;
+        }
+
+        sampler.shutdownNow();
+        sampler.awaitTermination(1, TimeUnit.SECONDS);
+
+        Arrays.sort(nanos);
+        double avgMillis = Arrays.stream(nanos).average().orElse(0) / 1_000_000;
+        double p95Millis = nanos[(int) (REPEAT * 0.95) - 1] / 1_000_000.0;
+        log.info("[{}] 평균: {} ms, p95: {} ms, 전체 건수: {}, 최대 활성 커넥션: {}",
+                label, String.format("%.1f", avgMillis), String.format("%.1f", p95Millis), total, peakActive.get());
+    }
+
+    private void insertSyntheticTodos() throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Random random = new Random(42);
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+
+            long userId;
+            try (PreparedStatement pstmt = connection.prepareStatement(
+                    "INSERT INTO users (email, password, nickname, user_role, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)",
+                    PreparedStatement.RETURN_GENERATED_KEYS)) {
+                pstmt.setString(1, "parallel_" + System.nanoTime() + "@test.com");
+                pstmt.setString(2, "password123");
+                pstmt.setString(3, "parallel");
+                pstmt.setString(4, UserRole.USER.name());
+                pstmt.setTimestamp(5, now);
+                pstmt.setTimestamp(6, now);
+                pstmt.executeUpdate();
+                try (ResultSet keys = pstmt.getGeneratedKeys()) {
+                    keys.next();
+                    userId = keys.getLong(1);
+                }
+            }
+
+            String sql = "INSERT INTO todos (title, contents, weather, user_id, manager_count, comment_count, created_at, modified_at) " +
+                    "VALUES (?, ?, ?, ?, 1, 0, ?, ?)";
+            try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+                for (int i = 1; i <= TOTAL_SIZE; i++) {
+                    pstmt.setString(1, WORDS[random.nextInt(WORDS.length)] + " " + i);
+                    pstmt.setString(2, WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]);
+                    pstmt.setString(3, "Sunny");
+                    pstmt.setLong(4, userId);
+                    pstmt.setTimestamp(5, now);
+                    pstmt.setTimestamp(6, now);
+                    pstmt.addBatch();
+
+                    if (i % BATCH_SIZE == 0) {
+                        pstmt.executeBatch();
+                        connection.commit();
+                    }
+                }
+                pstmt.executeBatch();
+                connection.commit();
+            }
+        }
+        log.info("합성 일정 데이터 {} 건 생성 완료", TOTAL_SIZE);
+    }
+}
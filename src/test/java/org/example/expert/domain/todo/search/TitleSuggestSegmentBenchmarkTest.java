@@ -0,0 +1,93 @@
+package org.example.expert.domain.todo.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 제목 자동완성 세그먼트 지연 시간 / 메모리 측정
+ * 합성 제목 1,000만 건으로 세그먼트를 만들고, 실제 제목에서 자른 1~4글자 접두어로 top-10 조회
+ * 메모리는 세그먼트 배열 크기(sizeInBytes)와 구축 전후 힙 사용량 차이를 함께 기록
+ * (-Xmx4g 이상 권장)
+ */
+@Slf4j
+class TitleSuggestSegmentBenchmarkTest {
+
+    private static final int TITLE_COUNT = 10_000_000;
+    private static final int QUERY_COUNT = 200_000;
+    private static final int WARMUP = 50_000;
+    private static final int LIMIT = 10;
+    private static final String[] WORDS = {
+            "회의", "보고서", "점검", "배포", "리뷰", "장애", "회고", "기획", "디자인", "테스트",
+            "meeting", "report", "deploy", "review", "release", "backlog", "sprint", "design"
+    };
+
+    /**
+     * 실행 시: @Disabled 주석 처리 후 실행
+     */
+    @Test
+    @Disabled("성능 테스트 - 필요 시 주석 해제 후 실행")
+    void measureLatencyAndMemory() {
+        long heapBefore = usedHeap();
+        Random random = new Random(42);
+        List<TitleSuggestSegment.Entry> entries = new ArrayList<>(TITLE_COUNT);
+        for (int id = 1; id <= TITLE_COUNT; id++) {
+            String title = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + random.nextInt(TITLE_COUNT);
+            entries.add(new TitleSuggestSegment.Entry(TodoTitleSuggestIndex.normalizeTitle(title), title, id));
+        }
+
+        long buildStart = System.nanoTime();
+        TitleSuggestSegment segment = TitleSuggestSegment.build(entries);
+        long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+
+        byte[][] prefixes = new byte[QUERY_COUNT][];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            String key = entries.get(random.nextInt(entries.size())).getKey();
+            prefixes[i] = key.substring(0, Math.min(key.length(), 1 + random.nextInt(4))).getBytes(StandardCharsets.UTF_8);
+        }
+        entries = null;
+        long heapAfter = usedHeap();
+
+        for (int i = 0; i < WARMUP; i++) {
+            topK(segment, prefixes[i % QUERY_COUNT]);
+        }
+
+        long[] nanos = new long[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            long start = System.nanoTime();
+            topK(segment, prefixes[i]);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+
+        log.info("제목 {} 개 - 구축: {} ms, 세그먼트 배열: {} MB, 힙 증가: {} MB",
+                segment.size(), buildMillis, segment.sizeInBytes() / 1024 / 1024, (heapAfter - heapBefore) / 1024 / 1024);
+        log.info("top-{} 조회 - p50: {} us, p99: {} us, p99.9: {} us, max: {} us",
+                LIMIT, percentile(nanos, 0.50), percentile(nanos, 0.99), percentile(nanos, 0.999), nanos[nanos.length - 1] / 1_000);
+    }
+
+    private int topK(TitleSuggestSegment segment, byte[] prefix) {
+        TitleSuggestSegment.Cursor cursor = segment.cursor(prefix);
+        int found = 0;
+        while (found < LIMIT && cursor.next() >= 0) {
+            found++;
+        }
+        return found;
+    }
+
+    private long percentile(long[] sortedNanos, double percentile) {
+        return sortedNanos[(int) Math.ceil(sortedNanos.length * percentile) - 1] / 1_000;
+    }
+
+    private long usedHeap() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
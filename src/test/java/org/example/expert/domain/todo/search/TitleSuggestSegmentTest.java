@@ -0,0 +1,81 @@
+package org.example.expert.domain.todo.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TitleSuggestSegmentTest {
+
+    @Test
+    void 접두어에_맞는_제목을_최근_일정_순으로_중복없이_반환한다() {
+        TitleSuggestSegment segment = TitleSuggestSegment.build(List.of(
+                entry("회의록 정리", 1),
+                entry("회의 준비", 2),
+                entry("보고서 작성", 3),
+                entry("회의록 정리", 4),
+                entry("Review PR", 5)
+        ));
+
+        assertThat(suggest(segment, "회의", 10)).containsExactly("4:회의록 정리", "2:회의 준비");
+        assertThat(suggest(segment, "회의 ", 10)).containsExactly("2:회의 준비");
+        assertThat(suggest(segment, "review", 10)).containsExactly("5:Review PR");
+        assertThat(suggest(segment, "배포", 10)).isEmpty();
+    }
+
+    @Test
+    void 병합하면_같은_제목은_더_최근_일정으로_바뀐다() {
+        TitleSuggestSegment segment = TitleSuggestSegment.build(List.of(entry("배포 점검", 1), entry("배포 회고", 2)));
+
+        TitleSuggestSegment merged = segment.merge(List.of(entry("배포 점검", 3), entry("배포 계획", 4)));
+
+        assertThat(merged.size()).isEqualTo(3);
+        assertThat(suggest(merged, "배포", 10)).containsExactly("4:배포 계획", "3:배포 점검", "2:배포 회고");
+    }
+
+    @Test
+    void 블록_계층을_거친_top_k가_전체_정렬_결과와_같다() {
+        Random random = new Random(42);
+        List<TitleSuggestSegment.Entry> entries = new ArrayList<>();
+        for (int id = 1; id <= 50_000; id++) {
+            String title = "t" + random.nextInt(20) + " " + random.nextInt(100_000);
+            entries.add(entry(title, id));
+        }
+        TitleSuggestSegment segment = TitleSuggestSegment.build(entries);
+
+        for (String prefix : List.of("t1", "t13", "t7 4", "t")) {
+            Set<String> seen = new HashSet<>();
+            List<String> expected = entries.stream()
+                    .filter(entry -> entry.getKey().startsWith(prefix))
+                    .sorted(Comparator.comparingLong(TitleSuggestSegment.Entry::getId).reversed())
+                    .filter(entry -> seen.add(entry.getKey()))
+                    .map(entry -> entry.getId() + ":" + entry.getTitle())
+                    .limit(10)
+                    .toList();
+
+            assertThat(suggest(segment, prefix, 10)).isEqualTo(expected);
+        }
+    }
+
+    private TitleSuggestSegment.Entry entry(String title, long id) {
+        return new TitleSuggestSegment.Entry(TodoTitleSuggestIndex.normalizeTitle(title), title, id);
+    }
+
+    private List<String> suggest(TitleSuggestSegment segment, String prefix, int limit) {
+        TitleSuggestSegment.Cursor cursor = segment.cursor(
+                TodoTitleSuggestIndex.normalizePrefix(prefix).getBytes(StandardCharsets.UTF_8));
+        List<String> result = new ArrayList<>();
+        int index;
+        while (result.size() < limit && (index = cursor.next()) >= 0) {
+            result.add(segment.id(index) + ":" + segment.title(index));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,156 @@
+package org.example.expert.domain.todo.search;
+
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 비트맵 인덱스 경로(TodoService.getTodos)와 기존 쿼리(LOWER(weather) LIKE '%..%' + modified_at BETWEEN)의 결과 비교
+ * 경계 날짜, 같은 수정일, id 순서와 다른 수정일 순서를 섞어서 페이지마다 id 순서와 전체 건수가 같은지 확인
+ */
+@SpringBootTest(properties = "todo.bitmap-index.enabled=true")
+class TodoBitmapIndexTest {
+
+    private static final int PAGE_SIZE = 3;
+    private static final LocalDateTime DAY = LocalDateTime.of(1999, 3, 3, 0, 0);
+    private static final LocalDateTime START = DAY.minusDays(1).plusHours(12);  // 1999-03-02T12:00
+    private static final LocalDateTime END = DAY.plusDays(1).plusHours(12);     // 1999-03-04T12:00
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoBitmapIndex todoBitmapIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String sunny;
+    private String partlySunny;
+    private String rain;
+
+    @BeforeEach
+    void setUp() {
+        String tag = Long.toString(System.nanoTime());
+        sunny = "Sunny-" + tag;
+        partlySunny = "Partly Sunny-" + tag;
+        rain = "Rain-" + tag;
+        long userId = insertUser();
+
+        // id 순서와 수정일 순서가 다르도록 섞어서 등록
+        insertTodo(userId, sunny, END.plusDays(1));                     // 범위 밖 (다음날)
+        insertTodo(userId, sunny, START.minusNanos(1_000));             // 시작 직전
+        insertTodo(userId, sunny, START);                               // 시작 시각과 같음
+        insertTodo(userId, partlySunny, END);                           // 종료 시각과 같음
+        insertTodo(userId, sunny, END.plusNanos(1_000));                // 종료 직후
+        insertTodo(userId, sunny, DAY);                                 // 중간 날짜 자정
+        insertTodo(userId, rain, DAY.plusDays(1).minusNanos(1_000));    // 중간 날짜 마지막 순간
+        insertTodo(userId, sunny, DAY.plusHours(8));                    // 같은 수정일 3건
+        insertTodo(userId, partlySunny, DAY.plusHours(8));
+        insertTodo(userId, sunny, DAY.plusHours(8));
+        insertTodo(userId, partlySunny, START.plusHours(12).minusSeconds(1));  // 시작일 마지막 순간
+        insertTodo(userId, sunny, END.minusHours(12));                  // 종료일 자정
+        insertTodo(userId, sunny, START.minusDays(1));                  // 범위 밖 (전날)
+        insertTodo(userId, rain, START.plusHours(1));
+        insertTodo(userId, sunny, END.minusHours(3));                   // 종료일 같은 수정일 2건
+        insertTodo(userId, rain, END.minusHours(3));
+        insertTodo(userId, sunny, DAY.plusHours(20));
+        insertTodo(userId, null, DAY.plusHours(20));                   // 날씨 없음
+
+        todoBitmapIndex.rebuild();
+        assertThat(todoBitmapIndex.isReady()).isTrue();
+    }
+
+    @Test
+    void 날씨와_기간_조건_결과가_기존_쿼리와_같다() {
+        assertSameAsQuery("SUNNY-" + sunny.substring("Sunny-".length()), START, END);
+    }
+
+    @Test
+    void 날씨_조건만_있을_때_결과가_기존_쿼리와_같다() {
+        assertSameAsQuery(rain.toLowerCase(), null, null);
+        assertSameAsQuery(sunny, null, null);
+    }
+
+    @Test
+    void 기간_조건만_있을_때_결과가_기존_쿼리와_같다() {
+        assertSameAsQuery(null, START, END);
+        // 빈 날씨 검색어는 기존 쿼리처럼 조건 없음으로 처리
+        assertSameAsQuery("", START, END);
+    }
+
+    @Test
+    void 시작과_종료가_같은_날이면_그날_범위만_같은_순서로_조회한다() {
+        assertSameAsQuery(partlySunny.substring(0, 8), DAY.plusHours(8), DAY.plusHours(8));
+        assertSameAsQuery(null, DAY.plusHours(8), DAY.plusHours(20));
+    }
+
+    private void assertSameAsQuery(String weather, LocalDateTime startDate, LocalDateTime endDate) {
+        String start = startDate != null ? startDate.toString() : null;
+        String end = endDate != null ? endDate.toString() : null;
+
+        List<Long> expectedAll = new ArrayList<>();
+        for (int page = 1; ; page++) {
+            Page<TodoResponse> expected = todoRepository.findTodos(weather, startDate, endDate, PageRequest.of(page - 1, PAGE_SIZE));
+            Page<TodoResponse> actual = todoService.getTodos(page, PAGE_SIZE, weather, start, end);
+
+            assertThat(ids(actual)).as("page %d", page).containsExactlyElementsOf(ids(expected));
+            assertThat(actual.getTotalElements()).as("page %d total", page).isEqualTo(expected.getTotalElements());
+            if (expected.getContent().isEmpty()) {
+                break;
+            }
+            expectedAll.addAll(ids(expected));
+        }
+        assertThat(expectedAll).isNotEmpty();
+    }
+
+    private static List<Long> ids(Page<TodoResponse> page) {
+        return page.getContent().stream().map(TodoResponse::getId).toList();
+    }
+
+    private long insertUser() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO users (email, password, nickname, user_role, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)",
+                    new String[]{"id"});
+            ps.setString(1, "bitmap_" + System.nanoTime() + "@test.com");
+            ps.setString(2, "password123");
+            ps.setString(3, "bitmap");
+            ps.setString(4, UserRole.USER.name());
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    private void insertTodo(long userId, String weather, LocalDateTime modifiedAt) {
+        jdbcTemplate.update(
+                "INSERT INTO todos (title, contents, weather, user_id, manager_count, comment_count, created_at, modified_at) " +
+                        "VALUES (?, ?, ?, ?, 0, 0, ?, ?)",
+                "비트맵 비교", "비트맵 비교", weather, userId, Timestamp.valueOf(modifiedAt), Timestamp.valueOf(modifiedAt));
+    }
+}
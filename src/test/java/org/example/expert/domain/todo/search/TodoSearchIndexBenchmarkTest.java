@@ -0,0 +1,151 @@
+package org.example.expert.domain.todo.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.dto.request.TodoSearchRequest;
+import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일정 검색 인덱스 vs LIKE 성능 비교
+ * 합성 데이터(기본 100만 건)를 넣고 같은 검색어로 두 경로의 소요 시간을 비교
+ * 검색어마다 약 10% 이상의 일정이 일치하므로 후보 수가 많은 경우에도 인덱스 페이지 경로를 타는지 확인
+ * (첫 페이지 + 전체 건수, /todos/search와 같은 결과)
+ */
+@Slf4j
+@SpringBootTest(properties = "todo.search-index.enabled=true")
+class TodoSearchIndexBenchmarkTest {
+
+    private static final int TOTAL_SIZE = 1_000_000;
+    private static final int BATCH_SIZE = 10_000;
+    private static final int REPEAT = 20;
+    private static final String[] WORDS = {
+            "회의", "보고서", "점검", "배포", "리뷰", "장애", "회고", "기획", "디자인", "테스트",
+            "meeting", "report", "deploy", "review", "release", "backlog", "sprint", "design"
+    };
+    private static final String[] QUERIES = {"보고서", "배포 점검", "release", "sprint 12"};
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TodoSearchIndex todoSearchIndex;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    /**
+     * 실행 시: @Disabled 주석 처리 후 실행
+     */
+    @Test
+    @Disabled("성능 테스트 - 필요 시 주석 해제 후 실행")
+    void compareLikeAndIndex() throws SQLException {
+        insertSyntheticTodos();
+        todoSearchIndex.rebuild();
+
+        PageRequest pageable = PageRequest.of(0, 10);
+
+        for (String query : QUERIES) {
+            String like = "%" + query.toLowerCase(Locale.ROOT) + "%";
+
+            // 1. 기존 LIKE 경로 (Full Table Scan, 페이지 + count)
+            long likeStart = System.nanoTime();
+            long likeTotal = 0;
+            for (int i = 0; i < REPEAT; i++) {
+                jdbcTemplate.queryForList(
+                        "SELECT id FROM todos WHERE LOWER(title) LIKE ? ORDER BY created_at DESC, id DESC LIMIT 10",
+                        Long.class, like);
+                likeTotal = jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM todos WHERE LOWER(title) LIKE ?", Long.class, like);
+            }
+            long likeMillis = (System.nanoTime() - likeStart) / 1_000_000 / REPEAT;
+
+            // 2. 인덱스 페이지 경로 (인덱스에서 정렬된 한 페이지 id + 전체 건수, DB는 id IN 10건)
+            assertThat(todoSearchIndex.searchPage(query, null, null, null, 0, pageable.getPageSize()))
+                    .as("인덱스 페이지 경로를 타야 함 - " + query)
+                    .isPresent();
+            TodoSearchRequest request = new TodoSearchRequest();
+            request.setTitle(query);
+
+            long indexStart = System.nanoTime();
+            Page<TodoSearchResponse> page = Page.empty();
+            for (int i = 0; i < REPEAT; i++) {
+                page = todoRepository.searchTodos(request, pageable);
+            }
+            long indexMillis = (System.nanoTime() - indexStart) / 1_000_000 / REPEAT;
+
+            log.info("검색어: '{}' - LIKE: {} ms (전체 {} 건), 인덱스: {} ms (전체 {} 건)",
+                    query, likeMillis, likeTotal, indexMillis, page.getTotalElements());
+            assertThat(page.getTotalElements()).isEqualTo(likeTotal);
+        }
+    }
+
+    private void insertSyntheticTodos() throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Random random = new Random(42);
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+
+            long userId;
+            try (PreparedStatement pstmt = connection.prepareStatement(
+                    "INSERT INTO users (email, password, nickname, user_role, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)",
+                    PreparedStatement.RETURN_GENERATED_KEYS)) {
+                pstmt.setString(1, "bench_" + System.nanoTime() + "@test.com");
+                pstmt.setString(2, "password123");
+                pstmt.setString(3, "bench");
+                pstmt.setString(4, UserRole.USER.name());
+                pstmt.setTimestamp(5, now);
+                pstmt.setTimestamp(6, now);
+                pstmt.executeUpdate();
+                var keys = pstmt.getGeneratedKeys();
+                keys.next();
+                userId = keys.getLong(1);
+            }
+
+            String sql = "INSERT INTO todos (title, contents, weather, user_id, manager_count, comment_count, created_at, modified_at) " +
+                    "VALUES (?, ?, ?, ?, 1, 0, ?, ?)";
+            try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+                for (int i = 1; i <= TOTAL_SIZE; i++) {
+                    String title = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + random.nextInt(100);
+                    pstmt.setString(1, title);
+                    pstmt.setString(2, "contents " + i);
+                    pstmt.setString(3, "Sunny");
+                    pstmt.setLong(4, userId);
+                    pstmt.setTimestamp(5, now);
+                    pstmt.setTimestamp(6, now);
+                    pstmt.addBatch();
+
+                    if (i % BATCH_SIZE == 0) {
+                        pstmt.executeBatch();
+                        connection.commit();
+                    }
+                }
+                pstmt.executeBatch();
+                connection.commit();
+            }
+        }
+        log.info("합성 일정 데이터 {} 건 생성 완료", TOTAL_SIZE);
+    }
+}
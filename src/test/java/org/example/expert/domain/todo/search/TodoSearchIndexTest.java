@@ -0,0 +1,133 @@
+package org.example.expert.domain.todo.search;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TodoSearchIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private TodoSearchIndex todoSearchIndex;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        todoSearchIndex = new TodoSearchIndex(jdbcTemplate, true, "");
+        todoSearchIndex.init();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        todoSearchIndex.close();
+    }
+
+    @Test
+    void 검색어가_연속으로_들어간_일정만_대소문자_구분없이_찾는다() throws Exception {
+        rebuildWith(List.of(
+                new Row(1, "배포 점검", BASE),
+                new Row(2, "점검 배포", BASE.plusMinutes(1)),
+                new Row(3, "Sprint Review", BASE.plusMinutes(2)),
+                new Row(4, "spr int", BASE.plusMinutes(3))
+        ));
+
+        assertThat(searchIds("배포 점검")).containsExactly(1L);
+        assertThat(searchIds("포 점")).containsExactly(1L);
+        assertThat(searchIds("점검")).containsExactly(2L, 1L);
+        assertThat(searchIds("sprint")).containsExactly(3L);
+        assertThat(searchIds("점")).containsExactly(2L, 1L);
+        assertThat(searchIds("배포점검")).isEmpty();
+    }
+
+    @Test
+    void 결과가_많아도_생성일_id_내림차순으로_요청한_페이지만_가져온다() throws Exception {
+        List<Row> rows = new ArrayList<>();
+        for (int i = 1; i <= 30_000; i++) {
+            // 생성일이 id 순서와 다르고 같은 시각도 섞이도록
+            rows.add(new Row(i, i % 2 == 0 ? "weekly report " + i : "회고 " + i, BASE.plusMinutes(i % 997)));
+        }
+        rebuildWith(rows);
+
+        List<Long> expected = rows.stream()
+                .filter(row -> row.title.contains("report"))
+                .sorted(Comparator.comparing((Row row) -> row.createdAt).thenComparing(row -> row.id).reversed())
+                .map(row -> row.id)
+                .toList();
+
+        IdPage page = todoSearchIndex.searchPage("REPORT", null, null, null, 20, 10).orElseThrow();
+
+        assertThat(page.getTotal()).isEqualTo(15_000);
+        assertThat(page.getIds()).containsExactlyElementsOf(expected.subList(20, 30));
+        // 후보 id 전체가 필요한 경로는 후보가 많으면 LIKE로 넘김
+        assertThat(todoSearchIndex.searchIds("report", TodoSearchIndex.FIELD_TITLE)).isEmpty();
+    }
+
+    @Test
+    void 생성일_범위와_깊은_페이지를_처리한다() throws Exception {
+        rebuildWith(List.of(
+                new Row(1, "회의록", BASE),
+                new Row(2, "회의록", BASE.plusDays(1)),
+                new Row(3, "회의록", BASE.plusDays(2))
+        ));
+
+        IdPage page = todoSearchIndex.searchPage("회의", null, BASE.plusDays(1), BASE.plusDays(2), 0, 10).orElseThrow();
+        assertThat(page.getIds()).containsExactly(3L, 2L);
+        assertThat(page.getTotal()).isEqualTo(2);
+
+        assertThat(todoSearchIndex.searchPage("회의", null, null, null, 5, 10).orElseThrow().getIds()).isEmpty();
+        assertThat(todoSearchIndex.searchPage("회의", null, null, null, 10_000, 10)).isEmpty();
+    }
+
+    private List<Long> searchIds(String text) {
+        return todoSearchIndex.searchPage(text, null, null, null, 0, 100).orElseThrow().getIds();
+    }
+
+    private void rebuildWith(List<Row> rows) throws Exception {
+        int[] current = {0};
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("id")).thenAnswer(invocation -> rows.get(current[0]).id);
+        when(rs.getString("title")).thenAnswer(invocation -> rows.get(current[0]).title);
+        when(rs.getString("contents")).thenReturn("");
+        when(rs.getTimestamp("created_at")).thenAnswer(invocation -> Timestamp.valueOf(rows.get(current[0]).createdAt));
+
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (current[0] = 0; current[0] < rows.size(); current[0]++) {
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        todoSearchIndex.rebuild();
+    }
+
+    private static class Row {
+
+        private final long id;
+        private final String title;
+        private final LocalDateTime createdAt;
+
+        private Row(long id, String title, LocalDateTime createdAt) {
+            this.id = id;
+            this.title = title;
+            this.createdAt = createdAt;
+        }
+    }
+}
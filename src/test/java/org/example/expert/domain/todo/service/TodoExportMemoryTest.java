@@ -0,0 +1,122 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.sql.DataSource;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일정 내보내기 메모리 테스트
+ * 100만 건을 작은 힙(-Xmx64m)에서 내보내도 OutOfMemoryError 없이 끝나는지 확인
+ * H2 인메모리 DB는 데이터 자체가 힙을 차지하므로 파일 모드 DB 사용
+ *
+ * 실행: ./gradlew exportMemoryTest
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "export.memory-test", matches = "true")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:file:./build/export-memory-test;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.hibernate.ddl-auto=create"
+})
+class TodoExportMemoryTest {
+
+    private static final int TOTAL_SIZE = 1_000_000;
+    private static final int BATCH_SIZE = 10_000;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TodoExportService todoExportService;
+
+    @Test
+    void exportMillionRowsInConstantHeap() throws Exception {
+        insertTodos();
+
+        long[] bytes = {0};
+        OutputStream discard = new OutputStream() {
+            @Override
+            public void write(int b) {
+                bytes[0]++;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                bytes[0] += len;
+            }
+        };
+
+        long exported = todoExportService.exportTodos(discard, false, null, null, null);
+
+        long peakHeap = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                .sum();
+        log.info("내보낸 행: {} 건, 출력 크기: {} MB, 최대 힙: {} MB (Xmx: {} MB)",
+                exported, bytes[0] / 1024 / 1024, peakHeap / 1024 / 1024,
+                Runtime.getRuntime().maxMemory() / 1024 / 1024);
+
+        assertThat(exported).isEqualTo(TOTAL_SIZE);
+    }
+
+    private void insertTodos() throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+
+            long userId;
+            try (PreparedStatement pstmt = connection.prepareStatement(
+                    "INSERT INTO users (email, password, nickname, user_role, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)",
+                    PreparedStatement.RETURN_GENERATED_KEYS)) {
+                pstmt.setString(1, "export@test.com");
+                pstmt.setString(2, "password123");
+                pstmt.setString(3, "export");
+                pstmt.setString(4, UserRole.USER.name());
+                pstmt.setTimestamp(5, now);
+                pstmt.setTimestamp(6, now);
+                pstmt.executeUpdate();
+                ResultSet keys = pstmt.getGeneratedKeys();
+                keys.next();
+                userId = keys.getLong(1);
+            }
+
+            String sql = "INSERT INTO todos (title, contents, weather, user_id, manager_count, comment_count, created_at, modified_at) " +
+                    "VALUES (?, ?, ?, ?, 1, 0, ?, ?)";
+            try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+                for (int i = 1; i <= TOTAL_SIZE; i++) {
+                    pstmt.setString(1, "title " + i);
+                    pstmt.setString(2, "contents " + i);
+                    pstmt.setString(3, "Sunny");
+                    pstmt.setLong(4, userId);
+                    pstmt.setTimestamp(5, now);
+                    pstmt.setTimestamp(6, now);
+                    pstmt.addBatch();
+
+                    if (i % BATCH_SIZE == 0) {
+                        pstmt.executeBatch();
+                        connection.commit();
+                    }
+                }
+                pstmt.executeBatch();
+                connection.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.request.TodoImportRow;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
+import org.example.expert.domain.todo.event.TodoBatchSavedEvent;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = "todo.import.chunk-size=2")
+@RecordApplicationEvents
+class TodoImportServiceTest {
+
+    @Autowired
+    private TodoImportService todoImportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @MockBean
+    private WeatherClient weatherClient;
+
+    @Test
+    void CSV_따옴표_안의_쉼표와_이스케이프된_따옴표를_필드로_읽는다() {
+        TodoImportRow row = TodoImportService.parseCsvRow("\"배포, 점검\",\"\"\"긴급\"\" 공지\",2024-01-01T09:00:00");
+
+        assertThat(row.getTitle()).isEqualTo("배포, 점검");
+        assertThat(row.getContents()).isEqualTo("\"긴급\" 공지");
+        assertThat(row.getCreatedAt()).isEqualTo(LocalDateTime.of(2024, 1, 1, 9, 0));
+    }
+
+    @Test
+    void CSV_생성일_컬럼이_없거나_비어_있으면_null이다() {
+        assertThat(TodoImportService.parseCsvRow("회고,내용").getCreatedAt()).isNull();
+        assertThat(TodoImportService.parseCsvRow("회고,내용, ").getCreatedAt()).isNull();
+        assertThat(TodoImportService.parseCsvRow("회고,").getContents()).isEmpty();
+    }
+
+    @Test
+    void CSV_형식이_잘못된_행은_예외가_발생한다() {
+        assertThatThrownBy(() -> TodoImportService.parseCsvRow("\"닫히지 않은,내용"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TodoImportService.parseCsvRow("제목만"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TodoImportService.parseCsvRow("a,b,c,d"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void CSV_헤더는_대소문자와_앞뒤_공백을_무시하고_판별한다() {
+        assertThat(TodoImportService.isCsvHeader("title,contents")).isTrue();
+        assertThat(TodoImportService.isCsvHeader("  TITLE,Contents,createdAt")).isTrue();
+        assertThat(TodoImportService.isCsvHeader("titles,contents")).isFalse();
+        assertThat(TodoImportService.isCsvHeader("회의,title")).isFalse();
+    }
+
+    @Test
+    void 잘못된_행은_건너뛰고_나머지를_chunk_단위로_저장한다() throws Exception {
+        when(weatherClient.getWeather(any())).thenReturn("Sunny");
+        long userId = insertUser();
+        String csv = String.join("\n",
+                "Title,Contents,createdAt",
+                "\"배포, 점검\",\"\"\"긴급\"\" 공지\",2024-01-01T09:00:00",
+                "회고,",
+                "\"닫히지 않은,내용",
+                "",
+                "정상,내용,not-a-date",
+                "주간 보고,내용",
+                "월간 보고,내용");
+
+        TodoImportResponse response = todoImportService.importTodos(
+                new AuthUser(userId, "import@test.com", "importer", UserRole.USER),
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), false);
+
+        assertThat(response.getTotalRows()).isEqualTo(6);
+        assertThat(response.getInsertedRows()).isEqualTo(3);
+        assertThat(response.getFailedRows()).isEqualTo(3);
+        assertThat(response.getErrors()).extracting(TodoImportResponse.RowError::getLine).containsExactly(3L, 4L, 6L);
+        assertThat(response.getChunks()).extracting(TodoImportResponse.ChunkResult::getInserted).containsExactly(2, 1);
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT title, contents, weather, manager_count FROM todos WHERE user_id = ? ORDER BY id", userId);
+        assertThat(rows).extracting(row -> row.get("TITLE")).containsExactly("배포, 점검", "주간 보고", "월간 보고");
+        assertThat(rows.get(0).get("CONTENTS")).isEqualTo("\"긴급\" 공지");
+        assertThat(rows).extracting(row -> row.get("WEATHER")).containsOnly("Sunny");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM managers WHERE user_id = ?", Long.class, userId))
+                .isEqualTo(3L);
+
+        // 커밋된 chunk마다 이벤트 한 번
+        assertThat(applicationEvents.stream(TodoBatchSavedEvent.class))
+                .extracting(event -> event.getTodos().size())
+                .containsExactly(2, 1);
+    }
+
+    @Test
+    void 날씨_조회에_실패한_날짜의_행은_실패로_기록한다() throws Exception {
+        when(weatherClient.getWeather(any())).thenThrow(new IllegalStateException("날씨 API 오류"));
+        long userId = insertUser();
+
+        TodoImportResponse response = todoImportService.importTodos(
+                new AuthUser(userId, "import@test.com", "importer", UserRole.USER),
+                new ByteArrayInputStream("회고,내용,2024-01-01T09:00:00\n".getBytes(StandardCharsets.UTF_8)), false);
+
+        assertThat(response.getInsertedRows()).isZero();
+        assertThat(response.getErrors()).extracting(TodoImportResponse.RowError::getMessage)
+                .containsExactly("날씨 조회 실패: 날씨 API 오류");
+        assertThat(applicationEvents.stream(TodoBatchSavedEvent.class)).isEmpty();
+    }
+
+    private long insertUser() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO users (email, password, nickname, user_role, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)",
+                    new String[]{"id"});
+            ps.setString(1, "import_" + System.nanoTime() + "@test.com");
+            ps.setString(2, "password123");
+            ps.setString(3, "importer");
+            ps.setString(4, UserRole.USER.name());
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+}
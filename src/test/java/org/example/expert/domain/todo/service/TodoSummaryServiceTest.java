@@ -0,0 +1,107 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.service.ManagerService;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.entity.TodoSummary;
+import org.example.expert.domain.todo.repository.TodoSummaryRepository;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = "todo.read-model.enabled=true")
+class TodoSummaryServiceTest {
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private ManagerService managerService;
+
+    @Autowired
+    private TodoSummaryRepository todoSummaryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private WeatherClient weatherClient;
+
+    private AuthUser author;
+    private long managerUserId;
+
+    @BeforeEach
+    void setUp() {
+        when(weatherClient.getTodayWeatherAsync()).thenReturn(CompletableFuture.completedFuture("Sunny"));
+        long authorId = insertUser("author");
+        author = new AuthUser(authorId, "author@test.com", "author", UserRole.USER);
+        managerUserId = insertUser("manager");
+    }
+
+    @Test
+    void 일정을_저장하면_읽기_모델에_작성자와_함께_반영된다() {
+        long todoId = todoService.saveTodo(author, new TodoSaveRequest("배포 점검", "오후 2시")).getId();
+
+        TodoSummary summary = todoSummaryRepository.findById(todoId).orElseThrow();
+        assertThat(summary.getTitle()).isEqualTo("배포 점검");
+        assertThat(summary.getWeather()).isEqualTo("Sunny");
+        assertThat(summary.getUserId()).isEqualTo(author.getId());
+        assertThat(summary.getAuthorNickname()).isEqualTo("author");
+        assertThat(summary.getManagerCount()).isEqualTo(1);
+        assertThat(summary.getCommentCount()).isZero();
+    }
+
+    @Test
+    void 댓글과_담당자가_추가되면_건수와_담당자_닉네임이_갱신된다() {
+        long todoId = todoService.saveTodo(author, new TodoSaveRequest("배포 점검", "오후 2시")).getId();
+
+        commentService.saveComment(author, todoId, new CommentSaveRequest("확인했습니다"));
+        commentService.saveComment(author, todoId, new CommentSaveRequest("완료"));
+        managerService.saveManager(author, todoId, new ManagerSaveRequest(managerUserId));
+
+        TodoSummary summary = todoSummaryRepository.findById(todoId).orElseThrow();
+        assertThat(summary.getCommentCount()).isEqualTo(2);
+        assertThat(summary.getManagerCount()).isEqualTo(2);
+        assertThat(summary.getManagerNicknames().split(TodoSummary.NICKNAME_SEPARATOR))
+                .containsExactly("author", "manager");
+    }
+
+    private long insertUser(String nickname) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO users (email, password, nickname, user_role, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)",
+                    new String[]{"id"});
+            ps.setString(1, nickname + "_" + System.nanoTime() + "@test.com");
+            ps.setString(2, "password123");
+            ps.setString(3, nickname);
+            ps.setString(4, UserRole.USER.name());
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+}
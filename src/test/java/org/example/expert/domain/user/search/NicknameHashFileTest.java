@@ -0,0 +1,106 @@
+package org.example.expert.domain.user.search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NicknameHashFileTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void 같은_닉네임의_유저_id를_모두_찾는다() throws IOException {
+        Path path = dir.resolve("index.bin");
+        NicknameHashFile file;
+        // run 크기를 작게 잡아 외부 정렬 병합 경로까지 확인
+        try (NicknameHashFile.Builder builder = new NicknameHashFile.Builder(path, 3)) {
+            builder.add(NicknameHashFile.hash64("alice"), 1);
+            builder.add(NicknameHashFile.hash64("bob"), 2);
+            builder.add(NicknameHashFile.hash64("alice"), 3);
+            builder.add(NicknameHashFile.hash64("carol"), 4);
+            builder.add(NicknameHashFile.hash64("홍길동"), 5);
+            builder.add(NicknameHashFile.hash64("alice"), 6);
+            builder.add(NicknameHashFile.hash64("bob"), 2);
+            file = builder.finish();
+        }
+
+        assertThat(file.count()).isEqualTo(6);
+        assertThat(file.watermark()).isEqualTo(6);
+        assertThat(lookup(file, "alice")).containsExactly(1L, 3L, 6L);
+        assertThat(lookup(file, "bob")).containsExactly(2L);
+        assertThat(lookup(file, "홍길동")).containsExactly(5L);
+        assertThat(lookup(file, "dave")).isEmpty();
+        assertThat(Files.list(dir)).containsExactly(path);
+    }
+
+    @Test
+    void 병합한_파일은_다시_열어도_기존_항목과_새_항목을_모두_찾는다() throws IOException {
+        Path path = dir.resolve("index.bin");
+        NicknameHashFile file;
+        try (NicknameHashFile.Builder builder = new NicknameHashFile.Builder(path, 100)) {
+            for (int i = 1; i <= 1_000; i++) {
+                builder.add(NicknameHashFile.hash64("user_" + i), i);
+            }
+            file = builder.finish();
+        }
+
+        long[] hashes = {NicknameHashFile.hash64("user_7"), NicknameHashFile.hash64("new_user")};
+        long[] ids = {1_001, 1_002};
+        NicknameHashFile.write(path, NicknameHashFile.merge(List.of(
+                file.iterator(), NicknameHashFile.sorted(hashes, ids, 2))), 1_002);
+
+        NicknameHashFile reopened = NicknameHashFile.open(path);
+        assertThat(reopened.count()).isEqualTo(1_002);
+        assertThat(reopened.watermark()).isEqualTo(1_002);
+        assertThat(lookup(reopened, "user_7")).containsExactly(7L, 1_001L);
+        assertThat(lookup(reopened, "new_user")).containsExactly(1_002L);
+        assertThat(lookup(reopened, "user_1000")).containsExactly(1_000L);
+    }
+
+    @Test
+    void 크기가_헤더와_다른_파일은_열지_않는다() throws IOException {
+        Path path = dir.resolve("index.bin");
+        try (NicknameHashFile.Builder builder = new NicknameHashFile.Builder(path, 10)) {
+            builder.add(NicknameHashFile.hash64("alice"), 1);
+            builder.finish();
+        }
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThatThrownBy(() -> NicknameHashFile.open(path)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void 조회_중인_파일은_닫아도_조회가_끝난_뒤에_해제된다() throws IOException {
+        Path path = dir.resolve("index.bin");
+        NicknameHashFile file;
+        try (NicknameHashFile.Builder builder = new NicknameHashFile.Builder(path, 10)) {
+            builder.add(NicknameHashFile.hash64("alice"), 1);
+            file = builder.finish();
+        }
+
+        assertThat(file.retain()).isTrue();
+        file.close();
+        file.close();
+        assertThat(lookup(file, "alice")).containsExactly(1L);
+        file.release();
+
+        assertThat(file.retain()).isFalse();
+    }
+
+    private List<Long> lookup(NicknameHashFile file, String nickname) {
+        List<Long> ids = new ArrayList<>();
+        file.lookup(NicknameHashFile.hash64(nickname), ids);
+        return ids;
+    }
+}
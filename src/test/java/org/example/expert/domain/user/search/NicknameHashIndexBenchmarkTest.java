@@ -0,0 +1,134 @@
+package org.example.expert.domain.user.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 닉네임 조회 인덱스(메모리 매핑 파일) vs DB 인덱스(idx_nickname) 성능 비교
+ */
+@Slf4j
+@SpringBootTest(properties = {
+        "user.nickname-index.enabled=true",
+        "user.nickname-index.path=./data/nickname-index-benchmark.bin"
+})
+class NicknameHashIndexBenchmarkTest {
+
+    private static final int SAMPLE_SIZE = 1_000;
+    private static final int REPEAT = 10;
+    private static final int SYNTHETIC_SIZE = 50_000_000;
+    private static final int LOOKUPS = 1_000_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NicknameHashIndex nicknameHashIndex;
+
+    @TempDir
+    Path dir;
+
+    /**
+     * 실제 유저 데이터로 두 경로 비교 (DB 왕복 포함)
+     *
+     * 테스트 전 준비:
+     * 1. UserBulkInsertTest.bulkInsertUsers() 실행하여 500만 건 데이터 생성
+     * 실행 시: @Disabled 주석 처리 후 실행
+     */
+    @Test
+    @Disabled("성능 테스트 - 필요 시 주석 해제 후 실행")
+    void compareDbAndIndex() {
+        nicknameHashIndex.rebuild();
+
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM users", Long.class);
+        Random random = new Random(42);
+        List<String> nicknames = new ArrayList<>(SAMPLE_SIZE);
+        while (nicknames.size() < SAMPLE_SIZE) {
+            List<String> found = jdbcTemplate.queryForList("SELECT nickname FROM users WHERE id = ?",
+                    String.class, 1 + (long) (random.nextDouble() * maxId));
+            nicknames.addAll(found);
+        }
+
+        long[] db = new long[SAMPLE_SIZE * REPEAT];
+        long[] index = new long[SAMPLE_SIZE * REPEAT];
+        for (int round = 0; round < REPEAT; round++) {
+            for (int i = 0; i < SAMPLE_SIZE; i++) {
+                String nickname = nicknames.get(i);
+
+                long start = System.nanoTime();
+                List<User> fromDb = userRepository.findByNickname(nickname);
+                db[round * SAMPLE_SIZE + i] = System.nanoTime() - start;
+
+                start = System.nanoTime();
+                List<Long> ids = nicknameHashIndex.lookup(nickname).orElseThrow();
+                List<User> fromIndex = userRepository.findAllById(ids);
+                index[round * SAMPLE_SIZE + i] = System.nanoTime() - start;
+
+                if (fromDb.size() != fromIndex.size()) {
+                    throw new IllegalStateException("결과 불일치 - " + nickname);
+                }
+            }
+        }
+
+        log.info("===== 닉네임 정확히 일치 조회 ({} 회) =====", db.length);
+        log.info("DB(idx_nickname)    - {}", percentiles(db));
+        log.info("mmap 인덱스 + id 조회 - {}", percentiles(index));
+    }
+
+    /**
+     * 합성 데이터 5천만 건으로 파일 조회만 측정 (DB 제외)
+     * 실행 시: @Disabled 주석 처리 후 실행
+     */
+    @Test
+    @Disabled("성능 테스트 - 필요 시 주석 해제 후 실행")
+    void lookupAtFiftyMillion() throws IOException {
+        Path path = dir.resolve("nickname-index.bin");
+        long startTime = System.currentTimeMillis();
+        NicknameHashFile file;
+        try (NicknameHashFile.Builder builder = new NicknameHashFile.Builder(path, 4_000_000)) {
+            for (int i = 1; i <= SYNTHETIC_SIZE; i++) {
+                builder.add(NicknameHashFile.hash64("user_" + i), i);
+            }
+            file = builder.finish();
+        }
+        log.info("구축 - {} 건, {} MB, 소요 시간: {} ms",
+                file.count(), file.sizeInBytes() / (1024 * 1024), System.currentTimeMillis() - startTime);
+
+        Random random = new Random(42);
+        List<Long> ids = new ArrayList<>();
+        long[] latencies = new long[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            String nickname = "user_" + (1 + random.nextInt(SYNTHETIC_SIZE));
+            long start = System.nanoTime();
+            ids.clear();
+            file.lookup(NicknameHashFile.hash64(nickname), ids);
+            latencies[i] = System.nanoTime() - start;
+        }
+        log.info("파일 조회 ({} 회) - {}", LOOKUPS, percentiles(latencies));
+    }
+
+    private String percentiles(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return String.format("p50: %d us, p99: %d us, p99.9: %d us",
+                sorted[sorted.length / 2] / 1_000,
+                sorted[(int) (sorted.length * 0.99)] / 1_000,
+                sorted[(int) (sorted.length * 0.999)] / 1_000);
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.enums.NicknameSearchMode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class UserNicknameSearchTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserNicknameIndexService userNicknameIndexService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 접두어와_포함_검색은_모두_대소문자를_구분하지_않는다() {
+        String nickname = "CaseUser" + System.nanoTime();
+        long userId = insertUser(nickname);
+        userNicknameIndexService.index(userId, nickname);
+
+        List<UserResponse> prefix = userService.searchUsers(nickname.toLowerCase(), NicknameSearchMode.PREFIX, 10);
+        List<UserResponse> contains = userService.searchUsers(nickname.substring(2).toUpperCase(), NicknameSearchMode.CONTAINS, 10);
+
+        assertThat(prefix).extracting(UserResponse::getId).containsExactly(userId);
+        assertThat(contains).extracting(UserResponse::getId).containsExactly(userId);
+    }
+
+    @Test
+    void 정확히_일치_검색은_대소문자를_구분한다() {
+        String nickname = "ExactUser" + System.nanoTime();
+        long userId = insertUser(nickname);
+
+        List<UserResponse> sameCase = userService.searchUsersByNickname(nickname);
+        List<UserResponse> otherCase = userService.searchUsers(nickname.toLowerCase(), NicknameSearchMode.EXACT, 10);
+
+        assertThat(sameCase).extracting(UserResponse::getId).containsExactly(userId);
+        assertThat(otherCase).isEmpty();
+    }
+
+    @Test
+    void 접두어_검색은_소문자_닉네임_인덱스_범위로_조회한다() {
+        String plan = jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT id FROM users WHERE nickname_lower LIKE 'caseuser%' ORDER BY nickname_lower LIMIT 10",
+                String.class);
+
+        assertThat(plan).containsIgnoringCase("idx_nickname_lower");
+    }
+
+    @Test
+    void 이미_색인된_조각을_다시_넣어도_충돌하지_않는다() {
+        String nickname = "dup" + System.nanoTime();
+        long userId = insertUser(nickname);
+        userNicknameIndexService.index(userId, nickname);
+
+        // 가입 직후 재구축 chunk가 같은 유저를 다시 색인하는 경우
+        userNicknameIndexService.rebuild(10_000);
+        userNicknameIndexService.index(userId, nickname);
+
+        Integer grams = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM user_nickname_gram WHERE user_id = ?", Integer.class, userId);
+        assertThat(grams).isEqualTo(UserNicknameIndexService.grams(nickname).size());
+    }
+
+    private long insertUser(String nickname) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    "INSERT INTO users (email, password, nickname, user_role, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)",
+                    new String[]{"id"});
+            ps.setString(1, nickname + "@test.com");
+            ps.setString(2, "password");
+            ps.setString(3, nickname);
+            ps.setString(4, "USER");
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+}